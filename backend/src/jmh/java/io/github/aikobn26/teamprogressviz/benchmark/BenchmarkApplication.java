@@ -0,0 +1,112 @@
+package io.github.aikobn26.teamprogressviz.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+
+import io.github.aikobn26.teamprogressviz.TeamProgressVizApplication;
+import io.github.aikobn26.teamprogressviz.shared.concurrency.DatabaseConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Contexts for benchmarks, each against a fresh in-memory H2 database in PostgreSQL mode unless
+ * {@code -Dbenchmark.datasource.url} (with {@code .username} and {@code .password}) names another database. {@link #start} boots a
+ * minimal non-web context with only the components a benchmark asks for, the same way service tests import them;
+ * {@link #startApplication} boots the whole application.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@AutoConfigurationPackage(basePackages = "io.github.aikobn26.teamprogressviz")
+public class BenchmarkApplication {
+
+    @Bean
+    DatabaseConcurrencyLimiter databaseConcurrencyLimiter() {
+        return new DatabaseConcurrencyLimiter(4);
+    }
+
+    @Bean
+    MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    public static ConfigurableApplicationContext start(Map<String, Object> properties, Class<?>... components) {
+        Class<?>[] sources = new Class<?>[components.length + 1];
+        sources[0] = BenchmarkApplication.class;
+        System.arraycopy(components, 0, sources, 1, components.length);
+        return new SpringApplicationBuilder(sources)
+                .web(WebApplicationType.NONE)
+                .run(arguments(properties));
+    }
+
+    /**
+     * Starts the whole application, including the web server on a random port, for end-to-end load tests.
+     */
+    public static ConfigurableApplicationContext startApplication(Map<String, Object> properties) {
+        Map<String, Object> withPort = new LinkedHashMap<>();
+        withPort.put("server.port", 0);
+        withPort.putAll(properties);
+        return new SpringApplicationBuilder(TeamProgressVizApplication.class)
+                .initializers(context -> context.getBeanFactory()
+                        .registerSingleton("benchmarkTypeExcludeFilter", new BenchmarkTypeExcludeFilter()))
+                .run(arguments(withPort));
+    }
+
+    /**
+     * Keeps component scanning of the application away from benchmark and test configuration on the classpath.
+     */
+    private static final class BenchmarkTypeExcludeFilter extends TypeExcludeFilter {
+
+        @Override
+        public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+            String className = metadataReader.getClassMetadata().getClassName();
+            return className.startsWith(BenchmarkApplication.class.getPackageName() + ".")
+                    || metadataReader.getAnnotationMetadata().hasAnnotation(TestConfiguration.class.getName());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other != null && getClass() == other.getClass();
+        }
+
+        @Override
+        public int hashCode() {
+            return getClass().hashCode();
+        }
+    }
+
+    // Passed as command-line arguments so they win over application.properties from the test resources.
+    private static String[] arguments(Map<String, Object> properties) {
+        Map<String, Object> arguments = new LinkedHashMap<>();
+        String datasourceUrl = System.getProperty("benchmark.datasource.url");
+        if (datasourceUrl != null) {
+            // An external database, such as a scratch PostgreSQL, gets schema.sql applied and is shared by every context.
+            arguments.put("spring.datasource.url", datasourceUrl);
+            arguments.put("spring.datasource.username", System.getProperty("benchmark.datasource.username", ""));
+            arguments.put("spring.datasource.password", System.getProperty("benchmark.datasource.password", ""));
+            arguments.put("spring.sql.init.mode", "always");
+        } else {
+            // Each context gets its own database so state never leaks between benchmarks.
+            arguments.put("spring.datasource.url", "jdbc:h2:mem:benchmark-" + System.nanoTime()
+                    + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=PostgreSQL");
+        }
+        arguments.put("spring.jpa.properties.hibernate.jdbc.batch_size", 50);
+        arguments.put("spring.jpa.properties.hibernate.order_updates", true);
+        arguments.put("logging.level.root", "WARN");
+        arguments.putAll(properties);
+        return arguments.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+    }
+}
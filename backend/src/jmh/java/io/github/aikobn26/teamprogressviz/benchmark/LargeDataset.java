@@ -0,0 +1,267 @@
+package io.github.aikobn26.teamprogressviz.benchmark;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.ActivityDaily;
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.Comment;
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.DailyStatus;
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.Organization;
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.UserOrganization;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.ActivityDailyRepository;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.CommentRepository;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.DailyStatusRepository;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.OrganizationRepository;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.UserOrganizationRepository;
+import io.github.aikobn26.teamprogressviz.feature.repository.entity.CommitFile;
+import io.github.aikobn26.teamprogressviz.feature.repository.entity.GitCommit;
+import io.github.aikobn26.teamprogressviz.feature.repository.entity.PullRequest;
+import io.github.aikobn26.teamprogressviz.feature.repository.entity.PullRequestFile;
+import io.github.aikobn26.teamprogressviz.feature.repository.entity.Repository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.CommitFileRepository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.GitCommitRepository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.PullRequestFileRepository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.PullRequestRepository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.RepositoryRepository;
+import io.github.aikobn26.teamprogressviz.feature.user.entity.User;
+import io.github.aikobn26.teamprogressviz.feature.user.repository.UserRepository;
+
+/**
+ * Seeds one organization with a realistic volume of synced data through the application's own entities and
+ * repositories, so the rows look exactly like those sync writes. Each repository is written in its own transaction to
+ * keep the persistence context small; a million commits fit in a default heap.
+ * <p>
+ * Members are looked up by GitHub id before being created and every organization and repository gets fresh GitHub
+ * ids, so seeding again into a database that already holds a dataset, such as a scratch PostgreSQL, works.
+ */
+public final class LargeDataset {
+
+    private static final String[] EXTENSIONS = {"java", "ts", "tsx", "sql", "md", "yml"};
+    private static final int COMMENTS = 200;
+
+    private LargeDataset() {
+    }
+
+    /**
+     * @param members          organization members; the first one is {@code firstMemberGithubId}/{@code firstMemberLogin}
+     * @param repositories     repositories in the organization
+     * @param commits          commits across all repositories, one every few minutes back from {@code end}
+     * @param filesPerItem     files per commit and per pull request
+     * @param pullRequests     pull requests across all repositories
+     * @param days             days of activity and statuses per member, ending with {@code end}
+     */
+    public record Shape(int members,
+                        int repositories,
+                        int commits,
+                        int filesPerItem,
+                        int pullRequests,
+                        int days,
+                        LocalDate end,
+                        long firstMemberGithubId,
+                        String firstMemberLogin) {
+    }
+
+    public record Seeded(Long organizationId, long rows) {
+    }
+
+    public static Seeded seed(ApplicationContext context, Shape shape) {
+        var transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        var organizationRepository = context.getBean(OrganizationRepository.class);
+        long run = System.currentTimeMillis();
+        Organization organization = organizationRepository.save(Organization.builder()
+                .githubId(run)
+                .login("large-org-" + run)
+                .name("Large dataset")
+                .build());
+
+        List<User> members = transactionTemplate.execute(status -> seedMembers(context, shape, organization));
+        long rows = 1 + members.size() * 2L;
+        rows += transactionTemplate.execute(status -> seedDays(context, shape, organization, members));
+
+        var repositoryRepository = context.getBean(RepositoryRepository.class);
+        for (int r = 0; r < shape.repositories(); r++) {
+            int index = r;
+            rows += transactionTemplate.execute(status -> {
+                Repository repository = repositoryRepository.save(Repository.builder()
+                        .githubId(run * 10_000L + index)
+                        .organization(organization)
+                        .ownerLogin(organization.getLogin())
+                        .name("repo-" + index)
+                        .fullName(organization.getLogin() + "/repo-" + index)
+                        .language(index % 2 == 0 ? "Java" : "TypeScript")
+                        .defaultBranch("main")
+                        .build());
+                return 1 + seedCommits(context, shape, repository, index, members)
+                        + seedPullRequests(context, shape, repository, index, members);
+            });
+        }
+        return new Seeded(organization.getId(), rows);
+    }
+
+    private static List<User> seedMembers(ApplicationContext context, Shape shape, Organization organization) {
+        var userRepository = context.getBean(UserRepository.class);
+        List<User> members = new ArrayList<>(shape.members());
+        for (int i = 0; i < shape.members(); i++) {
+            long githubId = shape.firstMemberGithubId() + i;
+            String login = i == 0 ? shape.firstMemberLogin() : "large-member-" + githubId;
+            members.add(userRepository.findByGithubId(githubId)
+                    .orElseGet(() -> userRepository.save(User.builder().githubId(githubId).login(login).build())));
+        }
+        List<UserOrganization> memberships = new ArrayList<>(members.size());
+        for (User member : members) {
+            memberships.add(UserOrganization.builder()
+                    .user(member)
+                    .organization(organization)
+                    .role("member")
+                    .build());
+        }
+        context.getBean(UserOrganizationRepository.class).saveAll(memberships);
+        return members;
+    }
+
+    private static long seedDays(ApplicationContext context, Shape shape, Organization organization, List<User> members) {
+        List<ActivityDaily> dailies = new ArrayList<>(members.size() * shape.days());
+        List<DailyStatus> statuses = new ArrayList<>(members.size() * shape.days());
+        for (int m = 0; m < members.size(); m++) {
+            User member = members.get(m);
+            for (int day = 0; day < shape.days(); day++) {
+                int seed = m + day;
+                LocalDate date = shape.end().minusDays(day);
+                dailies.add(ActivityDaily.builder()
+                        .organization(organization)
+                        .user(member)
+                        .date(date)
+                        .commitCount(seed % 5)
+                        .filesChanged(seed % 7)
+                        .additions(seed % 50)
+                        .deletions(seed % 20)
+                        .availableMinutes(seed % 3 == 0 ? 0 : 240)
+                        .build());
+                statuses.add(DailyStatus.builder()
+                        .organization(organization)
+                        .user(member)
+                        .date(date)
+                        .availableMinutes(seed % 3 == 0 ? 0 : 240)
+                        .statusType(seed % 3 == 0 ? "off" : "working")
+                        .statusMessage("Status " + day)
+                        .build());
+            }
+        }
+        context.getBean(ActivityDailyRepository.class).saveAll(dailies);
+        context.getBean(DailyStatusRepository.class).saveAll(statuses);
+
+        List<Comment> comments = new ArrayList<>(COMMENTS);
+        for (int i = 0; i < COMMENTS; i++) {
+            comments.add(Comment.builder()
+                    .organization(organization)
+                    .user(members.get(i % members.size()))
+                    .targetType("organization")
+                    .targetId(organization.getId())
+                    .content("Comment " + i)
+                    .build());
+        }
+        context.getBean(CommentRepository.class).saveAll(comments);
+        return dailies.size() + statuses.size() + comments.size();
+    }
+
+    private static long seedCommits(ApplicationContext context, Shape shape, Repository repository, int index,
+                                    List<User> members) {
+        int count = share(shape.commits(), shape.repositories(), index);
+        OffsetDateTime newest = shape.end().atTime(18, 0).atOffset(ZoneOffset.UTC);
+        // Spread evenly over the dataset's days so date-ranged reads see history, not one burst.
+        long minutesApart = Math.max(1, shape.days() * 24L * 60L * shape.repositories() / Math.max(1, shape.commits()));
+        List<GitCommit> commits = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User author = members.get((index + i) % members.size());
+            commits.add(GitCommit.builder()
+                    .repository(repository)
+                    .sha(String.format("%016x%024x", repository.getGithubId(), i))
+                    .message("Commit " + i + " in " + repository.getName())
+                    .authorName(author.getLogin())
+                    .authorEmail(author.getLogin() + "@example.com")
+                    .author(author)
+                    .committerName(author.getLogin())
+                    .committerEmail(author.getLogin() + "@example.com")
+                    .committedAt(newest.minusMinutes(i * minutesApart + index))
+                    .build());
+        }
+        context.getBean(GitCommitRepository.class).saveAll(commits);
+
+        List<CommitFile> files = new ArrayList<>(count * shape.filesPerItem());
+        for (int i = 0; i < count; i++) {
+            for (int f = 0; f < shape.filesPerItem(); f++) {
+                String extension = EXTENSIONS[(i + f) % EXTENSIONS.length];
+                files.add(CommitFile.builder()
+                        .commit(commits.get(i))
+                        .path("src/file" + f + "." + extension)
+                        .filename("file" + f + "." + extension)
+                        .extension(extension)
+                        .status("modified")
+                        .additions(10)
+                        .deletions(2)
+                        .changes(12)
+                        .build());
+            }
+        }
+        context.getBean(CommitFileRepository.class).saveAll(files);
+        return commits.size() + files.size();
+    }
+
+    private static long seedPullRequests(ApplicationContext context, Shape shape, Repository repository, int index,
+                                         List<User> members) {
+        int count = share(shape.pullRequests(), shape.repositories(), index);
+        OffsetDateTime newest = shape.end().atTime(18, 0).atOffset(ZoneOffset.UTC);
+        List<PullRequest> pullRequests = new ArrayList<>(count);
+        for (int number = 1; number <= count; number++) {
+            boolean merged = number % 3 == 0;
+            OffsetDateTime updatedAt = newest.minusHours(number);
+            pullRequests.add(PullRequest.builder()
+                    .repository(repository)
+                    .number(number)
+                    .githubId(repository.getId() * 1_000_000L + number)
+                    .title("Pull request " + number)
+                    .state(merged ? "closed" : "open")
+                    .merged(merged)
+                    .author(members.get((index + number) % members.size()))
+                    .mergedBy(merged ? members.get(0) : null)
+                    .additions(10 * shape.filesPerItem())
+                    .deletions(2 * shape.filesPerItem())
+                    .changedFiles(shape.filesPerItem())
+                    .createdAt(updatedAt.minusDays(1))
+                    .updatedAt(updatedAt)
+                    .mergedAt(merged ? updatedAt : null)
+                    .closedAt(merged ? updatedAt : null)
+                    .build());
+        }
+        context.getBean(PullRequestRepository.class).saveAll(pullRequests);
+
+        List<PullRequestFile> files = new ArrayList<>(count * shape.filesPerItem());
+        for (PullRequest pullRequest : pullRequests) {
+            for (int f = 0; f < shape.filesPerItem(); f++) {
+                String extension = EXTENSIONS[f % EXTENSIONS.length];
+                files.add(PullRequestFile.builder()
+                        .pullRequest(pullRequest)
+                        .path("src/file" + f + "." + extension)
+                        .extension(extension)
+                        .additions(10)
+                        .deletions(2)
+                        .changes(12)
+                        .build());
+            }
+        }
+        context.getBean(PullRequestFileRepository.class).saveAll(files);
+        return pullRequests.size() + files.size();
+    }
+
+    // Splits total across parts so the shares add up to total exactly.
+    private static int share(int total, int parts, int index) {
+        return total / parts + (index < total % parts ? 1 : 0);
+    }
+}
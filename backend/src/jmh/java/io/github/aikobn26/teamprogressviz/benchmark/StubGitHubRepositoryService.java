@@ -0,0 +1,96 @@
+package io.github.aikobn26.teamprogressviz.benchmark;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubRepositoryService;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubResponseCache;
+
+/**
+ * Serves a fixed, generated repository instead of calling GitHub, so benchmarks measure only the application's own
+ * work. Every repository gets the same pull requests and commits; details and file lists are built once up front.
+ */
+public class StubGitHubRepositoryService extends GitHubRepositoryService {
+
+    private static final OffsetDateTime BASE_TIME = OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final String[] EXTENSIONS = {"java", "ts", "tsx", "sql", "md"};
+
+    private final List<GitHubSimpleUser> authors = new ArrayList<>();
+    private final List<GitHubPullRequestSummary> pullRequestSummaries = new ArrayList<>();
+    private final List<GitHubPullRequest> pullRequests = new ArrayList<>();
+    private final List<GitHubCommit> commits = new ArrayList<>();
+    private final List<GitHubPullRequestFile> pullRequestFiles = new ArrayList<>();
+    private final List<GitHubCommitFile> commitFiles = new ArrayList<>();
+    private final Map<String, GitHubCommitDetail> commitDetails = new HashMap<>();
+
+    public StubGitHubRepositoryService(int pullRequestCount, int commitCount, int filesPerItem, int authorCount) {
+        super(null, null, GitHubResponseCache.disabled());
+        for (int i = 0; i < authorCount; i++) {
+            authors.add(new GitHubSimpleUser(10_000L + i, "member-" + i, null, null));
+        }
+        for (int i = 0; i < filesPerItem; i++) {
+            String extension = EXTENSIONS[i % EXTENSIONS.length];
+            pullRequestFiles.add(new GitHubPullRequestFile("src/file" + i + "." + extension, 10, 2, 12, null));
+            commitFiles.add(new GitHubCommitFile("src/file" + i + "." + extension, "modified", 10, 2, 12, null));
+        }
+        for (int i = 0; i < pullRequestCount; i++) {
+            int number = i + 1;
+            OffsetDateTime createdAt = BASE_TIME.plusHours(i);
+            GitHubSimpleUser author = author(i);
+            pullRequestSummaries.add(new GitHubPullRequestSummary(100_000L + i, number, createdAt));
+            pullRequests.add(new GitHubPullRequest(100_000L + i, number, "Pull request " + number, "body", "open", false,
+                    "https://github.com/bench/repo/pull/" + number, author, null, 10, 2, filesPerItem,
+                    createdAt, createdAt, null, null));
+        }
+        for (int i = 0; i < commitCount; i++) {
+            String sha = String.format("%040x", i + 1);
+            OffsetDateTime committedAt = BASE_TIME.plusMinutes(i);
+            GitHubSimpleUser author = author(i);
+            String name = author != null ? author.login() : "member";
+            GitHubCommit commit = new GitHubCommit(sha, "commit " + i, "https://github.com/bench/repo/commit/" + sha,
+                    name, name + "@example.com", committedAt, name, name + "@example.com", committedAt, author);
+            commits.add(commit);
+            commitDetails.put(sha, new GitHubCommitDetail(commit, commitFiles));
+        }
+    }
+
+    @Override
+    public List<GitHubPullRequestSummary> listPullRequestSummaries(String accessToken, String owner, String repository,
+                                                                    int perPage) {
+        return pullRequestSummaries;
+    }
+
+    @Override
+    public Optional<GitHubPullRequest> getPullRequest(String accessToken, String owner, String repository, int number) {
+        if (number < 1 || number > pullRequests.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(pullRequests.get(number - 1));
+    }
+
+    @Override
+    public List<GitHubPullRequestFile> listPullRequestFiles(String accessToken, String owner, String repository,
+                                                            int number, int perPage) {
+        return pullRequestFiles;
+    }
+
+    @Override
+    public List<GitHubCommit> listCommits(String accessToken, String owner, String repository, int perPage,
+                                          OffsetDateTime since) {
+        return commits;
+    }
+
+    @Override
+    public Optional<GitHubCommitDetail> getCommit(String accessToken, String owner, String repository, String sha) {
+        return Optional.ofNullable(commitDetails.get(sha));
+    }
+
+    private GitHubSimpleUser author(int index) {
+        return authors.isEmpty() ? null : authors.get(index % authors.size());
+    }
+}
@@ -0,0 +1,180 @@
+package io.github.aikobn26.teamprogressviz.feature.organization.controller;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.aikobn26.teamprogressviz.benchmark.BenchmarkApplication;
+import io.github.aikobn26.teamprogressviz.benchmark.LargeDataset;
+import io.github.aikobn26.teamprogressviz.github.simulator.GitHubApiSimulator;
+import io.github.aikobn26.teamprogressviz.shared.persistence.SqlStatementCounter;
+
+/**
+ * HTTP load test of the read endpoints the frontend polls, against an organization seeded by {@link LargeDataset}.
+ * The whole application runs on a random port and a JDK {@link HttpClient} logs in through the real OAuth callback,
+ * with {@link GitHubApiSimulator} standing in for GitHub, then requests {@code endpoint} with the session cookie.
+ * <p>
+ * Sample-time mode reports p50/p90/p95/p99 latency per endpoint; raise concurrency with {@code -t}. After every
+ * iteration the average number of SQL statements per request is printed, from {@link SqlStatementCounter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class ReadEndpointBenchmark {
+
+    private static final long LOGIN_GITHUB_ID = 5_000_000L;
+    private static final String LOGIN = "sim-user-0";
+
+    @Param({"organization", "dashboard", "activitySummary", "commitFeed", "pullRequestFeed"})
+    public String endpoint;
+
+    @Param({"50"})
+    public int members;
+
+    @Param({"50"})
+    public int repositories;
+
+    @Param({"100000"})
+    public int commits;
+
+    @Param({"10000"})
+    public int pullRequests;
+
+    @Param({"3"})
+    public int filesPerItem;
+
+    @Param({"365"})
+    public int days;
+
+    private GitHubApiSimulator simulator;
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI uri;
+    private final LongAdder requests = new LongAdder();
+    private long statementsBefore;
+
+    @Setup(Level.Trial)
+    public void startApplication() throws IOException, InterruptedException {
+        simulator = GitHubApiSimulator.start(new GitHubApiSimulator.Settings());
+        String github = simulator.baseUrl().toString();
+
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("github.api.base-url", github);
+        properties.put("github.oauth.client-id", "benchmark");
+        properties.put("github.oauth.client-secret", "benchmark");
+        properties.put("github.oauth.authorize-url", github + "/login/oauth/authorize");
+        properties.put("github.oauth.token-url", github + "/login/oauth/access_token");
+        properties.put("github.oauth.user-url", github + "/user");
+        context = BenchmarkApplication.startApplication(properties);
+
+        LocalDate today = LocalDate.now();
+        long startedAt = System.nanoTime();
+        LargeDataset.Seeded seeded = LargeDataset.seed(context, new LargeDataset.Shape(
+                members, repositories, commits, filesPerItem, pullRequests, days, today, LOGIN_GITHUB_ID, LOGIN));
+        System.out.printf("%n  seeded %d rows in %.1f s%n", seeded.rows(), (System.nanoTime() - startedAt) / 1e9);
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        URI base = URI.create("http://localhost:" + port);
+        client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        logIn(base);
+        uri = endpointUri(base, seeded.organizationId(), today);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        requests.reset();
+        statementsBefore = SqlStatementCounter.total();
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        long count = requests.sum();
+        long statements = SqlStatementCounter.total() - statementsBefore;
+        System.out.printf("%n  %d requests, %.1f SQL statements/request%n",
+                count, count == 0 ? 0.0 : (double) statements / count);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+        simulator.close();
+    }
+
+    @Benchmark
+    public int request() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(uri + " answered " + response.statusCode());
+        }
+        requests.increment();
+        return response.body().length;
+    }
+
+    // The same path the browser takes: the state comes from the login endpoint, the code is made up.
+    private void logIn(URI base) throws IOException, InterruptedException {
+        HttpResponse<String> login = client.send(HttpRequest.newBuilder(base.resolve("/api/auth/github/login")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        String authorizationUrl = new ObjectMapper().readTree(login.body()).get("authorizationUrl").asText();
+        String state = UriComponentsBuilder.fromUriString(authorizationUrl).build().getQueryParams().getFirst("state");
+
+        HttpResponse<Void> callback = client.send(HttpRequest.newBuilder(base.resolve(
+                        "/api/auth/github/callback?code=benchmark&state=" + URLEncoder.encode(state, StandardCharsets.UTF_8)))
+                .build(), HttpResponse.BodyHandlers.discarding());
+        String location = callback.headers().firstValue("Location").orElse("");
+        if (!location.contains("status=success")) {
+            throw new IllegalStateException("Login failed: " + callback.statusCode() + " " + location);
+        }
+    }
+
+    private URI endpointUri(URI base, Long organizationId, LocalDate today) {
+        String organization = "/api/organizations/" + organizationId;
+        String path = switch (endpoint) {
+            case "organization" -> organization;
+            case "dashboard" -> organization + "/dashboard";
+            case "activitySummary" -> organization + "/activity/summary?startDate=" + today.minusDays(days - 1)
+                    + "&endDate=" + today + "&groupBy=user";
+            case "commitFeed" -> organization + "/git-commit/feed";
+            case "pullRequestFeed" -> organization + "/pulls/feed";
+            default -> throw new IllegalArgumentException("Unknown endpoint " + endpoint);
+        };
+        return base.resolve(path);
+    }
+}
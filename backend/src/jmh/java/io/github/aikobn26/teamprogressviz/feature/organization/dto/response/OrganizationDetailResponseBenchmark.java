@@ -0,0 +1,97 @@
+package io.github.aikobn26.teamprogressviz.feature.organization.dto.response;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.Organization;
+import io.github.aikobn26.teamprogressviz.feature.organization.service.OrganizationService.ActivitySummary;
+import io.github.aikobn26.teamprogressviz.feature.organization.service.OrganizationService.CommentDetail;
+import io.github.aikobn26.teamprogressviz.feature.organization.service.OrganizationService.CommitDetail;
+import io.github.aikobn26.teamprogressviz.feature.organization.service.OrganizationService.MemberDetail;
+import io.github.aikobn26.teamprogressviz.feature.organization.service.OrganizationService.OrganizationDetail;
+import io.github.aikobn26.teamprogressviz.feature.organization.service.OrganizationService.PullRequestDetail;
+import io.github.aikobn26.teamprogressviz.feature.organization.service.OrganizationService.PullRequestSummary;
+import io.github.aikobn26.teamprogressviz.feature.organization.service.OrganizationService.SimpleUser;
+import io.github.aikobn26.teamprogressviz.feature.repository.entity.Repository;
+
+/**
+ * {@link OrganizationDetailResponse#from} for an organization with {@code size} members, repositories and recent
+ * pull requests, commits and comments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrganizationDetailResponseBenchmark {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2025, 6, 30, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private OrganizationDetail detail;
+
+    @Setup(Level.Trial)
+    public void createDetail() {
+        Organization organization = Organization.builder()
+                .id(1L)
+                .githubId(1L)
+                .login("bench")
+                .name("Bench")
+                .build();
+
+        List<MemberDetail> members = new ArrayList<>(size);
+        List<Repository> repositories = new ArrayList<>(size);
+        List<PullRequestDetail> pullRequests = new ArrayList<>(size);
+        List<CommitDetail> commits = new ArrayList<>(size);
+        List<CommentDetail> comments = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long id = i + 1;
+            SimpleUser user = new SimpleUser(id, 10_000L + i, "member-" + i, "Member " + i, null);
+            members.add(new MemberDetail(id, 10_000L + i, "member-" + i, "Member " + i, null, "member"));
+            repositories.add(Repository.builder()
+                    .id(id)
+                    .githubId(20_000L + i)
+                    .organization(organization)
+                    .name("repo-" + i)
+                    .fullName("bench/repo-" + i)
+                    .language("Java")
+                    .stargazersCount(i)
+                    .forksCount(i)
+                    .updatedAt(NOW)
+                    .build());
+            pullRequests.add(new PullRequestDetail(id, i + 1, id, "bench/repo-" + i, "Pull request " + i, "open",
+                    false, "https://github.com/bench/repo/pull/" + i, user, null, 10, 2, 3, NOW, NOW, null, null));
+            commits.add(new CommitDetail(id, String.format("%040x", id), "commit " + i, id, "bench/repo-" + i,
+                    "https://github.com/bench/repo/commit/" + i, user.login(), user.login(), NOW, NOW));
+            comments.add(new CommentDetail(id, user, "pull_request", id, null, "comment " + i, NOW, NOW));
+        }
+        detail = new OrganizationDetail(organization, members, repositories,
+                new ActivitySummary(size * 10L, size * 100L, size * 20L, size),
+                new PullRequestSummary(size, size / 2, size / 4),
+                pullRequests, commits, comments);
+    }
+
+    @Benchmark
+    public OrganizationDetailResponse from() {
+        return OrganizationDetailResponse.from(detail);
+    }
+}
@@ -0,0 +1,175 @@
+package io.github.aikobn26.teamprogressviz.feature.organization.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+import io.github.aikobn26.teamprogressviz.benchmark.BenchmarkApplication;
+import io.github.aikobn26.teamprogressviz.feature.organization.dto.response.ActivitySummaryItemResponse;
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.ActivityDaily;
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.Organization;
+import io.github.aikobn26.teamprogressviz.feature.organization.properties.OrganizationSyncProperties;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.ActivityDailyRepository;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.OrganizationRepository;
+import io.github.aikobn26.teamprogressviz.feature.repository.entity.CommitFile;
+import io.github.aikobn26.teamprogressviz.feature.repository.entity.GitCommit;
+import io.github.aikobn26.teamprogressviz.feature.repository.entity.Repository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.CommitFileRepository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.GitCommitRepository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.RepositoryRepository;
+import io.github.aikobn26.teamprogressviz.feature.user.entity.User;
+import io.github.aikobn26.teamprogressviz.feature.user.repository.UserRepository;
+
+/**
+ * {@link ActivityService#summarize} over a year of {@code ActivityDaily} rows per member, plus commits with files for
+ * the repository and extension groupings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActivityServiceBenchmark {
+
+    private static final LocalDate END = LocalDate.of(2025, 12, 31);
+    private static final int DAYS = 365;
+    private static final int REPOSITORIES = 10;
+    private static final int COMMITS_PER_DAY = 4;
+    private static final String[] EXTENSIONS = {"java", "ts", "tsx", "sql", "md"};
+
+    @Param({"10", "50"})
+    public int members;
+
+    @Param({"user", "repository", "day", "week", "extension"})
+    public String groupBy;
+
+    private ConfigurableApplicationContext context;
+    private ActivityService activityService;
+    private Organization organization;
+    private User user;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = BenchmarkApplication.start(Map.of(), ActivityService.class, MockConfig.class);
+        activityService = context.getBean(ActivityService.class);
+
+        organization = context.getBean(OrganizationRepository.class).save(Organization.builder()
+                .githubId(1L)
+                .login("bench")
+                .build());
+        OrganizationService organizationService = context.getBean(OrganizationService.class);
+        when(organizationService.getAccessibleOrganization(any(), anyLong())).thenReturn(organization);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < members; i++) {
+            users.add(User.builder().githubId(10_000L + i).login("member-" + i).build());
+        }
+        users = context.getBean(UserRepository.class).saveAll(users);
+        user = users.get(0);
+
+        List<ActivityDaily> dailies = new ArrayList<>(members * DAYS);
+        for (User member : users) {
+            for (int day = 0; day < DAYS; day++) {
+                dailies.add(ActivityDaily.builder()
+                        .organization(organization)
+                        .user(member)
+                        .date(END.minusDays(day))
+                        .commitCount(day % 5)
+                        .filesChanged(day % 7)
+                        .additions(day % 50)
+                        .deletions(day % 20)
+                        .availableMinutes(day % 3 == 0 ? 0 : 240)
+                        .build());
+            }
+        }
+        context.getBean(ActivityDailyRepository.class).saveAll(dailies);
+
+        List<Repository> repositories = new ArrayList<>();
+        for (int i = 0; i < REPOSITORIES; i++) {
+            repositories.add(Repository.builder()
+                    .githubId(20_000L + i)
+                    .organization(organization)
+                    .name("repo-" + i)
+                    .fullName("bench/repo-" + i)
+                    .build());
+        }
+        repositories = context.getBean(RepositoryRepository.class).saveAll(repositories);
+
+        List<GitCommit> commits = new ArrayList<>(DAYS * COMMITS_PER_DAY);
+        for (int day = 0; day < DAYS; day++) {
+            for (int i = 0; i < COMMITS_PER_DAY; i++) {
+                commits.add(GitCommit.builder()
+                        .repository(repositories.get((day + i) % REPOSITORIES))
+                        .sha(String.format("%040x", (long) day * COMMITS_PER_DAY + i + 1))
+                        .committedAt(END.minusDays(day).atTime(9 + i, 0).atOffset(ZoneOffset.UTC))
+                        .build());
+            }
+        }
+        commits = context.getBean(GitCommitRepository.class).saveAll(commits);
+
+        List<CommitFile> files = new ArrayList<>(commits.size() * 3);
+        for (int i = 0; i < commits.size(); i++) {
+            for (int f = 0; f < 3; f++) {
+                String extension = EXTENSIONS[(i + f) % EXTENSIONS.length];
+                files.add(CommitFile.builder()
+                        .commit(commits.get(i))
+                        .path("src/file" + f + "." + extension)
+                        .extension(extension)
+                        .additions(10)
+                        .deletions(2)
+                        .build());
+            }
+        }
+        context.getBean(CommitFileRepository.class).saveAll(files);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ActivitySummaryItemResponse> summarize() {
+        return activityService.summarize(user, organization.getId(), END.minusDays(DAYS - 1), END, groupBy);
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class MockConfig {
+
+        @Bean
+        OrganizationService organizationService() {
+            return Mockito.mock(OrganizationService.class);
+        }
+
+        @Bean
+        OrganizationSyncProperties organizationSyncProperties() {
+            return new OrganizationSyncProperties();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.aikobn26.teamprogressviz.feature.organization.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import io.github.aikobn26.teamprogressviz.benchmark.BenchmarkApplication;
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobProfile;
+import io.github.aikobn26.teamprogressviz.github.simulator.GitHubApiSimulator;
+
+/**
+ * End-to-end load test of {@link OrganizationService#synchronizeOrganization}: the whole application runs against
+ * {@link GitHubApiSimulator}, so the real WebClient, retry filter, key locks, database permits and persistence are
+ * all on the path. Each iteration syncs a fresh organization from scratch. After every iteration the repository
+ * throughput, the GitHub requests made, quota left and injected faults are printed along with the sync's phases.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class OrganizationSyncBenchmark {
+
+    private static final String TOKEN = "benchmark-token";
+
+    @Param({"100", "1000"})
+    public int repositories;
+
+    @Param({"20"})
+    public int commits;
+
+    @Param({"5"})
+    public int pullRequests;
+
+    @Param({"4"})
+    public int repositoryConcurrency;
+
+    @Param({"20"})
+    public int latencyMillis;
+
+    @Param({"0.0"})
+    public double faultRate;
+
+    @Param({"1000000"})
+    public int rateLimit;
+
+    private GitHubApiSimulator simulator;
+    private ConfigurableApplicationContext context;
+    private OrganizationService organizationService;
+    private int iteration;
+    private Long organizationId;
+    private JobProfile profile;
+    private GitHubApiSimulator.Stats statsBefore;
+    private long startedAt;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        simulator = GitHubApiSimulator.start(new GitHubApiSimulator.Settings()
+                .repositories(repositories)
+                .members(20)
+                .pullRequests(pullRequests)
+                .commits(commits)
+                .filesPerItem(5)
+                .latency(Duration.ofMillis(latencyMillis), Duration.ofMillis(latencyMillis / 2))
+                .faultRate(faultRate)
+                .rateLimit(rateLimit, Duration.ofHours(1)));
+
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("github.api.base-url", simulator.baseUrl().toString());
+        properties.put("github.api.retry.initial-backoff", "50ms");
+        properties.put("github.api.retry.max-backoff", "500ms");
+        properties.put("organization.sync.fetch-commit-details", true);
+        properties.put("organization.sync.fetch-pull-request-details", true);
+        properties.put("organization.sync.repository-concurrency", repositoryConcurrency);
+        context = BenchmarkApplication.startApplication(properties);
+        organizationService = context.getBean(OrganizationService.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void registerOrganization() {
+        iteration++;
+        organizationId = organizationService
+                .ensureOrganizationExists("load-org-" + iteration, null, TOKEN)
+                .organization()
+                .getId();
+        profile = new JobProfile();
+        statsBefore = simulator.stats();
+        startedAt = System.nanoTime();
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        GitHubApiSimulator.Stats stats = simulator.stats();
+        System.out.printf("%n  %d repositories in %.1f s (%.1f repositories/s), %d GitHub requests, "
+                        + "%d faults, %d rate limited, quota left %d%n",
+                repositories, seconds, repositories / seconds,
+                stats.requests() - statsBefore.requests(), stats.faults() - statsBefore.faults(),
+                stats.rateLimited() - statsBefore.rateLimited(), simulator.remainingQuota(TOKEN));
+        JobProfile.Snapshot snapshot = profile.snapshot();
+        if (snapshot != null) {
+            snapshot.phases().forEach(phase ->
+                    System.out.printf("  phase %s: %d ms, %d SQL statements%n",
+                            phase.name(), phase.durationMillis(), phase.statements()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+        simulator.close();
+    }
+
+    @Benchmark
+    public OrganizationService.OrganizationSyncResult synchronizeOrganization() {
+        return organizationService.synchronizeOrganization(organizationId, TOKEN, progress -> { }, profile);
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.aikobn26.teamprogressviz.feature.organization.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.aikobn26.teamprogressviz.benchmark.BenchmarkApplication;
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.DailyStatus;
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.Organization;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.DailyStatusRepository;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.OrganizationRepository;
+import io.github.aikobn26.teamprogressviz.feature.user.entity.User;
+import io.github.aikobn26.teamprogressviz.feature.user.repository.UserRepository;
+
+/**
+ * {@link StatusService#calculateStreak} for a member who posted a status on each of the last {@code streakDays}
+ * days, run inside one read-only transaction as it is when called from {@code upsertStatus}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatusServiceBenchmark {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 30);
+
+    @Param({"1", "7", "60"})
+    public int streakDays;
+
+    private ConfigurableApplicationContext context;
+    private StatusService statusService;
+    private TransactionTemplate transactionTemplate;
+    private Long organizationId;
+    private Long userId;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = BenchmarkApplication.start(Map.of(), StatusService.class, MockConfig.class);
+        // The benchmark calls the package-private method on the target, not on the transactional proxy.
+        statusService = AopTestUtils.getUltimateTargetObject(context.getBean(StatusService.class));
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+
+        Organization organization = context.getBean(OrganizationRepository.class).save(Organization.builder()
+                .githubId(1L)
+                .login("bench")
+                .build());
+        User user = context.getBean(UserRepository.class).save(User.builder()
+                .githubId(10_000L)
+                .login("member")
+                .build());
+        organizationId = organization.getId();
+        userId = user.getId();
+
+        List<DailyStatus> statuses = new ArrayList<>(streakDays);
+        for (int day = 0; day < streakDays; day++) {
+            statuses.add(DailyStatus.builder()
+                    .organization(organization)
+                    .user(user)
+                    .date(TODAY.minusDays(day))
+                    .availableMinutes(240)
+                    .statusType("working")
+                    .build());
+        }
+        context.getBean(DailyStatusRepository.class).saveAll(statuses);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public Integer calculateStreak() {
+        return transactionTemplate.execute(status -> statusService.calculateStreak(organizationId, userId, TODAY));
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class MockConfig {
+
+        @Bean
+        OrganizationService organizationService() {
+            return Mockito.mock(OrganizationService.class);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.aikobn26.teamprogressviz.feature.repository.service;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.github.aikobn26.teamprogressviz.benchmark.BenchmarkApplication;
+import io.github.aikobn26.teamprogressviz.benchmark.StubGitHubRepositoryService;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubRepositoryService;
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.Organization;
+import io.github.aikobn26.teamprogressviz.feature.organization.properties.OrganizationSyncProperties;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.ActivityBucketRepository;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.OrganizationRepository;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.RepositorySyncStatusRepository;
+import io.github.aikobn26.teamprogressviz.feature.organization.service.ActivityBucketService;
+import io.github.aikobn26.teamprogressviz.feature.organization.service.RepositorySyncStatusService;
+import io.github.aikobn26.teamprogressviz.feature.repository.entity.Repository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.CommitFileRepository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.GitCommitRepository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.PullRequestFileRepository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.PullRequestRepository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.RepositoryRepository;
+import io.github.aikobn26.teamprogressviz.feature.user.service.UserService;
+import io.github.aikobn26.teamprogressviz.shared.config.KeyLockConfig;
+import io.github.aikobn26.teamprogressviz.shared.persistence.SoftDeleteCascade;
+
+/**
+ * Full first-time sync of one repository: every pull request, commit and file from the stub is persisted, along with
+ * sync status and activity buckets. Synced rows and stored commit file stats are removed before each invocation so
+ * every run fetches and writes everything; users are kept, as they would be after the first sync of an organization.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryActivitySyncServiceBenchmark {
+
+    @Param({"200", "1000"})
+    public int commits;
+
+    @Param({"5"})
+    public int filesPerItem;
+
+    private ConfigurableApplicationContext context;
+    private RepositoryActivitySyncService repositoryActivitySyncService;
+    private Repository repository;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = BenchmarkApplication.start(
+                Map.of("benchmark.commits", commits,
+                        "benchmark.pull-requests", Math.max(1, commits / 10),
+                        "benchmark.files-per-item", filesPerItem),
+                RepositoryActivitySyncService.class, RepositorySyncStatusService.class, ActivityBucketService.class,
+                UserService.class, SoftDeleteCascade.class, KeyLockConfig.class, CommitFileStatsStore.class, StubConfig.class);
+        repositoryActivitySyncService = context.getBean(RepositoryActivitySyncService.class);
+
+        Organization organization = context.getBean(OrganizationRepository.class).save(Organization.builder()
+                .githubId(1L)
+                .login("bench")
+                .build());
+        repository = context.getBean(RepositoryRepository.class).save(Repository.builder()
+                .githubId(2L)
+                .organization(organization)
+                .name("repo")
+                .fullName("bench/repo")
+                .build());
+    }
+
+    @Setup(Level.Invocation)
+    public void removeSyncedRows() {
+        context.getBean(ActivityBucketRepository.class).deleteAllInBatch();
+        context.getBean(CommitFileRepository.class).deleteAllInBatch();
+        context.getBean(GitCommitRepository.class).deleteAllInBatch();
+        context.getBean(PullRequestFileRepository.class).deleteAllInBatch();
+        context.getBean(PullRequestRepository.class).deleteAllInBatch();
+        context.getBean(RepositorySyncStatusRepository.class).deleteAllInBatch();
+        context.getBean(JdbcTemplate.class).update("delete from commit_file_stats");
+    }
+
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public void synchronizeRepository() {
+        repositoryActivitySyncService.synchronizeRepository(repository, "token");
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class StubConfig {
+
+        @Bean
+        GitHubRepositoryService gitHubRepositoryService(@Value("${benchmark.pull-requests}") int pullRequests,
+                                                        @Value("${benchmark.commits}") int commits,
+                                                        @Value("${benchmark.files-per-item}") int filesPerItem) {
+            return new StubGitHubRepositoryService(pullRequests, commits, filesPerItem, 10);
+        }
+
+        @Bean
+        OrganizationSyncProperties organizationSyncProperties() {
+            var properties = new OrganizationSyncProperties();
+            properties.setFetchCommitDetails(true);
+            properties.setFetchPullRequestDetails(true);
+            return properties;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.aikobn26.teamprogressviz.feature.github.properties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "github.api.cache")
+public class GitHubCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Entries kept on the heap, immutable objects and listings together; the least recently used is dropped first.
+     */
+    private int heapMaxEntries = 10_000;
+
+    /**
+     * How long a token's listings, such as its organizations or an organization's repositories, are reused.
+     */
+    private Duration listingTtl = Duration.ofSeconds(30);
+
+    /**
+     * Directory that keeps immutable objects across restarts; unset keeps them on the heap only.
+     */
+    private Path diskDirectory;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getHeapMaxEntries() {
+        return heapMaxEntries;
+    }
+
+    public void setHeapMaxEntries(int heapMaxEntries) {
+        this.heapMaxEntries = heapMaxEntries;
+    }
+
+    public Duration getListingTtl() {
+        return listingTtl;
+    }
+
+    public void setListingTtl(Duration listingTtl) {
+        this.listingTtl = listingTtl;
+    }
+
+    public Path getDiskDirectory() {
+        return diskDirectory;
+    }
+
+    public void setDiskDirectory(Path diskDirectory) {
+        this.diskDirectory = diskDirectory;
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.aikobn26.teamprogressviz.feature.github.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Decodes GitHub responses with a Jackson pull parser reading straight from the response buffers, so a body is never
+ * aggregated in memory and has no size limit. Lists are bound one element at a time, and fields the response records
+ * do not declare, such as the {@code patch} of every commit file, are skipped by the parser without being turned into
+ * strings.
+ * <p>
+ * Reading blocks the calling thread until the next buffer arrives, like the {@code block()} it replaces; it must not
+ * run on an event loop.
+ */
+final class GitHubJsonReader {
+
+    // Same configuration as WebClient's default Jackson codec, which these responses were decoded with before.
+    private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json().build();
+    // Buffers requested ahead of the parser; a Netty buffer is at most a few KB.
+    private static final int PREFETCH = 16;
+
+    private GitHubJsonReader() {
+    }
+
+    /**
+     * @return the body bound to {@code type}, or {@code null} if the body is empty or {@code null}
+     */
+    static <T> T readValue(Flux<DataBuffer> body, Class<T> type) {
+        try (InputStream input = DataBufferUtils.subscriberInputStream(body, PREFETCH);
+             JsonParser parser = OBJECT_MAPPER.createParser(input)) {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            return OBJECT_MAPPER.readValue(parser, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return the elements of a top-level JSON array bound to {@code elementType}, without {@code null} elements;
+     *         {@code null} if the body is empty or {@code null}
+     */
+    static <T> List<T> readList(Flux<DataBuffer> body, Class<T> elementType) {
+        try (InputStream input = DataBufferUtils.subscriberInputStream(body, PREFETCH);
+             JsonParser parser = OBJECT_MAPPER.createParser(input)) {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array but found " + token);
+            }
+            List<T> elements = new ArrayList<>();
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IOException("Unexpected end of JSON array");
+                }
+                if (token != JsonToken.VALUE_NULL) {
+                    elements.add(OBJECT_MAPPER.readValue(parser, elementType));
+                }
+            }
+            return elements;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
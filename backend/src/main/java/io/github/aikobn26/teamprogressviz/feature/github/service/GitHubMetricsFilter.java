@@ -0,0 +1,117 @@
+package io.github.aikobn26.teamprogressviz.feature.github.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Records {@code github.client.requests} per endpoint template, method and status, and the last
+ * {@code X-RateLimit-Remaining} seen per rate-limit resource as {@code github.rate_limit.remaining}. It sits inside
+ * {@link GitHubRetryFilter}, so every attempt is timed on its own; the time covers the exchange up to the response
+ * headers.
+ */
+@Component
+@RequiredArgsConstructor
+public class GitHubMetricsFilter implements ExchangeFilterFunction {
+
+    private static final String RATE_LIMIT_REMAINING = "X-RateLimit-Remaining";
+    private static final String RATE_LIMIT_RESOURCE = "X-RateLimit-Resource";
+    private static final Map<String, String> VARIABLE_AFTER = Map.of(
+            "orgs", "{org}",
+            "users", "{user}",
+            "pulls", "{number}",
+            "issues", "{number}",
+            "commits", "{sha}");
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicLong> rateLimitRemaining = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        long start = System.nanoTime();
+        String method = request.method().name();
+        String uri = endpointTemplate(request.url().getRawPath());
+        return next.exchange(request)
+                .doOnNext(response -> {
+                    record(method, uri, String.valueOf(response.statusCode().value()), start);
+                    recordRateLimit(response);
+                })
+                .doOnError(error -> record(method, uri, "IO_ERROR", start));
+    }
+
+    /**
+     * Replaces owner, repository, organization, number and SHA segments with placeholders so the {@code uri} tag stays
+     * bounded, e.g. {@code /repos/octo/app/pulls/12/files} becomes {@code /repos/{owner}/{repo}/pulls/{number}/files}.
+     */
+    static String endpointTemplate(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        String[] segments = path.split("/");
+        StringBuilder template = new StringBuilder();
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.isEmpty()) {
+                continue;
+            }
+            template.append('/').append(segment);
+            if ("repos".equals(segment) && i + 2 < segments.length) {
+                template.append("/{owner}/{repo}");
+                i += 2;
+            } else if (VARIABLE_AFTER.containsKey(segment) && i + 1 < segments.length) {
+                template.append('/').append(VARIABLE_AFTER.get(segment));
+                i++;
+            }
+        }
+        return template.isEmpty() ? "/" : template.toString();
+    }
+
+    private void record(String method, String uri, String status, long start) {
+        Timer.builder("github.client.requests")
+                .description("GitHub API calls by endpoint template and status, one sample per attempt")
+                .tag("method", method)
+                .tag("uri", uri)
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private void recordRateLimit(ClientResponse response) {
+        String remaining = response.headers().asHttpHeaders().getFirst(RATE_LIMIT_REMAINING);
+        if (remaining == null) {
+            return;
+        }
+        String resource = response.headers().asHttpHeaders().getFirst(RATE_LIMIT_RESOURCE);
+        try {
+            long value = Long.parseLong(remaining.trim());
+            rateLimitRemaining.computeIfAbsent(resource != null ? resource : "core", this::registerRateLimitGauge)
+                    .set(value);
+        } catch (NumberFormatException e) {
+            // Ignore malformed headers; the gauge keeps its previous value.
+        }
+    }
+
+    // The budget is per token, so with several users the gauge shows whichever response arrived last.
+    private AtomicLong registerRateLimitGauge(String resource) {
+        AtomicLong value = new AtomicLong(-1);
+        Gauge.builder("github.rate_limit.remaining", value, AtomicLong::get)
+                .description("Last X-RateLimit-Remaining reported by GitHub")
+                .tag("resource", resource)
+                .register(meterRegistry);
+        return value;
+    }
+}
@@ -1,10 +1,10 @@
 package io.github.aikobn26.teamprogressviz.feature.github.service;
 
 import java.net.URI;
-import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
+import java.util.function.Function;
 
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -20,6 +20,7 @@ import io.github.aikobn26.teamprogressviz.feature.github.model.GitHubOrganizatio
 import io.github.aikobn26.teamprogressviz.feature.github.model.GitHubRepository;
 import io.github.aikobn26.teamprogressviz.feature.github.properties.GitHubApiProperties;
 import lombok.AllArgsConstructor;
+import reactor.core.publisher.Flux;
 
 @Service
 @AllArgsConstructor
@@ -30,6 +31,7 @@ public class GitHubOrganizationService {
 
     private final WebClient webClient;
     private final GitHubApiProperties apiProperties;
+    private final GitHubResponseCache responseCache;
 
     public List<GitHubOrganization> listOrganizations(String accessToken) {
         if (accessToken == null || accessToken.isBlank()) {
@@ -42,15 +44,14 @@ public class GitHubOrganizationService {
                 .build()
                 .toUri();
 
-        GitHubOrganizationResponse[] response = executeGet(uri, GitHubOrganizationResponse[].class, accessToken,
+        List<GitHubOrganizationResponse> response = executeGetList(uri, GitHubOrganizationResponse.class, accessToken,
                 "Failed to fetch GitHub organizations");
 
         if (response == null) {
             return List.of();
         }
 
-        return Arrays.stream(response)
-                .filter(Objects::nonNull)
+        return response.stream()
                 .map(GitHubOrganizationService::toOrganization)
                 .toList();
     }
@@ -93,15 +94,14 @@ public class GitHubOrganizationService {
                                     .build()
                                     .toUri();
 
-        GitHubRepositoryResponse[] response = executeGet(uri, GitHubRepositoryResponse[].class, accessToken,
+        List<GitHubRepositoryResponse> response = executeGetList(uri, GitHubRepositoryResponse.class, accessToken,
                 "Failed to fetch GitHub repositories");
 
         if (response == null) {
             return List.of();
         }
 
-        return Arrays.stream(response)
-                .filter(Objects::nonNull)
+        return response.stream()
                 .map(GitHubOrganizationService::toRepository)
                 .toList();
     }
@@ -121,29 +121,38 @@ public class GitHubOrganizationService {
                 .build()
                 .toUri();
 
-        GitHubMemberResponse[] response = executeGet(uri, GitHubMemberResponse[].class, accessToken,
+        List<GitHubMemberResponse> response = executeGetList(uri, GitHubMemberResponse.class, accessToken,
                 "Failed to fetch GitHub members");
 
         if (response == null) {
             return List.of();
         }
 
-        return Arrays.stream(response)
-                .filter(Objects::nonNull)
+        return response.stream()
                 .map(GitHubOrganizationService::toMember)
                 .toList();
     }
 
+    // Everything here depends on what the token may see and changes over time, so responses are token-bound listings.
     private <T> T executeGet(URI uri, Class<T> responseType, String accessToken, String failureMessage) {
+        return responseCache.listing(GitHubResponseCache.Key.forToken(uri.toString(), accessToken),
+                () -> execute(uri, accessToken, failureMessage, body -> GitHubJsonReader.readValue(body, responseType)));
+    }
+
+    private <T> List<T> executeGetList(URI uri, Class<T> elementType, String accessToken, String failureMessage) {
+        return responseCache.listing(GitHubResponseCache.Key.forToken(uri.toString(), accessToken),
+                () -> execute(uri, accessToken, failureMessage, body -> GitHubJsonReader.readList(body, elementType)));
+    }
+
+    private <T> T execute(URI uri, String accessToken, String failureMessage, Function<Flux<DataBuffer>, T> reader) {
         try {
-            return webClient.get()
+            return reader.apply(webClient.get()
                     .uri(uri)
                     .header(HttpHeaders.ACCEPT, ACCEPT_HEADER)
                     .header(HttpHeaders.USER_AGENT, USER_AGENT)
                     .headers(headers -> headers.setBearerAuth(accessToken))
                     .retrieve()
-                    .bodyToMono(responseType)
-                    .block();
+                    .bodyToFlux(DataBuffer.class));
         } catch (WebClientResponseException e) {
             String message = String.format("%s: %s", failureMessage, e.getMessage());
             throw new GitHubApiException(message, e.getStatusCode(), e);
@@ -6,7 +6,9 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -19,6 +21,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import io.github.aikobn26.teamprogressviz.feature.github.exception.GitHubApiException;
 import io.github.aikobn26.teamprogressviz.feature.github.properties.GitHubApiProperties;
 import lombok.AllArgsConstructor;
+import reactor.core.publisher.Flux;
 
 @Service
 @AllArgsConstructor
@@ -29,6 +32,7 @@ public class GitHubRepositoryService {
 
     private final WebClient webClient;
     private final GitHubApiProperties apiProperties;
+    private final GitHubResponseCache responseCache;
 
     public List<GitHubPullRequestSummary> listPullRequestSummaries(String accessToken, String owner, String repository, int perPage) {
         if (!hasText(accessToken) || !hasText(owner) || !hasText(repository)) {
@@ -45,15 +49,14 @@ public class GitHubRepositoryService {
                 .build()
                 .toUri();
 
-        GitHubPullRequestSummaryResponse[] response = executeGet(uri, GitHubPullRequestSummaryResponse[].class, accessToken,
+        List<GitHubPullRequestSummaryResponse> response = executeGetList(uri, GitHubPullRequestSummaryResponse.class, accessToken,
                 "Failed to fetch pull requests");
 
         if (response == null) {
             return List.of();
         }
 
-        return Arrays.stream(response)
-                .filter(Objects::nonNull)
+        return response.stream()
                 .map(item -> new GitHubPullRequestSummary(item.id(), item.number(), item.updatedAt()))
                 .toList();
     }
@@ -106,15 +109,14 @@ public class GitHubRepositoryService {
                 .build()
                 .toUri();
 
-        GitHubPullRequestFileResponse[] response = executeGet(uri, GitHubPullRequestFileResponse[].class, accessToken,
+        List<GitHubPullRequestFileResponse> response = executeGetList(uri, GitHubPullRequestFileResponse.class, accessToken,
                 "Failed to fetch pull request files");
 
         if (response == null) {
             return List.of();
         }
 
-        return Arrays.stream(response)
-                .filter(Objects::nonNull)
+        return response.stream()
                 .map(item -> new GitHubPullRequestFile(item.filename(), item.additions(), item.deletions(), item.changes(), item.rawUrl()))
                 .toList();
     }
@@ -133,9 +135,9 @@ public class GitHubRepositoryService {
                 }
                 URI uri = builder.build().toUri();
 
-                GitHubCommitResponse[] response;
+                List<GitHubCommitResponse> response;
                 try {
-                        response = executeGet(uri, GitHubCommitResponse[].class, accessToken,
+                        response = executeGetList(uri, GitHubCommitResponse.class, accessToken,
                                         "Failed to fetch commits");
                 } catch (GitHubApiException e) {
                         if (e.statusCode() != null && e.statusCode().value() == 409) {
@@ -148,12 +150,15 @@ public class GitHubRepositoryService {
                         return List.of();
                 }
 
-                return Arrays.stream(response)
-                                .filter(Objects::nonNull)
+                return response.stream()
                                 .map(this::toCommit)
                                 .toList();
         }
 
+        /**
+         * A commit's detail never changes, so it is cached under a key shared by every token. Only call this for
+         * repositories the token was already seen to reach, such as those listed with it.
+         */
         public Optional<GitHubCommitDetail> getCommit(String accessToken, String owner, String repository, String sha) {
                 if (!hasText(accessToken) || !hasText(owner) || !hasText(repository) || !hasText(sha)) {
                         throw new IllegalArgumentException("accessToken, owner, repository, and sha must not be blank");
@@ -165,28 +170,8 @@ public class GitHubRepositoryService {
                                 .toUri();
 
                 try {
-                        GitHubCommitResponse response = executeGet(uri, GitHubCommitResponse.class, accessToken,
-                                        "Failed to fetch commit detail");
-
-                        if (response == null) {
-                                return Optional.empty();
-                        }
-
-                        GitHubCommit commit = toCommit(response);
-                        List<GitHubCommitFile> files = response.files() == null
-                                        ? List.of()
-                                        : Arrays.stream(response.files())
-                                                        .filter(Objects::nonNull)
-                                                        .map(item -> new GitHubCommitFile(
-                                                                        item.filename(),
-                                                                        item.status(),
-                                                                        item.additions(),
-                                                                        item.deletions(),
-                                                                        item.changes(),
-                                                                        item.rawUrl()))
-                                                        .toList();
-
-                        return Optional.of(new GitHubCommitDetail(commit, files));
+                        return Optional.ofNullable(responseCache.immutable(GitHubResponseCache.Key.shared(uri.toString()),
+                                        GitHubCommitDetail.class, () -> fetchCommit(uri, accessToken)));
                 } catch (GitHubApiException e) {
                         if (e.statusCode() != null && e.statusCode().value() == 404) {
                                 return Optional.empty();
@@ -195,6 +180,31 @@ public class GitHubRepositoryService {
                 }
         }
 
+        private GitHubCommitDetail fetchCommit(URI uri, String accessToken) {
+                GitHubCommitResponse response = executeGet(uri, GitHubCommitResponse.class, accessToken,
+                                "Failed to fetch commit detail");
+
+                if (response == null) {
+                        return null;
+                }
+
+                GitHubCommit commit = toCommit(response);
+                List<GitHubCommitFile> files = response.files() == null
+                                ? List.of()
+                                : Arrays.stream(response.files())
+                                                .filter(Objects::nonNull)
+                                                .map(item -> new GitHubCommitFile(
+                                                                item.filename(),
+                                                                item.status(),
+                                                                item.additions(),
+                                                                item.deletions(),
+                                                                item.changes(),
+                                                                item.rawUrl()))
+                                                .toList();
+
+                return new GitHubCommitDetail(commit, files);
+        }
+
     private GitHubCommit toCommit(GitHubCommitResponse response) {
         String authorName = null;
         String authorEmail = null;
@@ -223,7 +233,8 @@ public class GitHubRepositoryService {
                 authoredAt,
                 committerName,
                 committerEmail,
-                committedAt);
+                committedAt,
+                toSimpleUser(response.author()));
     }
 
     private GitHubSimpleUser toSimpleUser(GitHubUserResponse response) {
@@ -234,15 +245,22 @@ public class GitHubRepositoryService {
     }
 
     private <T> T executeGet(URI uri, Class<T> responseType, String accessToken, String failureMessage) {
+        return execute(uri, accessToken, failureMessage, body -> GitHubJsonReader.readValue(body, responseType));
+    }
+
+    private <T> List<T> executeGetList(URI uri, Class<T> elementType, String accessToken, String failureMessage) {
+        return execute(uri, accessToken, failureMessage, body -> GitHubJsonReader.readList(body, elementType));
+    }
+
+    private <T> T execute(URI uri, String accessToken, String failureMessage, Function<Flux<DataBuffer>, T> reader) {
         try {
-            return webClient.get()
+            return reader.apply(webClient.get()
                     .uri(uri)
                     .header(HttpHeaders.ACCEPT, ACCEPT_HEADER)
                     .header(HttpHeaders.USER_AGENT, USER_AGENT)
                     .headers(headers -> headers.setBearerAuth(accessToken))
                     .retrieve()
-                    .bodyToMono(responseType)
-                    .block();
+                    .bodyToFlux(DataBuffer.class));
         } catch (WebClientResponseException e) {
             String message = String.format("%s: %s", failureMessage, e.getMessage());
             throw new GitHubApiException(message, e.getStatusCode(), e);
@@ -304,6 +322,7 @@ public class GitHubRepositoryService {
             String sha,
             @JsonProperty("html_url") String htmlUrl,
             CommitDetails commit,
+            GitHubUserResponse author,
             GitHubCommitFileResponse[] files
     ) {}
 
@@ -380,7 +399,8 @@ public class GitHubRepositoryService {
             OffsetDateTime authoredAt,
             String committerName,
             String committerEmail,
-            OffsetDateTime committedAt
+            OffsetDateTime committedAt,
+            GitHubSimpleUser author
     ) {}
 
     public record GitHubCommitDetail(
@@ -0,0 +1,223 @@
+package io.github.aikobn26.teamprogressviz.feature.github.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.aikobn26.teamprogressviz.feature.github.properties.GitHubCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Shares decoded GitHub responses between users, jobs and, for immutable objects, restarts.
+ * <p>
+ * Immutable objects, such as a commit's detail by SHA, never change once GitHub serves them, so they are kept without
+ * expiry under a {@link Key#shared shared} key and also written to the disk tier when one is configured. Listings
+ * depend on who asks and change over time, so they are kept under a key bound to the access token for
+ * {@code listing-ttl} on the heap only; another user's token never sees them. Tokens are stored as SHA-256
+ * fingerprints, never in clear.
+ * <p>
+ * Absent results ({@code null}) are not cached. Two threads missing the same key both load it; the later one wins.
+ */
+public class GitHubResponseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(GitHubResponseCache.class);
+    private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
+    private final GitHubCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<Key, Entry> heap;
+
+    public GitHubResponseCache(GitHubCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        int maxEntries = properties.getHeapMaxEntries();
+        this.heap = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        if (properties.isEnabled() && properties.getDiskDirectory() != null) {
+            try {
+                Files.createDirectories(properties.getDiskDirectory());
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot create GitHub cache directory " + properties.getDiskDirectory(), e);
+            }
+        }
+    }
+
+    /**
+     * A cache that always loads, for callers built outside the application context.
+     */
+    public static GitHubResponseCache disabled() {
+        GitHubCacheProperties properties = new GitHubCacheProperties();
+        properties.setEnabled(false);
+        return new GitHubResponseCache(properties, null);
+    }
+
+    /**
+     * Returns the object cached under {@code key} on the heap or disk, or loads, caches and returns it.
+     */
+    public <T> T immutable(Key key, Class<T> type, Supplier<T> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+        Object cached = fromHeap(key);
+        if (cached != null) {
+            record("immutable", "heap");
+            return type.cast(cached);
+        }
+        Path file = diskFile(key);
+        T stored = file != null ? readDisk(file, type) : null;
+        if (stored != null) {
+            record("immutable", "disk");
+            toHeap(key, stored, Long.MAX_VALUE);
+            return stored;
+        }
+        record("immutable", "miss");
+        T loaded = loader.get();
+        if (loaded != null) {
+            toHeap(key, loaded, Long.MAX_VALUE);
+            if (file != null) {
+                writeDisk(file, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Returns the listing cached under {@code key} if it is younger than {@code listing-ttl}, or loads, caches and
+     * returns it. The key should be {@link Key#forToken bound to the token} that may see the listing.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T listing(Key key, Supplier<T> loader) {
+        if (!properties.isEnabled() || properties.getListingTtl().isZero()) {
+            return loader.get();
+        }
+        Object cached = fromHeap(key);
+        if (cached != null) {
+            record("listing", "heap");
+            return (T) cached;
+        }
+        record("listing", "miss");
+        T loaded = loader.get();
+        if (loaded != null) {
+            toHeap(key, loaded, System.nanoTime() + properties.getListingTtl().toNanos());
+        }
+        return loaded;
+    }
+
+    public int heapSize() {
+        synchronized (heap) {
+            return heap.size();
+        }
+    }
+
+    private Object fromHeap(Key key) {
+        synchronized (heap) {
+            Entry entry = heap.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() != Long.MAX_VALUE && entry.expiresAt() - System.nanoTime() <= 0) {
+                heap.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    private void toHeap(Key key, Object value, long expiresAt) {
+        synchronized (heap) {
+            heap.put(key, new Entry(value, expiresAt));
+        }
+    }
+
+    private Path diskFile(Key key) {
+        Path directory = properties.getDiskDirectory();
+        return directory == null ? null : directory.resolve(sha256(key.path() + "\n" + key.principal()) + ".json");
+    }
+
+    // A damaged or unreadable file is a miss; the entry is fetched and written again.
+    private <T> T readDisk(Path file, Class<T> type) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readValue(file.toFile(), type);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable GitHub cache file {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    // Written to a temporary file and moved into place, so readers never see a partial entry.
+    private void writeDisk(Path file, Object value) {
+        try {
+            Path temporary = Files.createTempFile(file.getParent(), "entry", ".tmp");
+            try {
+                OBJECT_MAPPER.writeValue(temporary.toFile(), value);
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to write GitHub cache file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void record(String kind, String result) {
+        if (meterRegistry == null) {
+            return;
+        }
+        Counter.builder("github.cache.requests")
+                .description("GitHub response cache lookups by kind and the tier that answered, or miss")
+                .tag("kind", kind)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param path      the GitHub resource, e.g. {@code /repos/octo-org/repo/commits/<sha>}
+     * @param principal who may see it: a token fingerprint, or {@code *} for objects shared by everyone who can reach
+     *                  the resource
+     */
+    public record Key(String path, String principal) {
+
+        public static Key shared(String path) {
+            return new Key(path, "*");
+        }
+
+        public static Key forToken(String path, String accessToken) {
+            return new Key(path, sha256(accessToken));
+        }
+    }
+
+    private record Entry(Object value, long expiresAt) {
+    }
+}
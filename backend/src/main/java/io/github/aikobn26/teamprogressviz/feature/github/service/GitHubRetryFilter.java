@@ -0,0 +1,90 @@
+package io.github.aikobn26.teamprogressviz.feature.github.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import io.github.aikobn26.teamprogressviz.feature.github.properties.GitHubRetryProperties;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Retries idempotent GET requests on transport errors, 429 and 5xx responses using exponential backoff with jitter.
+ * A numeric {@code Retry-After} header takes precedence over the computed delay. The last attempt's response is passed
+ * through unchanged so callers still see the original status.
+ */
+@Component
+@RequiredArgsConstructor
+public class GitHubRetryFilter implements ExchangeFilterFunction {
+
+    private final GitHubRetryProperties properties;
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!HttpMethod.GET.equals(request.method()) || properties.getMaxAttempts() <= 1) {
+            return next.exchange(request);
+        }
+        return exchange(request, next, 1);
+    }
+
+    private Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next, int attempt) {
+        boolean canRetry = attempt < properties.getMaxAttempts();
+        // The status check must run before onErrorResume: otherwise the response of a resumed (retried) exchange
+        // would be inspected again here and retried past maxAttempts.
+        return next.exchange(request)
+                .flatMap(response -> {
+                    if (!canRetry || !isRetryable(response.statusCode())) {
+                        return Mono.just(response);
+                    }
+                    Duration delay = retryAfter(response).orElseGet(() -> backoff(attempt));
+                    return response.releaseBody()
+                            .then(Mono.delay(delay))
+                            .then(Mono.defer(() -> exchange(request, next, attempt + 1)));
+                })
+                .onErrorResume(error -> canRetry && isRetryable(error),
+                        error -> Mono.delay(backoff(attempt)).then(Mono.defer(() -> exchange(request, next, attempt + 1))));
+    }
+
+    private boolean isRetryable(HttpStatusCode status) {
+        return status.is5xxServerError() || status.value() == 429;
+    }
+
+    private boolean isRetryable(Throwable error) {
+        return error instanceof WebClientRequestException
+                || error instanceof TimeoutException
+                || error instanceof IOException;
+    }
+
+    private Duration backoff(int attempt) {
+        long initial = Math.max(1L, properties.getInitialBackoff().toMillis());
+        long cap = Math.max(initial, properties.getMaxBackoff().toMillis());
+        long exponential = Math.min(cap, initial << Math.min(attempt - 1, 20));
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(exponential / 2, exponential + 1));
+    }
+
+    private Optional<Duration> retryAfter(ClientResponse response) {
+        String header = response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (header == null) {
+            return Optional.empty();
+        }
+        try {
+            long seconds = Long.parseLong(header.trim());
+            Duration delay = Duration.ofSeconds(Math.max(0L, seconds));
+            return Optional.of(delay.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : delay);
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
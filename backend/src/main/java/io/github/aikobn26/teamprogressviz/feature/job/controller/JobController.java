@@ -37,7 +37,8 @@ public class JobController {
                         descriptor.startedAt(),
             descriptor.finishedAt(),
             descriptor.progress(),
-                        descriptor.errorMessage()
+                        descriptor.errorMessage(),
+                        descriptor.profile()
                 ))
                 .map(ResponseEntity::ok)
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
@@ -0,0 +1,37 @@
+package io.github.aikobn26.teamprogressviz.feature.job.controller;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import io.github.aikobn26.teamprogressviz.feature.job.exception.JobRejectedException;
+
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class JobRejectedExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(JobRejectedExceptionHandler.class);
+
+    @ExceptionHandler(JobRejectedException.class)
+    public ResponseEntity<Map<String, Object>> handleJobRejected(JobRejectedException e) {
+        long retryAfterSeconds = Math.max(1L, e.retryAfter().toSeconds());
+        log.warn("Job submission rejected for lane {}: {}", e.lane(), e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(Map.of(
+                        "type", "/errors/too-many-requests",
+                        "title", "Too Many Requests",
+                        "status", HttpStatus.TOO_MANY_REQUESTS.value(),
+                        "detail", e.getMessage(),
+                        "retryAfterSeconds", retryAfterSeconds
+                ));
+    }
+}
@@ -2,6 +2,7 @@ package io.github.aikobn26.teamprogressviz.feature.job.dto.response;
 
 import java.time.OffsetDateTime;
 
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobProfile;
 import io.github.aikobn26.teamprogressviz.feature.job.model.JobStatus;
 
 
@@ -13,5 +14,6 @@ public record JobStatusResponse(
         OffsetDateTime startedAt,
         OffsetDateTime finishedAt,
         int progress,
-        String errorMessage
+        String errorMessage,
+        JobProfile.Snapshot profile
 ) {}
@@ -0,0 +1,25 @@
+package io.github.aikobn26.teamprogressviz.feature.job.exception;
+
+import java.time.Duration;
+
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobLane;
+
+public class JobRejectedException extends RuntimeException {
+
+    private final JobLane lane;
+    private final Duration retryAfter;
+
+    public JobRejectedException(JobLane lane, Duration retryAfter) {
+        super("Job queue is full for lane " + lane + ", retry later");
+        this.lane = lane;
+        this.retryAfter = retryAfter != null ? retryAfter : Duration.ZERO;
+    }
+
+    public JobLane lane() {
+        return lane;
+    }
+
+    public Duration retryAfter() {
+        return retryAfter;
+    }
+}
@@ -1,17 +1,181 @@
 package io.github.aikobn26.teamprogressviz.feature.job.model;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
-import lombok.RequiredArgsConstructor;
+import io.github.aikobn26.teamprogressviz.feature.job.exception.JobRejectedException;
+import io.github.aikobn26.teamprogressviz.feature.job.properties.JobSchedulerProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 
+/**
+ * Dispatches jobs onto the shared worker pool using weighted lanes.
+ * Every submission hands the pool a "run next" token, so the pool's own FIFO only decides when a worker
+ * becomes free; which job it runs is chosen here by smooth weighted round-robin across lanes and
+ * round-robin across fairness keys inside a lane.
+ * Queue depth per lane is published as the {@code jobs.queued} gauge.
+ */
 @Component
-@RequiredArgsConstructor
-public class AsyncJobExecutor {
+public class AsyncJobExecutor implements MeterBinder {
+
+    private static final String DEFAULT_KEY = "default";
 
     private final TaskExecutor jobExecutor;
+    private final JobSchedulerProperties properties;
+    private final Map<JobLane, LaneQueue> lanes = new EnumMap<>(JobLane.class);
+    private final Map<JobLane, Integer> currentWeights = new EnumMap<>(JobLane.class);
+
+    public AsyncJobExecutor(TaskExecutor jobExecutor, JobSchedulerProperties properties) {
+        this.jobExecutor = jobExecutor;
+        this.properties = properties;
+        for (JobLane lane : JobLane.values()) {
+            lanes.put(lane, new LaneQueue());
+            currentWeights.put(lane, 0);
+        }
+    }
 
     public void execute(Runnable task) {
-        jobExecutor.execute(task);
+        execute(JobLane.INTERACTIVE, null, task);
+    }
+
+    public void execute(JobLane lane, String fairnessKey, Runnable task) {
+        if (task == null) {
+            throw new IllegalArgumentException("task must not be null");
+        }
+        JobLane targetLane = lane != null ? lane : JobLane.INTERACTIVE;
+        String key = StringUtils.hasText(fairnessKey) ? fairnessKey : DEFAULT_KEY;
+
+        synchronized (this) {
+            LaneQueue queue = lanes.get(targetLane);
+            JobSchedulerProperties.Lane settings = properties.lane(targetLane);
+            if (queue.size() >= settings.getCapacity() || queue.size(key) >= settings.getMaxQueuedPerKey()) {
+                throw new JobRejectedException(targetLane, properties.getRetryAfter());
+            }
+            queue.offer(key, task);
+        }
+
+        try {
+            jobExecutor.execute(this::runNext);
+        } catch (TaskRejectedException e) {
+            synchronized (this) {
+                lanes.get(targetLane).remove(key, task);
+            }
+            throw new JobRejectedException(targetLane, properties.getRetryAfter());
+        }
+    }
+
+    public synchronized int queuedCount(JobLane lane) {
+        return lanes.get(lane).size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (JobLane lane : JobLane.values()) {
+            Gauge.builder("jobs.queued", this, executor -> executor.queuedCount(lane))
+                    .description("Jobs waiting for a worker, by lane")
+                    .tag("lane", lane.name())
+                    .register(registry);
+        }
+    }
+
+    private void runNext() {
+        Runnable next;
+        synchronized (this) {
+            next = poll();
+        }
+        if (next != null) {
+            next.run();
+        }
+    }
+
+    private Runnable poll() {
+        JobLane selected = null;
+        int totalWeight = 0;
+        for (JobLane lane : JobLane.values()) {
+            if (lanes.get(lane).isEmpty()) {
+                continue;
+            }
+            int weight = Math.max(1, properties.lane(lane).getWeight());
+            totalWeight += weight;
+            int current = currentWeights.merge(lane, weight, Integer::sum);
+            if (selected == null || current > currentWeights.get(selected)) {
+                selected = lane;
+            }
+        }
+        if (selected == null) {
+            return null;
+        }
+        currentWeights.merge(selected, -totalWeight, Integer::sum);
+        LaneQueue queue = lanes.get(selected);
+        Runnable task = queue.poll();
+        if (queue.isEmpty()) {
+            currentWeights.put(selected, 0);
+        }
+        return task;
+    }
+
+    private static final class LaneQueue {
+
+        private final Map<String, Deque<Runnable>> byKey = new LinkedHashMap<>();
+        private final Deque<String> rotation = new ArrayDeque<>();
+        private int size;
+
+        private void offer(String key, Runnable task) {
+            byKey.computeIfAbsent(key, unused -> {
+                rotation.addLast(key);
+                return new ArrayDeque<>();
+            }).addLast(task);
+            size++;
+        }
+
+        private Runnable poll() {
+            String key = rotation.pollFirst();
+            if (key == null) {
+                return null;
+            }
+            Deque<Runnable> tasks = byKey.get(key);
+            Runnable task = tasks.pollFirst();
+            size--;
+            if (tasks.isEmpty()) {
+                byKey.remove(key);
+            } else {
+                rotation.addLast(key);
+            }
+            return task;
+        }
+
+        private void remove(String key, Runnable task) {
+            Deque<Runnable> tasks = byKey.get(key);
+            if (tasks == null || !tasks.removeLastOccurrence(task)) {
+                return;
+            }
+            size--;
+            if (tasks.isEmpty()) {
+                byKey.remove(key);
+                rotation.remove(key);
+            }
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private int size(String key) {
+            Deque<Runnable> tasks = byKey.get(key);
+            return tasks == null ? 0 : tasks.size();
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
     }
 }
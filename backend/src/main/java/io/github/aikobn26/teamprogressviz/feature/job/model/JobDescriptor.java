@@ -10,6 +10,7 @@ public record JobDescriptor(
         OffsetDateTime startedAt,
         OffsetDateTime finishedAt,
         int progress,
-        String errorMessage
+        String errorMessage,
+        JobProfile.Snapshot profile
 ) {
 }
@@ -0,0 +1,38 @@
+package io.github.aikobn26.teamprogressviz.feature.job.model;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public final class JobFairnessKey {
+
+    private JobFairnessKey() {
+    }
+
+    public static String organization(Long organizationId) {
+        return "organization:" + organizationId;
+    }
+
+    public static String repository(Long repositoryId) {
+        return "repository:" + repositoryId;
+    }
+
+    public static String user(Long userId) {
+        return "user:" + userId;
+    }
+
+    // Tokens are hashed so raw credentials never end up in queue keys or logs.
+    public static String token(String accessToken) {
+        if (accessToken == null || accessToken.isBlank()) {
+            return "token:anonymous";
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(accessToken.getBytes(StandardCharsets.UTF_8));
+            return "token:" + HexFormat.of().formatHex(hash, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.aikobn26.teamprogressviz.feature.job.model;
+
+public enum JobLane {
+    INTERACTIVE,
+    SYNC,
+    MAINTENANCE
+}
@@ -0,0 +1,132 @@
+package io.github.aikobn26.teamprogressviz.feature.job.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import io.github.aikobn26.teamprogressviz.shared.persistence.SqlStatementCounter;
+
+/**
+ * Timing breakdown recorded while a job runs. Top-level phases are timed as a whole; each item (one repository of a
+ * sync) splits its time into GitHub calls, database work and waiting for a database permit, and counts API calls and
+ * rows written. Items are updated from several threads when repositories are synchronized concurrently.
+ * Phases and items also count their SQL statements through {@link SqlStatementCounter}.
+ */
+public class JobProfile {
+
+    private final Map<String, AtomicLong> phaseNanos = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> phaseStatements = new LinkedHashMap<>();
+    private final Map<String, Item> items = new LinkedHashMap<>();
+
+    public <T> T phase(String name, Supplier<T> action) {
+        long start = System.nanoTime();
+        SqlStatementCounter.Scope statements = SqlStatementCounter.open();
+        try {
+            return action.get();
+        } finally {
+            statements.close();
+            long elapsed = System.nanoTime() - start;
+            synchronized (this) {
+                phaseNanos.computeIfAbsent(name, unused -> new AtomicLong()).addAndGet(elapsed);
+                phaseStatements.computeIfAbsent(name, unused -> new AtomicLong()).addAndGet(statements.count());
+            }
+        }
+    }
+
+    public void phase(String name, Runnable action) {
+        phase(name, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public synchronized Item item(String key) {
+        return items.computeIfAbsent(key, unused -> new Item());
+    }
+
+    /**
+     * @return the recorded breakdown, or {@code null} when the job recorded nothing
+     */
+    public synchronized Snapshot snapshot() {
+        if (phaseNanos.isEmpty() && items.isEmpty()) {
+            return null;
+        }
+        List<Phase> phases = new ArrayList<>(phaseNanos.size());
+        phaseNanos.forEach((name, nanos) ->
+                phases.add(new Phase(name, toMillis(nanos.get()), phaseStatements.get(name).get())));
+        List<ItemSnapshot> itemSnapshots = new ArrayList<>(items.size());
+        items.forEach((key, item) -> itemSnapshots.add(item.snapshot(key)));
+        return new Snapshot(phases, itemSnapshots);
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    public static final class Item {
+
+        private final AtomicLong githubNanos = new AtomicLong();
+        private final AtomicLong databaseNanos = new AtomicLong();
+        private final AtomicLong lockWaitNanos = new AtomicLong();
+        private final AtomicLong apiCalls = new AtomicLong();
+        private final AtomicLong rowsWritten = new AtomicLong();
+        private final AtomicLong statements = new AtomicLong();
+
+        private Item() {
+        }
+
+        public <T> T github(Supplier<T> call) {
+            long start = System.nanoTime();
+            try {
+                return call.get();
+            } finally {
+                githubNanos.addAndGet(System.nanoTime() - start);
+                apiCalls.incrementAndGet();
+            }
+        }
+
+        public void recordDatabase(long lockWaitNanos, long workNanos) {
+            this.lockWaitNanos.addAndGet(lockWaitNanos);
+            databaseNanos.addAndGet(workNanos);
+        }
+
+        public void recordRowWritten() {
+            rowsWritten.incrementAndGet();
+        }
+
+        public void recordStatements(long count) {
+            statements.addAndGet(count);
+        }
+
+        private ItemSnapshot snapshot(String key) {
+            return new ItemSnapshot(
+                    key,
+                    toMillis(githubNanos.get()),
+                    toMillis(databaseNanos.get()),
+                    toMillis(lockWaitNanos.get()),
+                    apiCalls.get(),
+                    rowsWritten.get(),
+                    statements.get());
+        }
+    }
+
+    public record Snapshot(List<Phase> phases, List<ItemSnapshot> items) {
+    }
+
+    public record Phase(String name, long durationMillis, long statements) {
+    }
+
+    public record ItemSnapshot(
+            String key,
+            long githubMillis,
+            long databaseMillis,
+            long lockWaitMillis,
+            long apiCalls,
+            long rowsWritten,
+            long statements) {
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.aikobn26.teamprogressviz.feature.job.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobLane;
+
+@ConfigurationProperties(prefix = "job.scheduler")
+public class JobSchedulerProperties {
+
+    private int workers = 4;
+
+    private Duration retryAfter = Duration.ofSeconds(30);
+
+    private boolean virtualThreads = false;
+
+    private int virtualWorkers = 256;
+
+    private int databasePermits = 8;
+
+    private final Lane interactive = new Lane(6, 50, 5);
+
+    private final Lane sync = new Lane(3, 200, 50);
+
+    private final Lane maintenance = new Lane(1, 50, 20);
+
+    public Lane lane(JobLane lane) {
+        return switch (lane) {
+            case INTERACTIVE -> interactive;
+            case SYNC -> sync;
+            case MAINTENANCE -> maintenance;
+        };
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public int getVirtualWorkers() {
+        return virtualWorkers;
+    }
+
+    public void setVirtualWorkers(int virtualWorkers) {
+        this.virtualWorkers = virtualWorkers;
+    }
+
+    public int getDatabasePermits() {
+        return databasePermits;
+    }
+
+    public void setDatabasePermits(int databasePermits) {
+        this.databasePermits = databasePermits;
+    }
+
+    public Lane getInteractive() {
+        return interactive;
+    }
+
+    public Lane getSync() {
+        return sync;
+    }
+
+    public Lane getMaintenance() {
+        return maintenance;
+    }
+
+    public static class Lane {
+
+        private int weight;
+
+        private int capacity;
+
+        private int maxQueuedPerKey;
+
+        public Lane() {
+        }
+
+        public Lane(int weight, int capacity, int maxQueuedPerKey) {
+            this.weight = weight;
+            this.capacity = capacity;
+            this.maxQueuedPerKey = maxQueuedPerKey;
+        }
+
+        public int getWeight() {
+            return weight;
+        }
+
+        public void setWeight(int weight) {
+            this.weight = weight;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public int getMaxQueuedPerKey() {
+            return maxQueuedPerKey;
+        }
+
+        public void setMaxQueuedPerKey(int maxQueuedPerKey) {
+            this.maxQueuedPerKey = maxQueuedPerKey;
+        }
+    }
+}
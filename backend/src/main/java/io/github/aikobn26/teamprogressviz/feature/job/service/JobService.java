@@ -1,5 +1,6 @@
 package io.github.aikobn26.teamprogressviz.feature.job.service;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,9 +12,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import io.github.aikobn26.teamprogressviz.feature.job.exception.JobRejectedException;
 import io.github.aikobn26.teamprogressviz.feature.job.model.AsyncJobExecutor;
 import io.github.aikobn26.teamprogressviz.feature.job.model.JobDescriptor;
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobLane;
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobProfile;
 import io.github.aikobn26.teamprogressviz.feature.job.model.JobStatus;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -23,6 +30,7 @@ public class JobService {
     private static final Logger log = LoggerFactory.getLogger(JobService.class);
 
     private final AsyncJobExecutor asyncJobExecutor;
+    private final MeterRegistry meterRegistry;
     private final ConcurrentHashMap<String, JobState> jobs = new ConcurrentHashMap<>();
     private final AtomicLong sequence = new AtomicLong();
 
@@ -31,12 +39,26 @@ public class JobService {
     }
 
     public JobDescriptor submit(String prefix, JobTask task) {
+        return submit(prefix, JobLane.INTERACTIVE, null, task);
+    }
+
+    public JobDescriptor submit(String prefix, JobLane lane, String fairnessKey, Runnable task) {
+        return submit(prefix, lane, fairnessKey, context -> task.run());
+    }
+
+    public JobDescriptor submit(String prefix, JobLane lane, String fairnessKey, JobTask task) {
         String type = prefix;
         String id = buildJobId(prefix);
         JobState initial = JobState.queued(id, type);
         jobs.put(id, initial);
 
-        asyncJobExecutor.execute(() -> runJob(id, task));
+        try {
+            asyncJobExecutor.execute(lane, fairnessKey, () -> runJob(id, task));
+        } catch (JobRejectedException e) {
+            jobs.remove(id);
+            meterRegistry.counter("jobs.rejected", "type", type, "lane", e.lane().name()).increment();
+            throw e;
+        }
 
         return toDescriptor(initial);
     }
@@ -57,17 +79,58 @@ public class JobService {
         String jobId();
 
         void updateProgress(int progress);
+
+        /**
+         * Timing breakdown returned with the job status; jobs that never touch it report no profile.
+         */
+        JobProfile profile();
     }
 
     private void runJob(String jobId, JobTask task) {
-        update(jobId, JobState::running);
+        JobState started = jobs.computeIfPresent(jobId, (id, state) -> state.running());
+        String type = started != null ? started.type : "unknown";
+        // Job types are the fixed prefixes passed to submit, so they are safe to use as tags.
+        if (started != null) {
+            Timer.builder("jobs.wait")
+                    .description("Time a job spent queued before a worker picked it up, by job type")
+                    .tag("type", type)
+                    .register(meterRegistry)
+                    .record(Duration.between(started.createdAt, started.startedAt));
+        }
+        String outcome = "failed";
+        Timer.Sample sample = Timer.start(meterRegistry);
+        JobProfile profile = started != null ? started.profile : new JobProfile();
         try {
-            JobContext context = new DefaultJobContext(jobId);
+            JobContext context = new DefaultJobContext(jobId, profile);
             task.run(context);
             update(jobId, JobState::succeeded);
+            outcome = "succeeded";
         } catch (Exception e) {
             log.error("Job {} failed", jobId, e);
             update(jobId, state -> state.failed(e.getMessage()));
+        } finally {
+            sample.stop(Timer.builder("jobs.run")
+                    .description("Time a job spent running, by job type and outcome")
+                    .tag("type", type)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+            recordPhaseStatements(type, profile);
+        }
+    }
+
+    // Phase names are fixed strings in the job code, so they are bounded like the job types.
+    private void recordPhaseStatements(String type, JobProfile profile) {
+        JobProfile.Snapshot snapshot = profile.snapshot();
+        if (snapshot == null) {
+            return;
+        }
+        for (JobProfile.Phase phase : snapshot.phases()) {
+            DistributionSummary.builder("jobs.phase.statements")
+                    .description("SQL statements executed per job phase, by job type and phase")
+                    .tag("type", type)
+                    .tag("phase", phase.name())
+                    .register(meterRegistry)
+                    .record(phase.statements());
         }
     }
 
@@ -84,7 +147,8 @@ public class JobService {
                 state.startedAt,
                 state.finishedAt,
                 state.progress,
-                state.errorMessage
+                state.errorMessage,
+                state.profile.snapshot()
         );
     }
 
@@ -102,40 +166,46 @@ public class JobService {
             OffsetDateTime startedAt,
             OffsetDateTime finishedAt,
             String errorMessage,
-            int progress
+            int progress,
+            JobProfile profile
     ) {
         private static JobState queued(String id, String type) {
             OffsetDateTime now = OffsetDateTime.now();
-            return new JobState(id, type, JobStatus.QUEUED, now, null, null, null, 0);
+            return new JobState(id, type, JobStatus.QUEUED, now, null, null, null, 0, new JobProfile());
         }
 
         private JobState running() {
-            return new JobState(id, type, JobStatus.RUNNING, createdAt, OffsetDateTime.now(), null, null, progress);
+            return new JobState(id, type, JobStatus.RUNNING, createdAt, OffsetDateTime.now(), null, null, progress,
+                    profile);
         }
 
         private JobState succeeded() {
             OffsetDateTime finished = OffsetDateTime.now();
             OffsetDateTime startedTime = startedAt == null ? finished : startedAt;
-            return new JobState(id, type, JobStatus.SUCCEEDED, createdAt, startedTime, finished, null, 100);
+            return new JobState(id, type, JobStatus.SUCCEEDED, createdAt, startedTime, finished, null, 100, profile);
         }
 
         private JobState failed(String message) {
             OffsetDateTime finished = OffsetDateTime.now();
             OffsetDateTime startedTime = startedAt == null ? finished : startedAt;
-            return new JobState(id, type, JobStatus.FAILED, createdAt, startedTime, finished, message, progress);
+            return new JobState(id, type, JobStatus.FAILED, createdAt, startedTime, finished, message, progress,
+                    profile);
         }
 
         private JobState withProgress(int newProgress) {
             int safeProgress = Math.max(0, Math.min(100, newProgress));
-            return new JobState(id, type, status, createdAt, startedAt, finishedAt, errorMessage, safeProgress);
+            return new JobState(id, type, status, createdAt, startedAt, finishedAt, errorMessage, safeProgress,
+                    profile);
         }
     }
 
     private class DefaultJobContext implements JobContext {
         private final String jobId;
+        private final JobProfile profile;
 
-        private DefaultJobContext(String jobId) {
+        private DefaultJobContext(String jobId, JobProfile profile) {
             this.jobId = jobId;
+            this.profile = profile;
         }
 
         @Override
@@ -147,5 +217,10 @@ public class JobService {
         public void updateProgress(int progress) {
             JobService.this.updateProgress(jobId, progress);
         }
+
+        @Override
+        public JobProfile profile() {
+            return profile;
+        }
     }
 }
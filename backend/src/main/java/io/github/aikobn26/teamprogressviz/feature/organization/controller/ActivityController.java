@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import io.github.aikobn26.teamprogressviz.feature.auth.service.GitHubOAuthService;
 import io.github.aikobn26.teamprogressviz.feature.organization.dto.response.ActivitySummaryItemResponse;
+import io.github.aikobn26.teamprogressviz.feature.organization.dto.response.ActivityTimeSeriesResponse;
 import io.github.aikobn26.teamprogressviz.feature.organization.service.ActivityService;
 import io.github.aikobn26.teamprogressviz.feature.repository.dto.response.CommitFeedResponse;
 import io.github.aikobn26.teamprogressviz.feature.user.service.UserService;
@@ -47,6 +48,24 @@ public class ActivityController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/activity/timeseries")
+    public ResponseEntity<ActivityTimeSeriesResponse> timeseries(@PathVariable Long organizationId,
+                                                                 @RequestParam String startDate,
+                                                                 @RequestParam String endDate,
+                                                                 @RequestParam(required = false) String granularity,
+                                                                 @RequestParam(required = false) String groupBy,
+                                                                 HttpSession session) {
+        var authenticated = gitHubOAuthService.getAuthenticatedUser(session);
+        if (authenticated.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        var user = userService.ensureUserExists(authenticated.get());
+        LocalDate start = parseDate(startDate, "startDate");
+        LocalDate end = parseDate(endDate, "endDate");
+        var response = activityService.timeseries(user, organizationId, start, end, granularity, groupBy);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/git-commit/feed")
     public ResponseEntity<CommitFeedResponse> commitFeed(@PathVariable Long organizationId,
                                                          @RequestParam(required = false) String cursor,
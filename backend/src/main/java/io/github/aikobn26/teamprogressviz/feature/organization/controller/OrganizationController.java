@@ -18,6 +18,8 @@ import org.springframework.web.bind.annotation.RestController;
 import io.github.aikobn26.teamprogressviz.feature.auth.service.GitHubOAuthService;
 import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubOrganizationService;
 import io.github.aikobn26.teamprogressviz.feature.job.dto.response.JobSubmissionResponse;
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobFairnessKey;
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobLane;
 import io.github.aikobn26.teamprogressviz.feature.job.service.JobService;
 import io.github.aikobn26.teamprogressviz.feature.organization.dto.request.OrganizationRegistrationRequest;
 import io.github.aikobn26.teamprogressviz.feature.organization.dto.response.OrganizationDetailResponse;
@@ -89,9 +91,11 @@ public class OrganizationController {
 
         var user = userService.ensureUserExists(authenticated.get());
         var result = organizationService.registerOrganization(user, request.login(), request.defaultLinkUrl(), accessToken.get());
-    var job = jobService.submit("job-sync-org", context ->
-        organizationService.synchronizeOrganization(result.organization().getId(), accessToken.get(), context::updateProgress)
-    );
+        var job = jobService.submit("job-sync-org", JobLane.INTERACTIVE,
+                JobFairnessKey.organization(result.organization().getId()), context ->
+                        organizationService.synchronizeOrganization(result.organization().getId(), accessToken.get(), context::updateProgress,
+                                context.profile())
+        );
 
         var response = new OrganizationRegistrationResponse(
                 result.organization().getId(),
@@ -118,7 +122,7 @@ public class OrganizationController {
         }
 
         var user = userService.ensureUserExists(authenticated.get());
-        var onboardingJobs = userOnboardingService.onboardUser(user, accessToken.get());
+        var onboardingJobs = userOnboardingService.onboardUser(user, accessToken.get(), true);
 
         if (!onboardingJobs.isEmpty()) {
             session.setAttribute(UserOnboardingService.SESSION_ATTRIBUTE_ONBOARDING_JOBS, onboardingJobs);
@@ -150,9 +154,10 @@ public class OrganizationController {
         var user = userService.ensureUserExists(authenticated.get());
         organizationService.getAccessibleOrganization(user, organizationId);
 
-    var job = jobService.submit("job-sync-org", context ->
-        organizationService.synchronizeOrganization(organizationId, accessToken.get(), context::updateProgress)
-    );
+        var job = jobService.submit("job-sync-org", JobLane.INTERACTIVE, JobFairnessKey.organization(organizationId), context ->
+                organizationService.synchronizeOrganization(organizationId, accessToken.get(), context::updateProgress,
+                        context.profile())
+        );
 
         var response = new JobSubmissionResponse(job.id(), job.status().name().toLowerCase(Locale.ROOT));
         return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
@@ -172,7 +177,9 @@ public class OrganizationController {
                         status.repositoryFullName(),
                         status.lastSyncedAt(),
                         status.lastSyncedCommitSha(),
-                        status.errorMessage()
+                        status.errorMessage(),
+                        status.consecutiveFailures(),
+                        status.circuitOpenUntil()
                 ))
                 .toList();
         return ResponseEntity.ok(statuses);
@@ -198,7 +205,7 @@ public class OrganizationController {
         var user = userService.ensureUserExists(authenticated.get());
         organizationService.validateDeletePermission(user, organizationId);
 
-        var job = jobService.submit("job-delete-org", () ->
+        var job = jobService.submit("job-delete-org", JobLane.MAINTENANCE, JobFairnessKey.organization(organizationId), () ->
                 organizationService.deleteOrganization(user, organizationId)
         );
 
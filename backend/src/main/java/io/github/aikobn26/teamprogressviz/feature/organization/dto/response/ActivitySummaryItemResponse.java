@@ -1,5 +1,12 @@
 package io.github.aikobn26.teamprogressviz.feature.organization.dto.response;
 
+import java.time.LocalDate;
+
+/**
+ * One group of an activity summary. The user fields are set for {@code groupBy=user}, {@code repositoryId} and
+ * {@code repositoryFullName} for {@code repository}, {@code periodStart} for {@code day} and {@code week}, and
+ * {@code extension} for {@code extension}; the others are {@code null}.
+ */
 public record ActivitySummaryItemResponse(
         Long userId,
         String login,
@@ -9,6 +16,23 @@ public record ActivitySummaryItemResponse(
         long filesChanged,
         long additions,
         long deletions,
-        long availableMinutes
+        long availableMinutes,
+        Long repositoryId,
+        String repositoryFullName,
+        LocalDate periodStart,
+        String extension
 ) {
+
+    public ActivitySummaryItemResponse(Long userId,
+                                       String login,
+                                       String name,
+                                       String avatarUrl,
+                                       long commitCount,
+                                       long filesChanged,
+                                       long additions,
+                                       long deletions,
+                                       long availableMinutes) {
+        this(userId, login, name, avatarUrl, commitCount, filesChanged, additions, deletions, availableMinutes,
+                null, null, null, null);
+    }
 }
@@ -0,0 +1,29 @@
+package io.github.aikobn26.teamprogressviz.feature.organization.dto.response;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public record ActivityTimeSeriesResponse(
+        LocalDate startDate,
+        LocalDate endDate,
+        String granularity,
+        String groupBy,
+        boolean lineCountsAvailable,
+        List<Series> series
+) {
+
+    public record Series(
+            Long id,
+            String name,
+            List<Point> points
+    ) {}
+
+    public record Point(
+            OffsetDateTime bucketStart,
+            long commitCount,
+            long additions,
+            long deletions,
+            long mergedPullRequests
+    ) {}
+}
@@ -7,5 +7,7 @@ public record RepositorySyncStatusResponse(
         String repositoryFullName,
         OffsetDateTime lastSyncedAt,
         String lastSyncedCommitSha,
-        String errorMessage
+        String errorMessage,
+        int consecutiveFailures,
+        OffsetDateTime circuitOpenUntil
 ) {}
\ No newline at end of file
@@ -0,0 +1,96 @@
+package io.github.aikobn26.teamprogressviz.feature.organization.entity;
+
+import java.time.OffsetDateTime;
+
+import io.github.aikobn26.teamprogressviz.feature.organization.model.ActivityBucketGranularity;
+import io.github.aikobn26.teamprogressviz.feature.repository.entity.Repository;
+import io.github.aikobn26.teamprogressviz.feature.user.entity.User;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Pre-aggregated activity counters for one repository, author and UTC hour or day. Rows carry no soft-delete marker:
+ * they are derived data and are rebuilt from commits and pull requests by {@code ActivityBucketService}. A missing
+ * author means the commit could not be linked to a GitHub account.
+ */
+@Entity
+@Table(name = "activity_bucket")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@ToString
+public class ActivityBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "organization_id")
+    @ToString.Exclude
+    private Organization organization;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "repository_id")
+    @ToString.Exclude
+    private Repository repository;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    @ToString.Exclude
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 16)
+    private ActivityBucketGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private OffsetDateTime bucketStart;
+
+    @Column(name = "commit_count", nullable = false)
+    private int commitCount;
+
+    @Column(name = "additions", nullable = false)
+    private int additions;
+
+    @Column(name = "deletions", nullable = false)
+    private int deletions;
+
+    @Column(name = "merged_pull_requests", nullable = false)
+    private int mergedPullRequests;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+
+    @PrePersist
+    void onCreate() {
+        if (updatedAt == null) {
+            updatedAt = OffsetDateTime.now();
+        }
+    }
+
+    @PreUpdate
+    void onUpdate() {
+        updatedAt = OffsetDateTime.now();
+    }
+}
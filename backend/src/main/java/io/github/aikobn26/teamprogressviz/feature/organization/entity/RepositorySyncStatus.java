@@ -2,9 +2,12 @@ package io.github.aikobn26.teamprogressviz.feature.organization.entity;
 
 import java.time.OffsetDateTime;
 
+import io.github.aikobn26.teamprogressviz.feature.organization.model.SyncCheckpointPhase;
 import io.github.aikobn26.teamprogressviz.feature.repository.entity.Repository;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -50,6 +53,27 @@ public class RepositorySyncStatus {
     @Column(name = "error_message")
     private String errorMessage;
 
+    @Builder.Default
+    @Column(name = "consecutive_failures", nullable = false)
+    private int consecutiveFailures = 0;
+
+    @Column(name = "circuit_open_until")
+    private OffsetDateTime circuitOpenUntil;
+
+    @Column(name = "checkpoint_run_id", length = 64)
+    private String checkpointRunId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "checkpoint_phase", length = 32)
+    private SyncCheckpointPhase checkpointPhase;
+
+    @Column(name = "checkpoint_cursor")
+    private String checkpointCursor;
+
+    // Written only through set-based statements so that saving this entity never overwrites a concurrent mark.
+    @Column(name = "bucket_dirty_since", insertable = false, updatable = false)
+    private OffsetDateTime bucketDirtySince;
+
     @Column(name = "updated_at", nullable = false)
     private OffsetDateTime updatedAt;
 
@@ -68,6 +92,10 @@ public class RepositorySyncStatus {
         updatedAt = OffsetDateTime.now();
     }
 
+    public boolean isCircuitOpen(OffsetDateTime now) {
+        return circuitOpenUntil != null && circuitOpenUntil.isAfter(now);
+    }
+
     public boolean isDeleted() {
         return deletedAt != null;
     }
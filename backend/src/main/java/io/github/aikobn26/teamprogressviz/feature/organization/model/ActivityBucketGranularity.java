@@ -0,0 +1,21 @@
+package io.github.aikobn26.teamprogressviz.feature.organization.model;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+public enum ActivityBucketGranularity {
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    ActivityBucketGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    // Buckets are aligned to UTC so that every reader sees the same boundaries.
+    public OffsetDateTime bucketStart(OffsetDateTime timestamp) {
+        return timestamp.withOffsetSameInstant(ZoneOffset.UTC).truncatedTo(unit);
+    }
+}
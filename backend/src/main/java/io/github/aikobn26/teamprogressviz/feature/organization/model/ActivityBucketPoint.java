@@ -0,0 +1,13 @@
+package io.github.aikobn26.teamprogressviz.feature.organization.model;
+
+import java.time.OffsetDateTime;
+
+public record ActivityBucketPoint(
+        OffsetDateTime bucketStart,
+        Long repositoryId,
+        Long userId,
+        int commitCount,
+        int additions,
+        int deletions,
+        int mergedPullRequests) {
+}
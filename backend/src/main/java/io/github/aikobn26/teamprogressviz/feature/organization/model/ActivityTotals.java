@@ -0,0 +1,14 @@
+package io.github.aikobn26.teamprogressviz.feature.organization.model;
+
+/**
+ * One row of an activity summary aggregated by the database; {@code key} is the grouping value (user id, repository
+ * id, date or file extension).
+ */
+public record ActivityTotals<K>(
+        K key,
+        long commitCount,
+        long filesChanged,
+        long additions,
+        long deletions,
+        long availableMinutes) {
+}
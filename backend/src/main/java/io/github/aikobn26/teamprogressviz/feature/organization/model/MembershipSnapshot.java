@@ -0,0 +1,15 @@
+package io.github.aikobn26.teamprogressviz.feature.organization.model;
+
+import java.time.OffsetDateTime;
+
+public record MembershipSnapshot(
+        Long id,
+        Long userId,
+        String role,
+        OffsetDateTime deletedAt
+) {
+
+    public boolean deleted() {
+        return deletedAt != null;
+    }
+}
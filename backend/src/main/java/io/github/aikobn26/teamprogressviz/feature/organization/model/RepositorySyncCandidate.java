@@ -0,0 +1,17 @@
+package io.github.aikobn26.teamprogressviz.feature.organization.model;
+
+import java.time.OffsetDateTime;
+
+public record RepositorySyncCandidate(
+        Long repositoryId,
+        Long organizationId,
+        boolean archived,
+        OffsetDateTime lastSyncedAt,
+        String errorMessage,
+        OffsetDateTime lastCommitAt
+) {
+
+    public boolean failing() {
+        return errorMessage != null;
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.aikobn26.teamprogressviz.feature.organization.model;
+
+public enum SyncCheckpointPhase {
+    PULL_REQUESTS,
+    COMMITS,
+    COMPLETED
+}
@@ -1,5 +1,7 @@
 package io.github.aikobn26.teamprogressviz.feature.organization.properties;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "organization.sync")
@@ -9,6 +11,14 @@ public class OrganizationSyncProperties {
 
     private boolean fetchPullRequestDetails = true;
 
+    private int repositoryConcurrency = 1;
+
+    private Duration checkpointTtl = Duration.ofHours(24);
+
+    private Duration runLease = Duration.ofMinutes(10);
+
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+
     public boolean isFetchCommitDetails() {
         return fetchCommitDetails;
     }
@@ -24,4 +34,65 @@ public class OrganizationSyncProperties {
     public void setFetchPullRequestDetails(boolean fetchPullRequestDetails) {
         this.fetchPullRequestDetails = fetchPullRequestDetails;
     }
+
+    public int getRepositoryConcurrency() {
+        return repositoryConcurrency;
+    }
+
+    public void setRepositoryConcurrency(int repositoryConcurrency) {
+        this.repositoryConcurrency = repositoryConcurrency;
+    }
+
+    public Duration getCheckpointTtl() {
+        return checkpointTtl;
+    }
+
+    public void setCheckpointTtl(Duration checkpointTtl) {
+        this.checkpointTtl = checkpointTtl;
+    }
+
+    public Duration getRunLease() {
+        return runLease;
+    }
+
+    public void setRunLease(Duration runLease) {
+        this.runLease = runLease;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public static class CircuitBreaker {
+
+        private int failureThreshold = 3;
+
+        private Duration coolDown = Duration.ofHours(1);
+
+        private Duration maxCoolDown = Duration.ofHours(24);
+
+        public int getFailureThreshold() {
+            return failureThreshold;
+        }
+
+        public void setFailureThreshold(int failureThreshold) {
+            this.failureThreshold = failureThreshold;
+        }
+
+        public Duration getCoolDown() {
+            return coolDown;
+        }
+
+        public void setCoolDown(Duration coolDown) {
+            this.coolDown = coolDown;
+        }
+
+        public Duration getMaxCoolDown() {
+            return maxCoolDown;
+        }
+
+        public void setMaxCoolDown(Duration maxCoolDown) {
+            this.maxCoolDown = maxCoolDown;
+        }
+    }
 }
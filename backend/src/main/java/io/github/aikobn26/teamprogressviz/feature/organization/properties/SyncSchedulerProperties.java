@@ -0,0 +1,79 @@
+package io.github.aikobn26.teamprogressviz.feature.organization.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "organization.sync.scheduler")
+public class SyncSchedulerProperties {
+
+    private boolean enabled = false;
+
+    private String token;
+
+    private Duration interval = Duration.ofMinutes(1);
+
+    private Duration staleAfter = Duration.ofHours(6);
+
+    private int requestBudgetPerHour = 2000;
+
+    private int estimatedRequestsPerRepository = 50;
+
+    private int candidateLimit = 200;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public Duration getStaleAfter() {
+        return staleAfter;
+    }
+
+    public void setStaleAfter(Duration staleAfter) {
+        this.staleAfter = staleAfter;
+    }
+
+    public int getRequestBudgetPerHour() {
+        return requestBudgetPerHour;
+    }
+
+    public void setRequestBudgetPerHour(int requestBudgetPerHour) {
+        this.requestBudgetPerHour = requestBudgetPerHour;
+    }
+
+    public int getEstimatedRequestsPerRepository() {
+        return estimatedRequestsPerRepository;
+    }
+
+    public void setEstimatedRequestsPerRepository(int estimatedRequestsPerRepository) {
+        this.estimatedRequestsPerRepository = estimatedRequestsPerRepository;
+    }
+
+    public int getCandidateLimit() {
+        return candidateLimit;
+    }
+
+    public void setCandidateLimit(int candidateLimit) {
+        this.candidateLimit = candidateLimit;
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.aikobn26.teamprogressviz.feature.organization.repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.ActivityBucket;
+import io.github.aikobn26.teamprogressviz.feature.organization.model.ActivityBucketGranularity;
+import io.github.aikobn26.teamprogressviz.feature.organization.model.ActivityBucketPoint;
+
+@Repository
+public interface ActivityBucketRepository extends JpaRepository<ActivityBucket, Long> {
+
+    @Query("""
+                    select new io.github.aikobn26.teamprogressviz.feature.organization.model.ActivityBucketPoint(
+                        b.bucketStart, b.repository.id, b.user.id, b.commitCount, b.additions, b.deletions, b.mergedPullRequests)
+                    from ActivityBucket b
+                    where b.organization.id = :organizationId
+                        and b.granularity = :granularity
+                        and b.bucketStart >= :from
+                        and b.bucketStart < :to
+                        and b.repository.deletedAt is null
+                    order by b.bucketStart asc
+                    """)
+    List<ActivityBucketPoint> findPoints(@Param("organizationId") Long organizationId,
+                                         @Param("granularity") ActivityBucketGranularity granularity,
+                                         @Param("from") OffsetDateTime from,
+                                         @Param("to") OffsetDateTime to);
+}
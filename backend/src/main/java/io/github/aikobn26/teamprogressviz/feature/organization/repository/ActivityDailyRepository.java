@@ -5,9 +5,12 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import io.github.aikobn26.teamprogressviz.feature.organization.entity.ActivityDaily;
+import io.github.aikobn26.teamprogressviz.feature.organization.model.ActivityTotals;
 
 
 @Repository
@@ -27,4 +30,40 @@ public interface ActivityDailyRepository extends JpaRepository<ActivityDaily, Lo
                                                                                                     LocalDate endDate);
 
     List<ActivityDaily> findByUserIdAndDeletedAtIsNull(Long userId);
+
+    @Query("""
+                    select new io.github.aikobn26.teamprogressviz.feature.organization.model.ActivityTotals(
+                        a.user.id,
+                        coalesce(sum(a.commitCount), 0L),
+                        coalesce(sum(a.filesChanged), 0L),
+                        coalesce(sum(a.additions), 0L),
+                        coalesce(sum(a.deletions), 0L),
+                        coalesce(sum(a.availableMinutes), 0L))
+                    from ActivityDaily a
+                    where a.organization.id = :organizationId
+                        and a.date between :startDate and :endDate
+                        and a.deletedAt is null
+                    group by a.user.id
+                    """)
+    List<ActivityTotals<Long>> sumByUser(@Param("organizationId") Long organizationId,
+                                         @Param("startDate") LocalDate startDate,
+                                         @Param("endDate") LocalDate endDate);
+
+    @Query("""
+                    select new io.github.aikobn26.teamprogressviz.feature.organization.model.ActivityTotals(
+                        a.date,
+                        coalesce(sum(a.commitCount), 0L),
+                        coalesce(sum(a.filesChanged), 0L),
+                        coalesce(sum(a.additions), 0L),
+                        coalesce(sum(a.deletions), 0L),
+                        coalesce(sum(a.availableMinutes), 0L))
+                    from ActivityDaily a
+                    where a.organization.id = :organizationId
+                        and a.date between :startDate and :endDate
+                        and a.deletedAt is null
+                    group by a.date
+                    """)
+    List<ActivityTotals<LocalDate>> sumByDate(@Param("organizationId") Long organizationId,
+                                              @Param("startDate") LocalDate startDate,
+                                              @Param("endDate") LocalDate endDate);
 }
@@ -4,6 +4,7 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -12,6 +13,7 @@ import io.github.aikobn26.teamprogressviz.feature.organization.entity.Comment;
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    @EntityGraph(attributePaths = "user")
     Page<Comment> findByOrganizationIdAndDeletedAtIsNull(Long organizationId, Pageable pageable);
 
     Page<Comment> findByOrganizationIdAndTargetTypeIgnoreCaseAndDeletedAtIsNull(Long organizationId, String targetType, Pageable pageable);
@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -19,6 +20,7 @@ public interface DailyStatusRepository extends JpaRepository<DailyStatus, Long>
                                                                                  Long userId,
                                                                                  LocalDate date);
 
+    @EntityGraph(attributePaths = "user")
     List<DailyStatus> findByOrganizationIdAndDateAndDeletedAtIsNull(Long organizationId, LocalDate date);
 
     List<DailyStatus> findByOrganizationIdAndUserIdAndDateLessThanEqualAndDeletedAtIsNullOrderByDateDesc(
@@ -0,0 +1,12 @@
+package io.github.aikobn26.teamprogressviz.feature.organization.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.OrganizationSyncCheckpoint;
+
+public interface OrganizationSyncCheckpointRepository extends JpaRepository<OrganizationSyncCheckpoint, Long> {
+
+    Optional<OrganizationSyncCheckpoint> findByOrganizationId(Long organizationId);
+}
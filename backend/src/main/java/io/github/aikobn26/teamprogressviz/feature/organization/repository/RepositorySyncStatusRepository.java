@@ -1,9 +1,13 @@
 package io.github.aikobn26.teamprogressviz.feature.organization.repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import io.github.aikobn26.teamprogressviz.feature.organization.entity.RepositorySyncStatus;
 
@@ -11,5 +15,15 @@ public interface RepositorySyncStatusRepository extends JpaRepository<Repository
 
     Optional<RepositorySyncStatus> findByRepositoryId(Long repositoryId);
 
+    List<RepositorySyncStatus> findByRepositoryIdIn(Collection<Long> repositoryIds);
+
     List<RepositorySyncStatus> findByRepositoryOrganizationIdAndDeletedAtIsNull(Long organizationId);
+
+    @Query("""
+            select s.repository.id from RepositorySyncStatus s
+            where s.repository.organization.id = :organizationId
+              and s.deletedAt is null
+              and s.circuitOpenUntil > :now
+            """)
+    List<Long> findCircuitOpenRepositoryIds(@Param("organizationId") Long organizationId, @Param("now") OffsetDateTime now);
 }
\ No newline at end of file
@@ -1,12 +1,18 @@
 package io.github.aikobn26.teamprogressviz.feature.organization.repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import io.github.aikobn26.teamprogressviz.feature.organization.entity.UserOrganization;
+import io.github.aikobn26.teamprogressviz.feature.organization.model.MembershipSnapshot;
 
 
 @Repository
@@ -21,4 +27,32 @@ public interface UserOrganizationRepository extends JpaRepository<UserOrganizati
     List<UserOrganization> findByOrganizationIdAndDeletedAtIsNull(Long organizationId);
 
     boolean existsByOrganizationIdAndDeletedAtIsNull(Long organizationId);
+
+    @Query("""
+            select new io.github.aikobn26.teamprogressviz.feature.organization.model.MembershipSnapshot(
+                m.id, m.user.id, m.role, m.deletedAt)
+            from UserOrganization m
+            where m.organization.id = :organizationId
+            """)
+    List<MembershipSnapshot> findSnapshotsByOrganizationId(@Param("organizationId") Long organizationId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update UserOrganization m
+            set m.deletedAt = null,
+                m.joinedAt = coalesce(m.joinedAt, :now),
+                m.role = coalesce(nullif(m.role, ''), 'member'),
+                m.updatedAt = :now
+            where m.id in :ids
+            """)
+    int reactivateByIdIn(@Param("ids") Collection<Long> ids, @Param("now") OffsetDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update UserOrganization m
+            set m.deletedAt = :now,
+                m.updatedAt = :now
+            where m.id in :ids
+            """)
+    int softDeleteByIdIn(@Param("ids") Collection<Long> ids, @Param("now") OffsetDateTime now);
 }
@@ -0,0 +1,125 @@
+package io.github.aikobn26.teamprogressviz.feature.organization.service;
+
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.aikobn26.teamprogressviz.feature.organization.model.ActivityBucketGranularity;
+import io.github.aikobn26.teamprogressviz.shared.concurrency.KeyLockManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keeps {@code activity_bucket} in line with the stored commits and pull requests of a repository. A refresh
+ * recomputes every bucket from the first touched UTC day onwards, so it is idempotent and history older than the
+ * change is never rewritten.
+ */
+@Service
+@RequiredArgsConstructor
+public class ActivityBucketService {
+
+    private static final String COMMIT_ACTIVITY_SQL = """
+            select c.committed_at, c.author_user_id,
+                coalesce(sum(f.additions), 0), coalesce(sum(f.deletions), 0)
+            from git_commit c
+            left join commit_file f on f.commit_id = c.id and f.deleted_at is null
+            where c.repository_id = ? and c.deleted_at is null and c.committed_at >= ?
+            group by c.id, c.committed_at, c.author_user_id
+            """;
+
+    private static final String MERGED_PULL_REQUEST_SQL = """
+            select merged_at, author_user_id
+            from pull_request
+            where repository_id = ? and deleted_at is null and merged = true and merged_at >= ?
+            """;
+
+    private static final String DELETE_BUCKETS_SQL =
+            "delete from activity_bucket where repository_id = ? and bucket_start >= ?";
+
+    private static final String INSERT_BUCKET_SQL = """
+            insert into activity_bucket (organization_id, repository_id, user_id, granularity, bucket_start,
+                commit_count, additions, deletions, merged_pull_requests, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final KeyLockManager keyLockManager;
+
+    @Transactional
+    public int refreshRepository(Long organizationId, Long repositoryId, OffsetDateTime since) {
+        if (organizationId == null || repositoryId == null || since == null) {
+            throw new IllegalArgumentException("organizationId, repositoryId and since must not be null");
+        }
+        OffsetDateTime from = ActivityBucketGranularity.DAY.bucketStart(since);
+
+        // Overlapping syncs of the same repository would otherwise insert the same buckets twice.
+        return keyLockManager.callWithLock("activity-bucket:repository:" + repositoryId, () -> {
+            Map<BucketKey, Counters> buckets = new LinkedHashMap<>();
+            jdbcTemplate.query(COMMIT_ACTIVITY_SQL, rs -> {
+                OffsetDateTime committedAt = rs.getObject(1, OffsetDateTime.class);
+                Long userId = rs.getObject(2, Long.class);
+                int additions = rs.getInt(3);
+                int deletions = rs.getInt(4);
+                for (ActivityBucketGranularity granularity : ActivityBucketGranularity.values()) {
+                    Counters counters = counters(buckets, granularity, committedAt, userId);
+                    counters.commitCount++;
+                    counters.additions += additions;
+                    counters.deletions += deletions;
+                }
+            }, repositoryId, from);
+            jdbcTemplate.query(MERGED_PULL_REQUEST_SQL, rs -> {
+                OffsetDateTime mergedAt = rs.getObject(1, OffsetDateTime.class);
+                Long userId = rs.getObject(2, Long.class);
+                for (ActivityBucketGranularity granularity : ActivityBucketGranularity.values()) {
+                    counters(buckets, granularity, mergedAt, userId).mergedPullRequests++;
+                }
+            }, repositoryId, from);
+
+            jdbcTemplate.update(DELETE_BUCKETS_SQL, repositoryId, from);
+            if (buckets.isEmpty()) {
+                return 0;
+            }
+            OffsetDateTime now = OffsetDateTime.now();
+            List<Map.Entry<BucketKey, Counters>> rows = new ArrayList<>(buckets.entrySet());
+            jdbcTemplate.batchUpdate(INSERT_BUCKET_SQL, rows, rows.size(), (statement, row) -> {
+                BucketKey key = row.getKey();
+                Counters counters = row.getValue();
+                statement.setLong(1, organizationId);
+                statement.setLong(2, repositoryId);
+                statement.setObject(3, key.userId(), Types.BIGINT);
+                statement.setString(4, key.granularity().name());
+                statement.setObject(5, key.bucketStart());
+                statement.setInt(6, counters.commitCount);
+                statement.setInt(7, counters.additions);
+                statement.setInt(8, counters.deletions);
+                statement.setInt(9, counters.mergedPullRequests);
+                statement.setObject(10, now);
+            });
+            return rows.size();
+        });
+    }
+
+    private static Counters counters(Map<BucketKey, Counters> buckets,
+                                     ActivityBucketGranularity granularity,
+                                     OffsetDateTime timestamp,
+                                     Long userId) {
+        return buckets.computeIfAbsent(new BucketKey(granularity, granularity.bucketStart(timestamp), userId),
+                key -> new Counters());
+    }
+
+    private record BucketKey(ActivityBucketGranularity granularity, OffsetDateTime bucketStart, Long userId) {
+    }
+
+    private static final class Counters {
+        private int commitCount;
+        private int additions;
+        private int deletions;
+        private int mergedPullRequests;
+    }
+}
@@ -1,11 +1,21 @@
 package io.github.aikobn26.teamprogressviz.feature.organization.service;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
@@ -16,13 +26,20 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import io.github.aikobn26.teamprogressviz.feature.organization.dto.response.ActivitySummaryItemResponse;
-import io.github.aikobn26.teamprogressviz.feature.organization.entity.ActivityDaily;
+import io.github.aikobn26.teamprogressviz.feature.organization.dto.response.ActivityTimeSeriesResponse;
 import io.github.aikobn26.teamprogressviz.feature.organization.entity.Organization;
+import io.github.aikobn26.teamprogressviz.feature.organization.model.ActivityBucketGranularity;
+import io.github.aikobn26.teamprogressviz.feature.organization.model.ActivityBucketPoint;
+import io.github.aikobn26.teamprogressviz.feature.organization.model.ActivityTotals;
+import io.github.aikobn26.teamprogressviz.feature.organization.properties.OrganizationSyncProperties;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.ActivityBucketRepository;
 import io.github.aikobn26.teamprogressviz.feature.organization.repository.ActivityDailyRepository;
 import io.github.aikobn26.teamprogressviz.feature.repository.dto.response.CommitFeedResponse;
 import io.github.aikobn26.teamprogressviz.feature.repository.entity.GitCommit;
 import io.github.aikobn26.teamprogressviz.feature.repository.repository.GitCommitRepository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.RepositoryRepository;
 import io.github.aikobn26.teamprogressviz.feature.user.entity.User;
+import io.github.aikobn26.teamprogressviz.feature.user.repository.UserRepository;
 import io.github.aikobn26.teamprogressviz.shared.exception.ValidationException;
 import lombok.RequiredArgsConstructor;
 
@@ -33,10 +50,16 @@ public class ActivityService {
 
     private static final int DEFAULT_FEED_LIMIT = 20;
     private static final int MAX_FEED_LIMIT = 100;
+    private static final int MAX_HOURLY_RANGE_DAYS = 31;
+    private static final int MAX_RANGE_DAYS = 366;
 
     private final OrganizationService organizationService;
     private final ActivityDailyRepository activityDailyRepository;
+    private final ActivityBucketRepository activityBucketRepository;
     private final GitCommitRepository gitCommitRepository;
+    private final RepositoryRepository repositoryRepository;
+    private final UserRepository userRepository;
+    private final OrganizationSyncProperties organizationSyncProperties;
 
     public List<ActivitySummaryItemResponse> summarize(User user,
                                                         Long organizationId,
@@ -51,27 +74,86 @@ public class ActivityService {
             throw new ValidationException("endDate must not be before startDate");
         }
 
-        List<ActivityDaily> activities = activityDailyRepository
-                .findByOrganizationIdAndDateBetweenAndDeletedAtIsNull(organization.getId(), startDate, endDate);
+        String normalizedGroup = groupBy == null ? "user" : groupBy.toLowerCase(Locale.ROOT);
+        Long id = organization.getId();
+        // Aggregation runs in the database; only one row per group is loaded.
+        return switch (normalizedGroup) {
+            case "user" -> summarizeByUser(activityDailyRepository.sumByUser(id, startDate, endDate));
+            case "repository" -> summarizeByRepository(gitCommitRepository.sumByRepository(id,
+                    startDate.atStartOfDay().atOffset(ZoneOffset.UTC),
+                    endDate.plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC)));
+            case "day" -> summarizeByPeriod(activityDailyRepository.sumByDate(id, startDate, endDate), false);
+            case "week" -> summarizeByPeriod(activityDailyRepository.sumByDate(id, startDate, endDate), true);
+            case "extension" -> summarizeByExtension(gitCommitRepository.sumByExtension(id,
+                    startDate.atStartOfDay().atOffset(ZoneOffset.UTC),
+                    endDate.plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC)));
+            default -> throw new ValidationException("Unsupported groupBy value: " + groupBy);
+        };
+    }
+
+    public ActivityTimeSeriesResponse timeseries(User user,
+                                                 Long organizationId,
+                                                 LocalDate startDate,
+                                                 LocalDate endDate,
+                                                 String granularity,
+                                                 String groupBy) {
+        Organization organization = organizationService.getAccessibleOrganization(user, organizationId);
+        if (startDate == null || endDate == null) {
+            throw new ValidationException("startDate and endDate are required");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new ValidationException("endDate must not be before startDate");
+        }
+
+        String normalizedGranularity = granularity == null ? "day" : granularity.toLowerCase(Locale.ROOT);
+        ActivityBucketGranularity source = switch (normalizedGranularity) {
+            case "hour" -> ActivityBucketGranularity.HOUR;
+            case "day", "week" -> ActivityBucketGranularity.DAY;
+            default -> throw new ValidationException("Unsupported granularity value: " + granularity);
+        };
+        int maxDays = source == ActivityBucketGranularity.HOUR ? MAX_HOURLY_RANGE_DAYS : MAX_RANGE_DAYS;
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > maxDays) {
+            throw new ValidationException("Range must not exceed " + maxDays + " days for granularity " + normalizedGranularity);
+        }
 
         String normalizedGroup = groupBy == null ? "user" : groupBy.toLowerCase(Locale.ROOT);
-        if (!"user".equals(normalizedGroup)) {
-            throw new ValidationException("Unsupported groupBy value: " + groupBy);
+        Function<ActivityBucketPoint, Long> groupKey = switch (normalizedGroup) {
+            case "organization" -> point -> organization.getId();
+            case "repository" -> ActivityBucketPoint::repositoryId;
+            case "user" -> ActivityBucketPoint::userId;
+            default -> throw new ValidationException("Unsupported groupBy value: " + groupBy);
+        };
+        boolean weekly = "week".equals(normalizedGranularity);
+
+        List<ActivityBucketPoint> buckets = activityBucketRepository.findPoints(
+                organization.getId(),
+                source,
+                startDate.atStartOfDay().atOffset(ZoneOffset.UTC),
+                endDate.plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC));
+
+        // Rows are already pre-aggregated, so this is linear in the number of buckets in range.
+        Map<Long, TreeMap<OffsetDateTime, ActivityTimeSeriesResponse.Point>> grouped = new HashMap<>();
+        for (ActivityBucketPoint bucket : buckets) {
+            OffsetDateTime start = weekly
+                    ? bucket.bucketStart().withOffsetSameInstant(ZoneOffset.UTC)
+                            .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                    : bucket.bucketStart().withOffsetSameInstant(ZoneOffset.UTC);
+            grouped.computeIfAbsent(groupKey.apply(bucket), key -> new TreeMap<>())
+                    .merge(start, toPoint(start, bucket), this::mergePoint);
         }
 
-        Map<Long, List<ActivityDaily>> grouped = activities.stream()
-                .filter(activity -> activity.getUser() != null && activity.getUser().getId() != null)
-                .collect(Collectors.groupingBy(activity -> activity.getUser().getId()));
-
-        return grouped.values().stream()
-                .map(entries -> entries.stream()
-                        .sorted(Comparator.comparing(ActivityDaily::getDate).reversed())
-                        .reduce(this::mergeActivity)
-                        .map(this::toSummary)
-                        .orElse(null))
-                .filter(Objects::nonNull)
-                .sorted(Comparator.comparing(ActivitySummaryItemResponse::userId, Comparator.nullsLast(Long::compareTo)))
+        Map<Long, String> names = resolveSeriesNames(normalizedGroup, organization, grouped.keySet());
+        List<ActivityTimeSeriesResponse.Series> series = grouped.entrySet().stream()
+                .map(entry -> new ActivityTimeSeriesResponse.Series(
+                        entry.getKey(),
+                        names.get(entry.getKey()),
+                        List.copyOf(entry.getValue().values())))
+                .sorted(Comparator.comparing(ActivityTimeSeriesResponse.Series::id, Comparator.nullsLast(Long::compareTo)))
                 .toList();
+        // Additions and deletions are summed from commit files, which are only stored when commit details are fetched.
+        boolean lineCountsAvailable = organizationSyncProperties.isFetchCommitDetails();
+        return new ActivityTimeSeriesResponse(startDate, endDate, normalizedGranularity, normalizedGroup,
+                lineCountsAvailable, series);
     }
 
     public CommitFeedResponse fetchCommitFeed(User user,
@@ -114,33 +196,122 @@ public class ActivityService {
         return Math.min(limit, MAX_FEED_LIMIT);
     }
 
-    private ActivityDaily mergeActivity(ActivityDaily left, ActivityDaily right) {
-        ActivityDaily merged = ActivityDaily.builder()
-                .organization(left.getOrganization())
-                .user(left.getUser())
-                .date(left.getDate())
-                .commitCount(sum(left.getCommitCount(), right.getCommitCount()))
-                .filesChanged(sum(left.getFilesChanged(), right.getFilesChanged()))
-                .additions(sum(left.getAdditions(), right.getAdditions()))
-                .deletions(sum(left.getDeletions(), right.getDeletions()))
-                .availableMinutes(sum(left.getAvailableMinutes(), right.getAvailableMinutes()))
-                .build();
-        return merged;
+    private Map<Long, String> resolveSeriesNames(String groupBy, Organization organization, Set<Long> keys) {
+        Set<Long> ids = new HashSet<>(keys);
+        ids.remove(null);
+        Map<Long, String> names = new HashMap<>();
+        switch (groupBy) {
+            case "organization" -> names.put(organization.getId(), organization.getLogin());
+            case "repository" -> repositoryRepository.findAllById(ids)
+                    .forEach(repository -> names.put(repository.getId(), repository.getName()));
+            default -> userRepository.findAllById(ids)
+                    .forEach(owner -> names.put(owner.getId(), owner.getLogin()));
+        }
+        return names;
+    }
+
+    private ActivityTimeSeriesResponse.Point toPoint(OffsetDateTime bucketStart, ActivityBucketPoint bucket) {
+        return new ActivityTimeSeriesResponse.Point(
+                bucketStart,
+                bucket.commitCount(),
+                bucket.additions(),
+                bucket.deletions(),
+                bucket.mergedPullRequests());
+    }
+
+    private ActivityTimeSeriesResponse.Point mergePoint(ActivityTimeSeriesResponse.Point left,
+                                                        ActivityTimeSeriesResponse.Point right) {
+        return new ActivityTimeSeriesResponse.Point(
+                left.bucketStart(),
+                left.commitCount() + right.commitCount(),
+                left.additions() + right.additions(),
+                left.deletions() + right.deletions(),
+                left.mergedPullRequests() + right.mergedPullRequests());
+    }
+
+    private List<ActivitySummaryItemResponse> summarizeByUser(List<ActivityTotals<Long>> totals) {
+        Set<Long> ids = totals.stream().map(ActivityTotals::key).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<Long, User> owners = new HashMap<>();
+        userRepository.findAllById(ids).forEach(owner -> owners.put(owner.getId(), owner));
+        return totals.stream()
+                .filter(row -> row.key() != null)
+                .sorted(Comparator.comparing(ActivityTotals::key))
+                .map(row -> {
+                    User owner = owners.get(row.key());
+                    return new ActivitySummaryItemResponse(
+                            row.key(),
+                            owner != null ? owner.getLogin() : null,
+                            owner != null ? owner.getName() : null,
+                            owner != null ? owner.getAvatarUrl() : null,
+                            row.commitCount(),
+                            row.filesChanged(),
+                            row.additions(),
+                            row.deletions(),
+                            row.availableMinutes());
+                })
+                .toList();
+    }
+
+    private List<ActivitySummaryItemResponse> summarizeByRepository(List<ActivityTotals<Long>> totals) {
+        Set<Long> ids = totals.stream().map(ActivityTotals::key).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<Long, String> fullNames = new HashMap<>();
+        repositoryRepository.findAllById(ids)
+                .forEach(repository -> fullNames.put(repository.getId(), repository.getFullName()));
+        return totals.stream()
+                .sorted(Comparator.comparing(ActivityTotals::key, Comparator.nullsLast(Long::compareTo)))
+                .map(row -> toSummary(row, row.key(), fullNames.get(row.key()), null, null))
+                .toList();
+    }
+
+    // Daily rows are already aggregated, so the weekly roll-up is linear in the number of days in range.
+    private List<ActivitySummaryItemResponse> summarizeByPeriod(List<ActivityTotals<LocalDate>> totals, boolean weekly) {
+        TreeMap<LocalDate, ActivityTotals<LocalDate>> periods = new TreeMap<>();
+        for (ActivityTotals<LocalDate> row : totals) {
+            LocalDate start = weekly ? row.key().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)) : row.key();
+            periods.merge(start, new ActivityTotals<>(start, row.commitCount(), row.filesChanged(), row.additions(),
+                    row.deletions(), row.availableMinutes()), this::mergeTotals);
+        }
+        return periods.values().stream()
+                .map(row -> toSummary(row, null, null, row.key(), null))
+                .toList();
+    }
+
+    private List<ActivitySummaryItemResponse> summarizeByExtension(List<ActivityTotals<String>> totals) {
+        return totals.stream()
+                .sorted(Comparator.comparing(ActivityTotals::key, Comparator.nullsLast(String::compareTo)))
+                .map(row -> toSummary(row, null, null, null, row.key()))
+                .toList();
     }
 
-    private ActivitySummaryItemResponse toSummary(ActivityDaily activity) {
-        User owner = activity.getUser();
+    private <K> ActivityTotals<K> mergeTotals(ActivityTotals<K> left, ActivityTotals<K> right) {
+        return new ActivityTotals<>(
+                left.key(),
+                left.commitCount() + right.commitCount(),
+                left.filesChanged() + right.filesChanged(),
+                left.additions() + right.additions(),
+                left.deletions() + right.deletions(),
+                left.availableMinutes() + right.availableMinutes());
+    }
+
+    private ActivitySummaryItemResponse toSummary(ActivityTotals<?> totals,
+                                                  Long repositoryId,
+                                                  String repositoryFullName,
+                                                  LocalDate periodStart,
+                                                  String extension) {
         return new ActivitySummaryItemResponse(
-                owner != null ? owner.getId() : null,
-                owner != null ? owner.getLogin() : null,
-                owner != null ? owner.getName() : null,
-                owner != null ? owner.getAvatarUrl() : null,
-                asLong(activity.getCommitCount()),
-                asLong(activity.getFilesChanged()),
-                asLong(activity.getAdditions()),
-                asLong(activity.getDeletions()),
-                asLong(activity.getAvailableMinutes())
-        );
+                null,
+                null,
+                null,
+                null,
+                totals.commitCount(),
+                totals.filesChanged(),
+                totals.additions(),
+                totals.deletions(),
+                totals.availableMinutes(),
+                repositoryId,
+                repositoryFullName,
+                periodStart,
+                extension);
     }
 
     private CommitFeedResponse.Item toCommitItem(GitCommit commit) {
@@ -156,14 +327,4 @@ public class ActivityService {
                 commit.getHtmlUrl()
         );
     }
-
-    private int sum(Integer left, Integer right) {
-        int a = left == null ? 0 : left;
-        int b = right == null ? 0 : right;
-        return a + b;
-    }
-
-    private long asLong(Integer value) {
-        return value == null ? 0L : value.longValue();
-    }
 }
@@ -1,11 +1,15 @@
 package io.github.aikobn26.teamprogressviz.feature.organization.service;
 
+import java.sql.Types;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.IntConsumer;
 import java.util.function.Supplier;
@@ -13,6 +17,7 @@ import java.util.stream.Collectors;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Propagation;
@@ -24,10 +29,12 @@ import io.github.aikobn26.teamprogressviz.feature.github.model.GitHubOrganizatio
 import io.github.aikobn26.teamprogressviz.feature.github.model.GitHubOrganizationMember;
 import io.github.aikobn26.teamprogressviz.feature.github.model.GitHubRepository;
 import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubOrganizationService;
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobProfile;
 import io.github.aikobn26.teamprogressviz.feature.organization.entity.Comment;
 import io.github.aikobn26.teamprogressviz.feature.organization.entity.Organization;
 import io.github.aikobn26.teamprogressviz.feature.organization.entity.RepositorySyncStatus;
 import io.github.aikobn26.teamprogressviz.feature.organization.entity.UserOrganization;
+import io.github.aikobn26.teamprogressviz.feature.organization.model.MembershipSnapshot;
 import io.github.aikobn26.teamprogressviz.feature.organization.repository.CommentRepository;
 import io.github.aikobn26.teamprogressviz.feature.organization.repository.OrganizationRepository;
 import io.github.aikobn26.teamprogressviz.feature.organization.repository.UserOrganizationRepository;
@@ -39,12 +46,15 @@ import io.github.aikobn26.teamprogressviz.feature.repository.repository.PullRequ
 import io.github.aikobn26.teamprogressviz.feature.repository.repository.RepositoryRepository;
 import io.github.aikobn26.teamprogressviz.feature.repository.service.RepositoryActivitySyncService;
 import io.github.aikobn26.teamprogressviz.feature.user.entity.User;
+import io.github.aikobn26.teamprogressviz.feature.user.model.GitHubUserProfile;
 import io.github.aikobn26.teamprogressviz.feature.user.service.UserService;
+import io.github.aikobn26.teamprogressviz.shared.concurrency.DatabaseConcurrencyLimiter;
 import io.github.aikobn26.teamprogressviz.shared.concurrency.KeyLockManager;
 import io.github.aikobn26.teamprogressviz.shared.exception.ForbiddenException;
 import io.github.aikobn26.teamprogressviz.shared.exception.ResourceConflictException;
 import io.github.aikobn26.teamprogressviz.shared.exception.ResourceNotFoundException;
 import io.github.aikobn26.teamprogressviz.shared.exception.ValidationException;
+import io.github.aikobn26.teamprogressviz.shared.persistence.SoftDeleteCascade;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -52,24 +62,38 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 public class OrganizationService {
 
+    private static final int RECENT_PULL_REQUEST_LIMIT = 10;
+    private static final int RECENT_COMMIT_LIMIT = 20;
+    private static final int RECENT_COMMENT_LIMIT = 20;
+    private static final int SUMMARY_WINDOW_DAYS = 7;
+    private static final IntConsumer NO_OP_PROGRESS = progress -> { };
+    private static final String INSERT_REPOSITORY_SQL = """
+            insert into repository (github_id, organization_id, name, full_name, description, html_url, language,
+                                    stargazers_count, forks_count, default_branch, is_private, archived,
+                                    created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_MEMBERSHIP_SQL = """
+            insert into user_organization (user_id, organization_id, role, joined_at, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+
     private final OrganizationRepository organizationRepository;
     private final RepositoryRepository repositoryRepository;
     private final UserOrganizationRepository userOrganizationRepository;
     private final UserService userService;
     private final GitHubOrganizationService gitHubOrganizationService;
     private final RepositorySyncStatusService repositorySyncStatusService;
+    private final SyncCheckpointService syncCheckpointService;
     private final RepositoryActivitySyncService repositoryActivitySyncService;
     private final GitCommitRepository gitCommitRepository;
     private final PullRequestRepository pullRequestRepository;
     private final CommentRepository commentRepository;
     private final KeyLockManager keyLockManager;
     private final PlatformTransactionManager transactionManager;
-
-    private static final int RECENT_PULL_REQUEST_LIMIT = 10;
-    private static final int RECENT_COMMIT_LIMIT = 20;
-    private static final int RECENT_COMMENT_LIMIT = 20;
-    private static final int SUMMARY_WINDOW_DAYS = 7;
-    private static final IntConsumer NO_OP_PROGRESS = progress -> { };
+    private final DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
+    private final JdbcTemplate jdbcTemplate;
+    private final SoftDeleteCascade softDeleteCascade;
 
     @Transactional(readOnly = true)
     public List<Organization> listOrganizations(User user) {
@@ -101,7 +125,8 @@ public class OrganizationService {
         Long repositoryId = repository != null ? repository.getId() : null;
         String fullName = repository != null ? resolveRepositoryFullName(repository) : null;
         return new RepositorySyncStatusView(repositoryId, fullName, status.getLastSyncedAt(),
-                status.getLastSyncedCommitSha(), status.getErrorMessage());
+                status.getLastSyncedCommitSha(), status.getErrorMessage(), status.getConsecutiveFailures(),
+                status.getCircuitOpenUntil());
     }
 
     private String resolveRepositoryFullName(Repository repository) {
@@ -161,19 +186,18 @@ public class OrganizationService {
         String normalizedLogin = login.trim();
         String lockKey = "organization:" + normalizedLogin.toLowerCase(Locale.ROOT);
 
-        return keyLockManager.callWithLock(lockKey, () -> {
-            GitHubOrganization gitHubOrganization = gitHubOrganizationService
-                    .getOrganization(accessToken, normalizedLogin)
-                    .orElseThrow(() -> new ResourceNotFoundException(
-                            "Organization not found on GitHub: " + normalizedLogin));
+        GitHubOrganization gitHubOrganization = gitHubOrganizationService
+                .getOrganization(accessToken, normalizedLogin)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Organization not found on GitHub: " + normalizedLogin));
 
-            return executeInTransaction(() -> {
-                Organization organization = resolveOrganization(gitHubOrganization, defaultLinkUrl);
-                boolean created = organization.getId() == null;
-                Organization saved = organizationRepository.save(organization);
-                return new EnsureOrganizationResult(saved, gitHubOrganization, created);
-            });
-        });
+        // The lock is taken inside the transaction so that it lives on the transaction's own connection.
+        return executeInTransaction(() -> keyLockManager.callWithLock(lockKey, () -> {
+            Organization organization = resolveOrganization(gitHubOrganization, defaultLinkUrl);
+            boolean created = organization.getId() == null;
+            Organization saved = organizationRepository.save(organization);
+            return new EnsureOrganizationResult(saved, gitHubOrganization, created);
+        }));
     }
 
     public OrganizationSyncResult synchronizeOrganization(Long organizationId, String accessToken) {
@@ -181,6 +205,16 @@ public class OrganizationService {
     }
 
     public OrganizationSyncResult synchronizeOrganization(Long organizationId, String accessToken, IntConsumer progressConsumer) {
+        return synchronizeOrganization(organizationId, accessToken, progressConsumer, new JobProfile());
+    }
+
+    /**
+     * Records the organization-level phases in {@code profile}; the activity sync adds one item per repository.
+     */
+    public OrganizationSyncResult synchronizeOrganization(Long organizationId,
+                                                          String accessToken,
+                                                          IntConsumer progressConsumer,
+                                                          JobProfile profile) {
         if (organizationId == null) {
             throw new ValidationException("organizationId must not be null");
         }
@@ -198,45 +232,59 @@ public class OrganizationService {
 
         String organizationLogin = organizationSnapshot.login();
         String defaultLinkUrl = organizationSnapshot.defaultLinkUrl();
+        SyncCheckpointService.SyncRun syncRun = executeInTransaction(() -> syncCheckpointService.beginRun(organizationSnapshot.id()));
 
-        GitHubOrganization gitHubOrganization = gitHubOrganizationService
-                .getOrganization(accessToken, organizationLogin)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "Organization not found on GitHub: " + organizationLogin));
-        progress.accept(10);
-
-        List<GitHubRepository> gitHubRepositories = gitHubOrganizationService
-                .listRepositories(accessToken, organizationLogin);
-        progress.accept(25);
-
-        List<GitHubOrganizationMember> gitHubMembers = gitHubOrganizationService
-                .listMembers(accessToken, organizationLogin);
-        progress.accept(35);
-
-        OrganizationUpdateResult updateResult = executeInTransaction(() -> {
-            Organization managedOrganization = organizationRepository
-                    .findByIdAndDeletedAtIsNull(organizationSnapshot.id())
-                    .orElseThrow(() -> new ResourceNotFoundException("Organization not found"));
-
-            updateOrganizationFields(managedOrganization, gitHubOrganization, defaultLinkUrl);
-            Organization savedOrganization = organizationRepository.save(managedOrganization);
-
-            int syncedRepositories = syncRepositories(savedOrganization, gitHubRepositories);
-            syncOrganizationMembers(savedOrganization, gitHubMembers);
-
-            return new OrganizationUpdateResult(savedOrganization, syncedRepositories);
-        });
-    progress.accept(45);
-
-        // Run activity sync outside the transaction so pooled connections are released before remote calls.
-    repositoryActivitySyncService.synchronizeActivities(updateResult.organization(), accessToken,
-        percent -> progress.accept(45 + (percent * 50 / 100)));
-    progress.accept(95);
-
-        return new OrganizationSyncResult(
-                updateResult.organization(),
-                gitHubOrganization,
-                updateResult.syncedRepositories());
+        try {
+            GitHubOrganization gitHubOrganization = profile.phase("github.organization", () -> gitHubOrganizationService
+                    .getOrganization(accessToken, organizationLogin))
+                    .orElseThrow(() -> new ResourceNotFoundException(
+                            "Organization not found on GitHub: " + organizationLogin));
+            progress.accept(10);
+
+            List<GitHubRepository> gitHubRepositories = profile.phase("github.repositories", () -> gitHubOrganizationService
+                    .listRepositories(accessToken, organizationLogin));
+            progress.accept(25);
+
+            List<GitHubOrganizationMember> gitHubMembers = profile.phase("github.members", () -> gitHubOrganizationService
+                    .listMembers(accessToken, organizationLogin));
+            progress.accept(35);
+
+            OrganizationUpdateResult updateResult = profile.phase("database.organization", () -> executeInTransaction(() -> {
+                Organization managedOrganization = organizationRepository
+                        .findByIdAndDeletedAtIsNull(organizationSnapshot.id())
+                        .orElseThrow(() -> new ResourceNotFoundException("Organization not found"));
+
+                updateOrganizationFields(managedOrganization, gitHubOrganization, defaultLinkUrl);
+                Organization savedOrganization = organizationRepository.save(managedOrganization);
+
+                int syncedRepositories = syncRepositories(savedOrganization, gitHubRepositories);
+                syncOrganizationMembers(savedOrganization, gitHubMembers);
+
+                return new OrganizationUpdateResult(savedOrganization, syncedRepositories);
+            }));
+            progress.accept(45);
+
+            // Run activity sync outside the transaction so pooled connections are released before remote calls.
+            // Repositories already finished under this run id are skipped, so a retried job only does the remaining work.
+            // Each finished repository renews the run lease, so a long sync keeps other jobs of this organization out.
+            profile.phase("activities", () -> repositoryActivitySyncService.synchronizeActivities(
+                    updateResult.organization(), accessToken, syncRun.runId(),
+                    percent -> {
+                        executeInTransaction(() -> syncCheckpointService.renewLease(organizationSnapshot.id(), syncRun));
+                        progress.accept(45 + (percent * 50 / 100));
+                    },
+                    profile));
+            executeInTransaction(() -> syncCheckpointService.completeRun(organizationSnapshot.id(), syncRun.runId()));
+            progress.accept(95);
+
+            return new OrganizationSyncResult(
+                    updateResult.organization(),
+                    gitHubOrganization,
+                    updateResult.syncedRepositories());
+        } catch (RuntimeException e) {
+            executeInTransaction(() -> syncCheckpointService.releaseLease(organizationSnapshot.id(), syncRun));
+            throw e;
+        }
     }
 
     private Organization resolveOrganization(GitHubOrganization gitHubOrganization, String defaultLinkUrl) {
@@ -328,6 +376,8 @@ public class OrganizationService {
         return membership;
     }
 
+    // Set-based reconciliation: the GitHub member set is diffed against stored memberships in memory and applied with
+    // one batched insert plus one update each for reactivations and removals.
     private void syncOrganizationMembers(Organization organization, List<GitHubOrganizationMember> gitHubMembers) {
         if (organization == null || organization.getId() == null) {
             return;
@@ -336,50 +386,52 @@ public class OrganizationService {
             return;
         }
 
-        Map<Long, UserOrganization> activeMemberships = userOrganizationRepository
-                .findByOrganizationIdAndDeletedAtIsNull(organization.getId()).stream()
-                .filter(membership -> membership.getUser() != null && membership.getUser().getGithubId() != null)
-                .collect(Collectors.toMap(membership -> membership.getUser().getGithubId(), Function.identity()));
-
-        for (GitHubOrganizationMember member : gitHubMembers) {
-            if (member == null || member.id() == null || !StringUtils.hasText(member.login())) {
-                continue;
+        Set<Long> memberUserIds = userService.upsertGitHubUsers(gitHubMembers.stream()
+                        .filter(Objects::nonNull)
+                        .map(member -> new GitHubUserProfile(member.id(), member.login(), member.avatarUrl()))
+                        .toList())
+                .values().stream()
+                .map(User::getId)
+                .collect(Collectors.toSet());
+
+        // If a user somehow has several rows, the active one wins.
+        Map<Long, MembershipSnapshot> memberships = userOrganizationRepository
+                .findSnapshotsByOrganizationId(organization.getId()).stream()
+                .collect(Collectors.toMap(MembershipSnapshot::userId, Function.identity(),
+                        (first, second) -> first.deleted() ? second : first));
+
+        List<Long> usersToInsert = new ArrayList<>();
+        List<Long> membershipsToReactivate = new ArrayList<>();
+        List<Long> membershipsToRemove = new ArrayList<>();
+        for (Long userId : memberUserIds) {
+            MembershipSnapshot membership = memberships.get(userId);
+            if (membership == null) {
+                usersToInsert.add(userId);
+            } else if (membership.deleted() || !StringUtils.hasText(membership.role())) {
+                membershipsToReactivate.add(membership.id());
             }
-
-            User user = userService.upsertGitHubUser(member.id(), member.login(), null, member.avatarUrl());
-
-            UserOrganization membership = userOrganizationRepository
-                    .findByUserIdAndOrganizationId(user.getId(), organization.getId())
-                    .orElseGet(() -> UserOrganization.builder()
-                            .user(user)
-                            .organization(organization)
-                            .build());
-
-            if (membership.isDeleted()) {
-                membership.setDeletedAt(null);
-                if (membership.getJoinedAt() == null) {
-                    membership.setJoinedAt(OffsetDateTime.now());
-                }
-            }
-            if (!StringUtils.hasText(membership.getRole())) {
-                membership.setRole("member");
-            }
-
-            userOrganizationRepository.save(membership);
-            activeMemberships.remove(user.getGithubId());
-        }
-
-        if (activeMemberships.isEmpty()) {
-            return;
         }
+        memberships.values().stream()
+                .filter(membership -> !membership.deleted() && !memberUserIds.contains(membership.userId()))
+                .map(MembershipSnapshot::id)
+                .forEach(membershipsToRemove::add);
 
         OffsetDateTime now = OffsetDateTime.now();
-        for (UserOrganization membership : activeMemberships.values()) {
-            if (membership.isDeleted()) {
-                continue;
-            }
-            membership.setDeletedAt(now);
-            userOrganizationRepository.save(membership);
+        if (!usersToInsert.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_MEMBERSHIP_SQL, usersToInsert, usersToInsert.size(), (statement, userId) -> {
+                statement.setLong(1, userId);
+                statement.setLong(2, organization.getId());
+                statement.setString(3, "member");
+                statement.setObject(4, now);
+                statement.setObject(5, now);
+                statement.setObject(6, now);
+            });
+        }
+        if (!membershipsToReactivate.isEmpty()) {
+            userOrganizationRepository.reactivateByIdIn(membershipsToReactivate, now);
+        }
+        if (!membershipsToRemove.isEmpty()) {
+            userOrganizationRepository.softDeleteByIdIn(membershipsToRemove, now);
         }
     }
 
@@ -557,26 +609,8 @@ public class OrganizationService {
 
     public void deleteOrganization(User user, Long organizationId) {
         executeInTransaction(() -> {
-            Organization organization = requireOrganizationForDeletion(user, organizationId);
-
-            List<UserOrganization> memberships = userOrganizationRepository
-                    .findByOrganizationIdAndDeletedAtIsNull(organizationId);
-            List<Repository> repositories = repositoryRepository.findByOrganizationAndDeletedAtIsNull(organization);
-
-            OffsetDateTime now = OffsetDateTime.now();
-            organization.setDeletedAt(now);
-            organizationRepository.save(organization);
-
-            memberships.forEach(member -> {
-                member.setDeletedAt(now);
-                userOrganizationRepository.save(member);
-            });
-
-            repositories.forEach(repository -> {
-                repository.setDeletedAt(now);
-                repositoryRepository.save(repository);
-                repositorySyncStatusService.markDeleted(repository);
-            });
+            requireOrganizationForDeletion(user, organizationId);
+            softDeleteCascade.deleteOrganization(organizationId, OffsetDateTime.now());
         });
     }
 
@@ -608,46 +642,74 @@ public class OrganizationService {
         return new MemberDetail(userId, githubId, login, name, avatarUrl, defaultRole(membership.getRole()));
     }
 
+    // Repository rows are diffed against GitHub in memory: changed and removed rows are flushed as batched updates and
+    // new rows go in as one JDBC batch, so the transaction's length no longer grows with per-repository round trips.
     private int syncRepositories(Organization organization, List<GitHubRepository> gitHubRepositories) {
         if (gitHubRepositories == null || gitHubRepositories.isEmpty()) {
             return 0;
         }
 
-        Map<Long, Repository> existing = repositoryRepository.findByOrganizationAndDeletedAtIsNull(organization)
-                .stream()
-                .filter(repository -> repository.getGithubId() != null)
-                .collect(Collectors.toMap(Repository::getGithubId, Function.identity()));
-
-        OffsetDateTime syncedAt = OffsetDateTime.now();
-        int synced = 0;
+        Map<Long, GitHubRepository> incoming = new LinkedHashMap<>();
         for (GitHubRepository gitHubRepository : gitHubRepositories) {
-            if (gitHubRepository.id() == null) {
-                continue;
+            if (gitHubRepository.id() != null) {
+                incoming.put(gitHubRepository.id(), gitHubRepository);
             }
-            Repository repository = existing.remove(gitHubRepository.id());
+        }
+
+        // github_id is globally unique, so soft-deleted rows and rows filed under another organization are reused too.
+        Map<Long, Repository> known = repositoryRepository.findByGithubIdIn(incoming.keySet()).stream()
+                .collect(Collectors.toMap(Repository::getGithubId, Function.identity()));
+
+        List<GitHubRepository> toInsert = new ArrayList<>();
+        for (GitHubRepository gitHubRepository : incoming.values()) {
+            Repository repository = known.get(gitHubRepository.id());
             if (repository == null) {
-                repository = repositoryRepository
-                        .findByOrganizationIdAndGithubId(organization.getId(), gitHubRepository.id())
-                        .orElseGet(Repository::new);
-            }
-            if (repository.getGithubId() == null) {
-                repository.setGithubId(gitHubRepository.id());
+                toInsert.add(gitHubRepository);
+                continue;
             }
             repository.setOrganization(organization);
             updateRepositoryFields(repository, gitHubRepository);
             repository.setDeletedAt(null);
-            repositoryRepository.save(repository);
-            repositorySyncStatusService.markSynced(repository, syncedAt, null);
-            synced++;
         }
 
+        List<Repository> synced = new ArrayList<>(known.values());
+        if (!toInsert.isEmpty()) {
+            insertRepositories(organization, toInsert);
+            synced.addAll(repositoryRepository.findByGithubIdIn(
+                    toInsert.stream().map(GitHubRepository::id).toList()));
+        }
+        repositorySyncStatusService.ensureActive(synced, OffsetDateTime.now());
+
         OffsetDateTime now = OffsetDateTime.now();
-        for (Repository repository : existing.values()) {
-            repository.setDeletedAt(now);
-            repositoryRepository.save(repository);
-            repositorySyncStatusService.markDeleted(repository);
+        List<Long> removedIds = new ArrayList<>();
+        for (Repository repository : repositoryRepository.findByOrganizationAndDeletedAtIsNull(organization)) {
+            if (!incoming.containsKey(repository.getGithubId())) {
+                repository.setDeletedAt(now);
+                removedIds.add(repository.getId());
+            }
         }
-        return synced;
+        repositorySyncStatusService.markDeleted(removedIds);
+        return incoming.size();
+    }
+
+    private void insertRepositories(Organization organization, List<GitHubRepository> sources) {
+        OffsetDateTime now = OffsetDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_REPOSITORY_SQL, sources, sources.size(), (statement, source) -> {
+            statement.setLong(1, source.id());
+            statement.setLong(2, organization.getId());
+            statement.setString(3, source.name());
+            statement.setString(4, buildFullName(organization, source));
+            statement.setString(5, source.description());
+            statement.setString(6, source.htmlUrl());
+            statement.setString(7, source.language());
+            statement.setObject(8, source.stargazersCount(), Types.INTEGER);
+            statement.setObject(9, source.forksCount(), Types.INTEGER);
+            statement.setString(10, source.defaultBranch());
+            statement.setBoolean(11, source.isPrivate());
+            statement.setBoolean(12, source.archived());
+            statement.setObject(13, now);
+            statement.setObject(14, now);
+        });
     }
 
     private void updateRepositoryFields(Repository repository, GitHubRepository source) {
@@ -713,7 +775,9 @@ public class OrganizationService {
             String repositoryFullName,
             OffsetDateTime lastSyncedAt,
             String lastSyncedCommitSha,
-            String errorMessage) {
+            String errorMessage,
+            int consecutiveFailures,
+            OffsetDateTime circuitOpenUntil) {
     }
 
     public record PullRequestSummary(long openCount,
@@ -729,12 +793,12 @@ public class OrganizationService {
 
     private void executeInTransaction(Runnable action) {
         TransactionTemplate template = new TransactionTemplate(transactionManager);
-        template.executeWithoutResult(status -> action.run());
+        databaseConcurrencyLimiter.run(() -> template.executeWithoutResult(status -> action.run()));
     }
 
     private <T> T executeInTransaction(Supplier<T> action) {
         TransactionTemplate template = new TransactionTemplate(transactionManager);
-        return template.execute(status -> action.get());
+        return databaseConcurrencyLimiter.call(() -> template.execute(status -> action.get()));
     }
 
     public record PullRequestDetail(Long id,
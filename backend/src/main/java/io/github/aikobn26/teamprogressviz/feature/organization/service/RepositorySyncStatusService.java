@@ -1,12 +1,22 @@
 package io.github.aikobn26.teamprogressviz.feature.organization.service;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import io.github.aikobn26.teamprogressviz.feature.organization.entity.RepositorySyncStatus;
+import io.github.aikobn26.teamprogressviz.feature.organization.model.SyncCheckpointPhase;
+import io.github.aikobn26.teamprogressviz.feature.organization.properties.OrganizationSyncProperties;
 import io.github.aikobn26.teamprogressviz.feature.organization.repository.RepositorySyncStatusRepository;
 import io.github.aikobn26.teamprogressviz.feature.repository.entity.Repository;
 import lombok.RequiredArgsConstructor;
@@ -16,7 +26,32 @@ import lombok.RequiredArgsConstructor;
 @Transactional
 public class RepositorySyncStatusService {
 
+    private static final String INSERT_STATUS_SQL = """
+            insert into repository_sync_status (repository_id, consecutive_failures, updated_at)
+            values (?, 0, ?)
+            """;
+
+    private static final String MARK_BUCKETS_DIRTY_SQL = """
+            update repository_sync_status
+            set bucket_dirty_since = case
+                when bucket_dirty_since is null or bucket_dirty_since > ? then ? else bucket_dirty_since end
+            where repository_id = ?
+            """;
+
+    private static final String INSERT_DIRTY_STATUS_SQL = """
+            insert into repository_sync_status (repository_id, consecutive_failures, bucket_dirty_since, updated_at)
+            values (?, 0, ?, ?)
+            """;
+
+    private static final String SELECT_BUCKET_DIRTY_SINCE_SQL =
+            "select bucket_dirty_since from repository_sync_status where repository_id = ? and bucket_dirty_since is not null";
+
+    private static final String CLEAR_BUCKETS_DIRTY_SQL =
+            "update repository_sync_status set bucket_dirty_since = null where repository_id = ? and bucket_dirty_since = ?";
+
     private final RepositorySyncStatusRepository repositorySyncStatusRepository;
+    private final OrganizationSyncProperties organizationSyncProperties;
+    private final JdbcTemplate jdbcTemplate;
 
     public void markSynced(Repository repository, OffsetDateTime lastSyncedAt, String lastSyncedCommitSha) {
         if (repository == null || repository.getId() == null) {
@@ -28,6 +63,8 @@ public class RepositorySyncStatusService {
         status.setLastSyncedAt(lastSyncedAt);
         status.setLastSyncedCommitSha(lastSyncedCommitSha);
         status.setErrorMessage(null);
+        status.setConsecutiveFailures(0);
+        status.setCircuitOpenUntil(null);
         status.setDeletedAt(null);
         repositorySyncStatusRepository.save(status);
     }
@@ -41,20 +78,101 @@ public class RepositorySyncStatusService {
         status.setRepository(repository);
         status.setLastSyncedAt(lastAttemptAt);
         status.setErrorMessage(errorMessage);
+        status.setConsecutiveFailures(status.getConsecutiveFailures() + 1);
+        status.setCircuitOpenUntil(resolveCircuitOpenUntil(status.getConsecutiveFailures(), lastAttemptAt));
         status.setDeletedAt(null);
         repositorySyncStatusRepository.save(status);
     }
 
-    public void markDeleted(Repository repository) {
-        if (repository == null || repository.getId() == null) {
+    @Transactional(readOnly = true)
+    public Set<Long> findCircuitOpenRepositoryIds(Long organizationId, OffsetDateTime now) {
+        if (organizationId == null) {
+            return Set.of();
+        }
+        return Set.copyOf(repositorySyncStatusRepository.findCircuitOpenRepositoryIds(organizationId, now));
+    }
+
+    // The cool-down doubles for every failure past the threshold, capped at max-cool-down.
+    private OffsetDateTime resolveCircuitOpenUntil(int consecutiveFailures, OffsetDateTime lastAttemptAt) {
+        OrganizationSyncProperties.CircuitBreaker settings = organizationSyncProperties.getCircuitBreaker();
+        int threshold = settings.getFailureThreshold();
+        if (threshold <= 0 || consecutiveFailures < threshold) {
+            return null;
+        }
+        int doublings = Math.min(consecutiveFailures - threshold, 16);
+        Duration coolDown = settings.getCoolDown().multipliedBy(1L << doublings);
+        if (coolDown.compareTo(settings.getMaxCoolDown()) > 0) {
+            coolDown = settings.getMaxCoolDown();
+        }
+        OffsetDateTime base = lastAttemptAt != null ? lastAttemptAt : OffsetDateTime.now();
+        return base.plus(coolDown);
+    }
+
+    public void recordCheckpoint(Repository repository, String runId, SyncCheckpointPhase phase, String cursor) {
+        if (repository == null || repository.getId() == null || runId == null) {
+            return;
+        }
+        RepositorySyncStatus status = repositorySyncStatusRepository.findByRepositoryId(repository.getId())
+                .orElseGet(() -> RepositorySyncStatus.builder().repository(repository).build());
+        status.setRepository(repository);
+        status.setCheckpointRunId(runId);
+        status.setCheckpointPhase(phase);
+        status.setCheckpointCursor(cursor);
+        repositorySyncStatusRepository.save(status);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<RepositorySyncCheckpoint> findCheckpoint(Long repositoryId, String runId) {
+        if (repositoryId == null || runId == null) {
+            return Optional.empty();
+        }
+        return repositorySyncStatusRepository.findByRepositoryId(repositoryId)
+                .filter(status -> Objects.equals(status.getCheckpointRunId(), runId))
+                .filter(status -> status.getCheckpointPhase() != null)
+                .map(status -> new RepositorySyncCheckpoint(status.getCheckpointPhase(), status.getCheckpointCursor()));
+    }
+
+    /**
+     * Makes sure every given repository has an active status row without touching failure or circuit state.
+     * Missing rows are inserted in one JDBC batch; soft-deleted rows are revived through batched dirty checking.
+     * New rows have never been synced, so they leave {@code last_synced_at} empty and sort first for the scheduler.
+     */
+    public void ensureActive(Collection<Repository> repositories, OffsetDateTime now) {
+        Set<Long> repositoryIds = repositories.stream()
+                .map(Repository::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (repositoryIds.isEmpty()) {
             return;
         }
-        repositorySyncStatusRepository.findByRepositoryId(repository.getId()).ifPresent(status -> {
-            status.setDeletedAt(OffsetDateTime.now());
-            repositorySyncStatusRepository.save(status);
+
+        Set<Long> withStatus = new HashSet<>();
+        for (RepositorySyncStatus status : repositorySyncStatusRepository.findByRepositoryIdIn(repositoryIds)) {
+            withStatus.add(status.getRepository().getId());
+            if (status.getDeletedAt() != null) {
+                status.setDeletedAt(null);
+            }
+        }
+        List<Long> missing = repositoryIds.stream().filter(id -> !withStatus.contains(id)).toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_STATUS_SQL, missing, missing.size(), (statement, repositoryId) -> {
+            statement.setLong(1, repositoryId);
+            statement.setObject(2, now);
         });
     }
 
+    public void markDeleted(Collection<Long> repositoryIds) {
+        if (repositoryIds == null || repositoryIds.isEmpty()) {
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        repositorySyncStatusRepository.findByRepositoryIdIn(repositoryIds).stream()
+                .filter(status -> status.getDeletedAt() == null)
+                .forEach(status -> status.setDeletedAt(now));
+    }
+
     @Transactional(readOnly = true)
     public List<RepositorySyncStatus> findActiveByOrganization(Long organizationId) {
         if (organizationId == null) {
@@ -62,4 +180,38 @@ public class RepositorySyncStatusService {
         }
         return repositorySyncStatusRepository.findByRepositoryOrganizationIdAndDeletedAtIsNull(organizationId);
     }
+
+    /**
+     * Records that activity buckets of the repository are stale from {@code since} onwards. Called in the same
+     * transaction as the rows it covers, so the mark survives a failed or interrupted sync.
+     */
+    public void markBucketsDirty(Long repositoryId, OffsetDateTime since) {
+        if (repositoryId == null || since == null) {
+            return;
+        }
+        if (jdbcTemplate.update(MARK_BUCKETS_DIRTY_SQL, since, since, repositoryId) == 0) {
+            jdbcTemplate.update(INSERT_DIRTY_STATUS_SQL, repositoryId, since, OffsetDateTime.now());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<OffsetDateTime> findBucketDirtySince(Long repositoryId) {
+        if (repositoryId == null) {
+            return Optional.empty();
+        }
+        return jdbcTemplate.queryForList(SELECT_BUCKET_DIRTY_SINCE_SQL, OffsetDateTime.class, repositoryId).stream()
+                .filter(Objects::nonNull)
+                .min(OffsetDateTime::compareTo);
+    }
+
+    // Only clears the mark that was refreshed; an earlier mark written meanwhile is kept for the next sync.
+    public void clearBucketsDirty(Long repositoryId, OffsetDateTime refreshedSince) {
+        if (repositoryId == null || refreshedSince == null) {
+            return;
+        }
+        jdbcTemplate.update(CLEAR_BUCKETS_DIRTY_SQL, repositoryId, refreshedSince);
+    }
+
+    public record RepositorySyncCheckpoint(SyncCheckpointPhase phase, String cursor) {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,177 @@
+package io.github.aikobn26.teamprogressviz.feature.organization.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import io.github.aikobn26.teamprogressviz.feature.job.exception.JobRejectedException;
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobFairnessKey;
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobLane;
+import io.github.aikobn26.teamprogressviz.feature.job.service.JobService;
+import io.github.aikobn26.teamprogressviz.feature.organization.model.RepositorySyncCandidate;
+import io.github.aikobn26.teamprogressviz.feature.organization.properties.SyncSchedulerProperties;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.RepositoryRepository;
+import io.github.aikobn26.teamprogressviz.feature.repository.service.RepositoryActivitySyncService;
+import io.github.aikobn26.teamprogressviz.shared.concurrency.LeaderLease;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Periodically re-syncs stale repositories in the background.
+ * A repository's priority is its staleness weighted by recent commit activity, failure state and archival; it becomes
+ * eligible once that weighted staleness reaches {@code stale-after}. The number of repositories started per tick is
+ * bounded by a token bucket refilled from the hourly GitHub request budget, so load is spread evenly over time.
+ * With several replicas only the holder of the {@link LeaderLease} schedules.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "organization.sync.scheduler", name = "enabled", havingValue = "true")
+public class ScheduledSyncService {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduledSyncService.class);
+
+    private static final double MAX_ACTIVITY_WEIGHT = 2.0;
+
+    private static final String LEASE_NAME = "scheduled-sync";
+
+    private final RepositoryRepository repositoryRepository;
+    private final RepositoryActivitySyncService repositoryActivitySyncService;
+    private final JobService jobService;
+    private final SyncSchedulerProperties properties;
+    private final LeaderLease leaderLease;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private double requestCredits;
+    private OffsetDateTime lastRefillAt;
+
+    @Scheduled(fixedDelayString = "${organization.sync.scheduler.interval:PT1M}",
+            initialDelayString = "${organization.sync.scheduler.interval:PT1M}")
+    public void scheduleStaleRepositories() {
+        String token = properties.getToken();
+        if (!StringUtils.hasText(token)) {
+            log.warn("Scheduled sync is enabled but organization.sync.scheduler.token is not set");
+            return;
+        }
+
+        // Only the replica holding the lease enqueues, so replicas never submit the same repositories twice.
+        // The lease outlives a couple of missed ticks before another replica takes over.
+        if (!leaderLease.tryAcquire(LEASE_NAME, properties.getInterval().multipliedBy(3))) {
+            return;
+        }
+
+        OffsetDateTime now = OffsetDateTime.now();
+        int slots = acquireSlots(now);
+        if (slots == 0) {
+            return;
+        }
+
+        int submitted = 0;
+        for (RepositorySyncCandidate candidate : selectCandidates(now, slots)) {
+            Long repositoryId = candidate.repositoryId();
+            if (!inFlight.add(repositoryId)) {
+                continue;
+            }
+            try {
+                jobService.submit("job-scheduled-sync", JobLane.SYNC,
+                        JobFairnessKey.organization(candidate.organizationId()), () -> {
+                            try {
+                                repositoryActivitySyncService.synchronizeRepository(repositoryId, token);
+                            } finally {
+                                inFlight.remove(repositoryId);
+                            }
+                        });
+                submitted++;
+            } catch (JobRejectedException e) {
+                inFlight.remove(repositoryId);
+                log.debug("Sync lane is full, deferring remaining scheduled repositories");
+                break;
+            }
+        }
+        releaseSlots(slots - submitted);
+        if (submitted > 0) {
+            log.info("Scheduled background sync for {} repositories", submitted);
+        }
+    }
+
+    public List<RepositorySyncCandidate> selectCandidates(OffsetDateTime now, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Duration staleAfter = properties.getStaleAfter();
+        long minimumStaleMinutes = (long) (staleAfter.toMinutes() / MAX_ACTIVITY_WEIGHT);
+        OffsetDateTime staleBefore = now.minusMinutes(minimumStaleMinutes);
+        int candidateLimit = Math.max(limit, properties.getCandidateLimit());
+
+        // Called from the scheduled tick on this bean, where @Transactional would be bypassed.
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        List<RepositorySyncCandidate> candidates = template.execute(status ->
+                repositoryRepository.findSyncCandidates(staleBefore, now, PageRequest.ofSize(candidateLimit)));
+
+        return candidates.stream()
+                .filter(candidate -> !inFlight.contains(candidate.repositoryId()))
+                .filter(candidate -> priority(candidate, now) >= staleAfter.toMinutes())
+                .sorted(Comparator.comparingDouble((RepositorySyncCandidate candidate) -> priority(candidate, now)).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    // Weighted staleness in minutes; never-synced repositories rank as if they were four periods overdue.
+    double priority(RepositorySyncCandidate candidate, OffsetDateTime now) {
+        long staleAfterMinutes = properties.getStaleAfter().toMinutes();
+        double staleMinutes = candidate.lastSyncedAt() == null
+                ? staleAfterMinutes * 4.0
+                : Duration.between(candidate.lastSyncedAt(), now).toMinutes();
+
+        double weight = 1.0;
+        OffsetDateTime lastCommitAt = candidate.lastCommitAt();
+        if (lastCommitAt != null && lastCommitAt.isAfter(now.minusDays(7))) {
+            weight *= MAX_ACTIVITY_WEIGHT;
+        } else if (lastCommitAt != null && lastCommitAt.isAfter(now.minusDays(30))) {
+            weight *= 1.5;
+        }
+        if (candidate.failing()) {
+            weight *= 0.5;
+        }
+        if (candidate.archived()) {
+            weight *= 0.25;
+        }
+        return staleMinutes * weight;
+    }
+
+    private synchronized int acquireSlots(OffsetDateTime now) {
+        double budgetPerSecond = Math.max(0, properties.getRequestBudgetPerHour()) / 3600.0;
+        long intervalSeconds = Math.max(1L, properties.getInterval().toSeconds());
+        long elapsedSeconds = lastRefillAt == null
+                ? intervalSeconds
+                : Math.max(0L, Duration.between(lastRefillAt, now).toSeconds());
+        lastRefillAt = now;
+        // Cap the bucket at two intervals so an idle period never turns into a burst.
+        double capacity = budgetPerSecond * intervalSeconds * 2;
+        requestCredits = Math.min(capacity, requestCredits + budgetPerSecond * elapsedSeconds);
+
+        int cost = Math.max(1, properties.getEstimatedRequestsPerRepository());
+        int slots = (int) (requestCredits / cost);
+        requestCredits -= (double) slots * cost;
+        return slots;
+    }
+
+    private synchronized void releaseSlots(int unused) {
+        if (unused > 0) {
+            requestCredits += (double) unused * Math.max(1, properties.getEstimatedRequestsPerRepository());
+        }
+    }
+}
@@ -175,7 +175,8 @@ public class StatusService {
                 });
     }
 
-    private int calculateStreak(Long organizationId, Long userId, LocalDate date) {
+    // Package-private so StatusServiceBenchmark can measure it directly.
+    int calculateStreak(Long organizationId, Long userId, LocalDate date) {
         int streak = 0;
         LocalDate cursor = date;
         for (int i = 0; i < MAX_STREAK_LOOKBACK_DAYS; i++) {
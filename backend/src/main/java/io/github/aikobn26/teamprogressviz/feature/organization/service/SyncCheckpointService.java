@@ -0,0 +1,115 @@
+package io.github.aikobn26.teamprogressviz.feature.organization.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.OrganizationSyncCheckpoint;
+import io.github.aikobn26.teamprogressviz.feature.organization.properties.OrganizationSyncProperties;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.OrganizationRepository;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.OrganizationSyncCheckpointRepository;
+import io.github.aikobn26.teamprogressviz.shared.concurrency.KeyLockManager;
+import io.github.aikobn26.teamprogressviz.shared.exception.ResourceConflictException;
+import io.github.aikobn26.teamprogressviz.shared.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SyncCheckpointService {
+
+    private final OrganizationSyncCheckpointRepository checkpointRepository;
+    private final OrganizationRepository organizationRepository;
+    private final OrganizationSyncProperties organizationSyncProperties;
+    private final KeyLockManager keyLockManager;
+
+    /**
+     * Starts or resumes the sync run of an organization and takes its lease. An unfinished run younger than the
+     * checkpoint TTL is resumed; anything else starts a fresh run. Jobs of the same organization share the run id,
+     * so a second job is rejected while another one holds an unexpired lease.
+     */
+    public SyncRun beginRun(Long organizationId) {
+        return keyLockManager.callWithLock("organization-sync:" + organizationId, () -> {
+            OffsetDateTime now = OffsetDateTime.now();
+            OrganizationSyncCheckpoint checkpoint = checkpointRepository.findByOrganizationId(organizationId).orElse(null);
+            if (checkpoint != null && isLeased(checkpoint, now)) {
+                throw new ResourceConflictException("Organization sync is already running");
+            }
+            String leaseOwner = UUID.randomUUID().toString();
+            if (checkpoint != null && !checkpoint.isCompleted() && !isExpired(checkpoint, now)) {
+                checkpoint.setLeaseOwner(leaseOwner);
+                checkpoint.setLeaseExpiresAt(leaseUntil(now));
+                checkpointRepository.save(checkpoint);
+                return new SyncRun(checkpoint.getRunId(), true, leaseOwner);
+            }
+
+            if (checkpoint == null) {
+                var organization = organizationRepository.findByIdAndDeletedAtIsNull(organizationId)
+                        .orElseThrow(() -> new ResourceNotFoundException("Organization not found"));
+                checkpoint = OrganizationSyncCheckpoint.builder().organization(organization).build();
+            }
+            checkpoint.setRunId(UUID.randomUUID().toString());
+            checkpoint.setStartedAt(now);
+            checkpoint.setCompletedAt(null);
+            checkpoint.setLeaseOwner(leaseOwner);
+            checkpoint.setLeaseExpiresAt(leaseUntil(now));
+            checkpointRepository.save(checkpoint);
+            return new SyncRun(checkpoint.getRunId(), false, leaseOwner);
+        });
+    }
+
+    // A job whose lease was taken over after expiry must stop instead of writing alongside the new owner.
+    public void renewLease(Long organizationId, SyncRun run) {
+        OrganizationSyncCheckpoint checkpoint = checkpointRepository.findByOrganizationId(organizationId)
+                .filter(existing -> Objects.equals(existing.getLeaseOwner(), run.leaseOwner()))
+                .orElseThrow(() -> new ResourceConflictException("Organization sync lease was lost"));
+        checkpoint.setLeaseExpiresAt(leaseUntil(OffsetDateTime.now()));
+        checkpointRepository.save(checkpoint);
+    }
+
+    // Lets a retried job resume the unfinished run straight away instead of waiting for the lease to expire.
+    public void releaseLease(Long organizationId, SyncRun run) {
+        checkpointRepository.findByOrganizationId(organizationId)
+                .filter(checkpoint -> Objects.equals(checkpoint.getLeaseOwner(), run.leaseOwner()))
+                .ifPresent(checkpoint -> {
+                    checkpoint.setLeaseOwner(null);
+                    checkpoint.setLeaseExpiresAt(null);
+                    checkpointRepository.save(checkpoint);
+                });
+    }
+
+    public void completeRun(Long organizationId, String runId) {
+        checkpointRepository.findByOrganizationId(organizationId)
+                .filter(checkpoint -> Objects.equals(checkpoint.getRunId(), runId))
+                .ifPresent(checkpoint -> {
+                    checkpoint.setCompletedAt(OffsetDateTime.now());
+                    checkpoint.setLeaseOwner(null);
+                    checkpoint.setLeaseExpiresAt(null);
+                    checkpointRepository.save(checkpoint);
+                });
+    }
+
+    private boolean isLeased(OrganizationSyncCheckpoint checkpoint, OffsetDateTime now) {
+        return checkpoint.getLeaseExpiresAt() != null && checkpoint.getLeaseExpiresAt().isAfter(now);
+    }
+
+    private OffsetDateTime leaseUntil(OffsetDateTime now) {
+        Duration lease = organizationSyncProperties.getRunLease();
+        return now.plus(lease != null ? lease : Duration.ofMinutes(10));
+    }
+
+    private boolean isExpired(OrganizationSyncCheckpoint checkpoint, OffsetDateTime now) {
+        Duration ttl = organizationSyncProperties.getCheckpointTtl();
+        if (ttl == null || checkpoint.getStartedAt() == null) {
+            return false;
+        }
+        return checkpoint.getStartedAt().plus(ttl).isBefore(now);
+    }
+
+    public record SyncRun(String runId, boolean resumed, String leaseOwner) {
+    }
+}
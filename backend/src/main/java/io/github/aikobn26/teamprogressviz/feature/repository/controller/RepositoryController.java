@@ -11,6 +11,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 import io.github.aikobn26.teamprogressviz.feature.auth.service.GitHubOAuthService;
 import io.github.aikobn26.teamprogressviz.feature.job.dto.response.JobSubmissionResponse;
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobFairnessKey;
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobLane;
 import io.github.aikobn26.teamprogressviz.feature.job.service.JobService;
 import io.github.aikobn26.teamprogressviz.feature.repository.service.PullRequestService;
 import io.github.aikobn26.teamprogressviz.feature.repository.service.RepositoryActivitySyncService;
@@ -43,7 +45,7 @@ public class RepositoryController {
         var user = userService.ensureUserExists(authenticated.get());
         var repository = pullRequestService.requireAccessibleRepository(user, repositoryId);
 
-        var job = jobService.submit("job-sync-prs", () ->
+        var job = jobService.submit("job-sync-prs", JobLane.INTERACTIVE, JobFairnessKey.repository(repositoryId), () ->
                 repositoryActivitySyncService.synchronizeRepository(repository, accessToken.get())
         );
 
@@ -2,6 +2,7 @@ package io.github.aikobn26.teamprogressviz.feature.repository.entity;
 
 import java.time.OffsetDateTime;
 
+import io.github.aikobn26.teamprogressviz.feature.user.entity.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -55,6 +56,11 @@ public class GitCommit {
     @Column(name = "author_email")
     private String authorEmail;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "author_user_id")
+    @ToString.Exclude
+    private User author;
+
     @Column(name = "committer_name")
     private String committerName;
 
@@ -73,6 +79,13 @@ public class GitCommit {
     @Column(name = "updated_at", nullable = false)
     private OffsetDateTime updatedAt;
 
+    @Column(name = "source_hash", length = 64)
+    private String sourceHash;
+
+    // Set once the commit's file list was stored, including lists that turned out empty (merges, empty commits).
+    @Column(name = "files_synced_at")
+    private OffsetDateTime filesSyncedAt;
+
     @Column(name = "deleted_at")
     private OffsetDateTime deletedAt;
 
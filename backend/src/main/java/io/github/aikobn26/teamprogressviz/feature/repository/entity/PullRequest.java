@@ -93,6 +93,9 @@ public class PullRequest {
     @Column(name = "merged_at")
     private OffsetDateTime mergedAt;
 
+    @Column(name = "source_hash", length = 64)
+    private String sourceHash;
+
     @Column(name = "deleted_at")
     private OffsetDateTime deletedAt;
 
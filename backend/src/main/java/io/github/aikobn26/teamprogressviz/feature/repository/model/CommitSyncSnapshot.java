@@ -0,0 +1,10 @@
+package io.github.aikobn26.teamprogressviz.feature.repository.model;
+
+public record CommitSyncSnapshot(
+        Long id,
+        String sha,
+        String sourceHash,
+        boolean hasFiles,
+        boolean filesSynced
+) {
+}
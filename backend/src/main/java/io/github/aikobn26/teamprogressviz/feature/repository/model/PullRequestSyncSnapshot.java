@@ -0,0 +1,7 @@
+package io.github.aikobn26.teamprogressviz.feature.repository.model;
+
+public record PullRequestSyncSnapshot(
+        Integer number,
+        String sourceHash
+) {
+}
@@ -1,29 +1,58 @@
 package io.github.aikobn26.teamprogressviz.feature.repository.repository;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import io.github.aikobn26.teamprogressviz.feature.organization.model.ActivityTotals;
 import io.github.aikobn26.teamprogressviz.feature.repository.entity.GitCommit;
+import io.github.aikobn26.teamprogressviz.feature.repository.model.CommitSyncSnapshot;
 
 
 @Repository
 public interface GitCommitRepository extends JpaRepository<GitCommit, Long> {
 
+    // Organization-wide pages show each commit's repository, so it is fetched in the same query.
+    @EntityGraph(attributePaths = "repository")
     Page<GitCommit> findByRepositoryOrganizationIdAndDeletedAtIsNull(Long organizationId, Pageable pageable);
 
+    @EntityGraph(attributePaths = "repository")
     Page<GitCommit> findByRepositoryOrganizationIdAndIdLessThanAndDeletedAtIsNull(Long organizationId, Long id, Pageable pageable);
 
     Page<GitCommit> findByRepositoryIdAndDeletedAtIsNull(Long repositoryId, Pageable pageable);
 
     Optional<GitCommit> findByRepositoryIdAndShaAndDeletedAtIsNull(Long repositoryId, String sha);
 
+    @Query("""
+                    select new io.github.aikobn26.teamprogressviz.feature.repository.model.CommitSyncSnapshot(
+                        g.id,
+                        g.sha,
+                        g.sourceHash,
+                        case when exists (
+                            select 1 from CommitFile f where f.commit = g and f.deletedAt is null
+                        ) then true else false end,
+                        case when g.filesSyncedAt is not null then true else false end)
+                    from GitCommit g
+                    where g.repository.id = :repositoryId
+                        and g.sha in :shas
+                        and g.deletedAt is null
+                    """)
+    List<CommitSyncSnapshot> findSyncSnapshots(@Param("repositoryId") Long repositoryId, @Param("shas") Collection<String> shas);
+
+    @Modifying
+    @Query("update GitCommit g set g.filesSyncedAt = :now where g.id = :id")
+    int markFilesSynced(@Param("id") Long id, @Param("now") OffsetDateTime now);
+
     @Query("""
                     select count(g)
                     from GitCommit g
@@ -33,4 +62,48 @@ public interface GitCommitRepository extends JpaRepository<GitCommit, Long> {
                                  or (g.committedAt is null and g.createdAt >= :since))
                     """)
     long countRecentCommits(@Param("organizationId") Long organizationId, @Param("since") OffsetDateTime since);
+
+    // Commits without stored files still count; their file and line totals are zero.
+    @Query("""
+                    select new io.github.aikobn26.teamprogressviz.feature.organization.model.ActivityTotals(
+                        g.repository.id,
+                        count(distinct g.id),
+                        count(f.id),
+                        coalesce(sum(f.additions), 0L),
+                        coalesce(sum(f.deletions), 0L),
+                        0L)
+                    from GitCommit g
+                    left join CommitFile f on f.commit = g and f.deletedAt is null
+                    where g.repository.organization.id = :organizationId
+                        and g.repository.deletedAt is null
+                        and g.deletedAt is null
+                        and g.committedAt >= :from
+                        and g.committedAt < :to
+                    group by g.repository.id
+                    """)
+    List<ActivityTotals<Long>> sumByRepository(@Param("organizationId") Long organizationId,
+                                               @Param("from") OffsetDateTime from,
+                                               @Param("to") OffsetDateTime to);
+
+    @Query("""
+                    select new io.github.aikobn26.teamprogressviz.feature.organization.model.ActivityTotals(
+                        f.extension,
+                        count(distinct g.id),
+                        count(f.id),
+                        coalesce(sum(f.additions), 0L),
+                        coalesce(sum(f.deletions), 0L),
+                        0L)
+                    from CommitFile f
+                    join f.commit g
+                    where g.repository.organization.id = :organizationId
+                        and g.repository.deletedAt is null
+                        and g.deletedAt is null
+                        and f.deletedAt is null
+                        and g.committedAt >= :from
+                        and g.committedAt < :to
+                    group by f.extension
+                    """)
+    List<ActivityTotals<String>> sumByExtension(@Param("organizationId") Long organizationId,
+                                                @Param("from") OffsetDateTime from,
+                                                @Param("to") OffsetDateTime to);
 }
@@ -1,16 +1,20 @@
 package io.github.aikobn26.teamprogressviz.feature.repository.repository;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import io.github.aikobn26.teamprogressviz.feature.repository.entity.PullRequest;
+import io.github.aikobn26.teamprogressviz.feature.repository.model.PullRequestSyncSnapshot;
 
 @Repository
 public interface PullRequestRepository extends JpaRepository<PullRequest, Long> {
@@ -21,8 +25,19 @@ public interface PullRequestRepository extends JpaRepository<PullRequest, Long>
 
     Optional<PullRequest> findByRepositoryIdAndNumberAndDeletedAtIsNull(Long repositoryId, Integer number);
 
+    @Query("""
+                    select new io.github.aikobn26.teamprogressviz.feature.repository.model.PullRequestSyncSnapshot(pr.number, pr.sourceHash)
+                    from PullRequest pr
+                    where pr.repository.id = :repositoryId
+                        and pr.number in :numbers
+                        and pr.deletedAt is null
+                    """)
+    List<PullRequestSyncSnapshot> findSyncSnapshots(@Param("repositoryId") Long repositoryId, @Param("numbers") Collection<Integer> numbers);
+
+    @EntityGraph(attributePaths = {"repository", "author"})
     Page<PullRequest> findByRepositoryOrganizationIdAndDeletedAtIsNull(Long organizationId, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"repository", "author"})
     Page<PullRequest> findByRepositoryOrganizationIdAndIdLessThanAndDeletedAtIsNull(Long organizationId, Long id, Pageable pageable);
 
     Optional<PullRequest> findFirstByRepositoryOrganizationIdAndAuthorIdAndDeletedAtIsNullOrderByUpdatedAtDesc(Long organizationId, Long authorId);
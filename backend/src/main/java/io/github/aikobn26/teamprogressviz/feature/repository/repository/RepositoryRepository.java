@@ -1,11 +1,17 @@
 package io.github.aikobn26.teamprogressviz.feature.repository.repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import io.github.aikobn26.teamprogressviz.feature.organization.entity.Organization;
+import io.github.aikobn26.teamprogressviz.feature.organization.model.RepositorySyncCandidate;
 import io.github.aikobn26.teamprogressviz.feature.repository.entity.Repository;
 
 
@@ -15,9 +21,31 @@ public interface RepositoryRepository extends JpaRepository<Repository, Long> {
 
     Optional<Repository> findByOrganizationIdAndGithubId(Long organizationId, Long githubId);
 
+    List<Repository> findByGithubIdIn(Collection<Long> githubIds);
+
     Optional<Repository> findByIdAndDeletedAtIsNull(Long repositoryId);
 
     List<Repository> findByOrganizationAndDeletedAtIsNull(Organization organization);
 
     List<Repository> findByOrganizationIdAndDeletedAtIsNull(Long organizationId);
+
+    @Query("""
+            select new io.github.aikobn26.teamprogressviz.feature.organization.model.RepositorySyncCandidate(
+                r.id,
+                r.organization.id,
+                r.archived,
+                s.lastSyncedAt,
+                s.errorMessage,
+                (select max(g.committedAt) from GitCommit g where g.repository = r and g.deletedAt is null))
+            from Repository r
+            left join RepositorySyncStatus s on s.repository = r and s.deletedAt is null
+            where r.deletedAt is null
+              and r.organization.deletedAt is null
+              and (s.lastSyncedAt is null or s.lastSyncedAt < :staleBefore)
+              and (s.circuitOpenUntil is null or s.circuitOpenUntil <= :now)
+            order by s.lastSyncedAt asc nulls first
+            """)
+    List<RepositorySyncCandidate> findSyncCandidates(@Param("staleBefore") OffsetDateTime staleBefore,
+                                                     @Param("now") OffsetDateTime now,
+                                                     Pageable pageable);
 }
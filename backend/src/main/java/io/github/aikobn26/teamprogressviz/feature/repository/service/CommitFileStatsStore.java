@@ -0,0 +1,71 @@
+package io.github.aikobn26.teamprogressviz.feature.repository.service;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubRepositoryService.GitHubCommitFile;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * File stats of commits by SHA, kept in {@code commit_file_stats} independently of any repository. A commit's file
+ * list is content-addressed and never changes, so once fetched it answers for every repository that contains the
+ * SHA, such as forks, and survives {@code commit_file} rows being cleared while commit details are switched off.
+ * <p>
+ * Rows are never updated or deleted. Writes are auto-committed on their own, outside the sync's transactions, so a
+ * concurrent insert of the same SHA by another repository's sync loses quietly instead of aborting a transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommitFileStatsStore {
+
+    private static final Logger log = LoggerFactory.getLogger(CommitFileStatsStore.class);
+    private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json().build();
+    private static final TypeReference<List<GitHubCommitFile>> FILES = new TypeReference<>() { };
+
+    private static final String SELECT_SQL = "select files from commit_file_stats where sha = ?";
+    private static final String INSERT_SQL = "insert into commit_file_stats (sha, files, created_at) values (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return the files stored for {@code sha}, possibly none, or empty if the commit was never fetched
+     */
+    public Optional<List<GitHubCommitFile>> find(String sha) {
+        List<String> rows = jdbcTemplate.queryForList(SELECT_SQL, String.class, sha);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(OBJECT_MAPPER.readValue(rows.get(0), FILES));
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable file stats of commit {}: {}", sha, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void save(String sha, List<GitHubCommitFile> files) {
+        String json;
+        try {
+            json = OBJECT_MAPPER.writeValueAsString(files == null ? List.of() : files);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize file stats of commit " + sha, e);
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, sha, json, OffsetDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            // Stored by another sync in the meantime; the content is the same.
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.aikobn26.teamprogressviz.feature.repository.service;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -8,8 +9,16 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 import java.util.function.IntConsumer;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,23 +38,35 @@ import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubRepositor
 import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubRepositoryService.GitHubPullRequestFile;
 import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubRepositoryService.GitHubPullRequestSummary;
 import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubRepositoryService.GitHubSimpleUser;
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobProfile;
 import io.github.aikobn26.teamprogressviz.feature.organization.entity.Organization;
+import io.github.aikobn26.teamprogressviz.feature.organization.model.SyncCheckpointPhase;
 import io.github.aikobn26.teamprogressviz.feature.organization.properties.OrganizationSyncProperties;
+import io.github.aikobn26.teamprogressviz.feature.organization.service.ActivityBucketService;
 import io.github.aikobn26.teamprogressviz.feature.organization.service.RepositorySyncStatusService;
+import io.github.aikobn26.teamprogressviz.feature.organization.service.RepositorySyncStatusService.RepositorySyncCheckpoint;
 import io.github.aikobn26.teamprogressviz.feature.repository.entity.CommitFile;
 import io.github.aikobn26.teamprogressviz.feature.repository.entity.GitCommit;
 import io.github.aikobn26.teamprogressviz.feature.repository.entity.PullRequest;
 import io.github.aikobn26.teamprogressviz.feature.repository.entity.PullRequestFile;
 import io.github.aikobn26.teamprogressviz.feature.repository.entity.Repository;
+import io.github.aikobn26.teamprogressviz.feature.repository.model.CommitSyncSnapshot;
 import io.github.aikobn26.teamprogressviz.feature.repository.repository.CommitFileRepository;
 import io.github.aikobn26.teamprogressviz.feature.repository.repository.GitCommitRepository;
 import io.github.aikobn26.teamprogressviz.feature.repository.repository.PullRequestFileRepository;
 import io.github.aikobn26.teamprogressviz.feature.repository.repository.PullRequestRepository;
 import io.github.aikobn26.teamprogressviz.feature.repository.repository.RepositoryRepository;
 import io.github.aikobn26.teamprogressviz.feature.user.entity.User;
+import io.github.aikobn26.teamprogressviz.feature.user.model.GitHubUserProfile;
+import io.github.aikobn26.teamprogressviz.feature.user.service.GitHubUserCache;
 import io.github.aikobn26.teamprogressviz.feature.user.service.UserService;
+import io.github.aikobn26.teamprogressviz.shared.concurrency.DatabaseConcurrencyLimiter;
 import io.github.aikobn26.teamprogressviz.shared.exception.ResourceNotFoundException;
 import io.github.aikobn26.teamprogressviz.shared.exception.ValidationException;
+import io.github.aikobn26.teamprogressviz.shared.persistence.ContentHash;
+import io.github.aikobn26.teamprogressviz.shared.persistence.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -65,10 +86,14 @@ public class RepositoryActivitySyncService {
     private final CommitFileRepository commitFileRepository;
     private final GitCommitRepository gitCommitRepository;
     private final RepositorySyncStatusService repositorySyncStatusService;
+    private final ActivityBucketService activityBucketService;
     private final GitHubRepositoryService gitHubRepositoryService;
+    private final CommitFileStatsStore commitFileStatsStore;
     private final UserService userService;
     private final OrganizationSyncProperties organizationSyncProperties;
     private final PlatformTransactionManager transactionManager;
+    private final DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
+    private final MeterRegistry meterRegistry;
 
     private static final IntConsumer NO_OP_PROGRESS = progress -> { };
 
@@ -79,6 +104,26 @@ public class RepositoryActivitySyncService {
 
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void synchronizeActivities(Organization organization, String accessToken, IntConsumer progressConsumer) {
+        synchronizeActivities(organization, accessToken, null, progressConsumer);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void synchronizeActivities(Organization organization,
+                                      String accessToken,
+                                      String checkpointRunId,
+                                      IntConsumer progressConsumer) {
+        synchronizeActivities(organization, accessToken, checkpointRunId, progressConsumer, new JobProfile());
+    }
+
+    /**
+     * Records one profile item per repository, keyed by its full name.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void synchronizeActivities(Organization organization,
+                                      String accessToken,
+                                      String checkpointRunId,
+                                      IntConsumer progressConsumer,
+                                      JobProfile profile) {
         if (organization == null || organization.getId() == null) {
             if (progressConsumer != null) {
                 progressConsumer.accept(100);
@@ -87,28 +132,102 @@ public class RepositoryActivitySyncService {
         }
         IntConsumer progress = progressConsumer != null ? progressConsumer : NO_OP_PROGRESS;
 
+        // Repositories whose circuit is open are left alone until their cool-down expires.
+        Set<Long> circuitOpen = executeInTransaction(() -> repositorySyncStatusService
+                .findCircuitOpenRepositoryIds(organization.getId(), OffsetDateTime.now()));
         List<RepositorySyncTarget> targets = executeInTransaction(() -> repositoryRepository
                 .findByOrganizationIdAndDeletedAtIsNull(organization.getId())
                 .stream()
                 .map(this::toSyncTarget)
                 .filter(Objects::nonNull)
+                .filter(target -> !circuitOpen.contains(target.id()))
                 .toList());
+        if (!circuitOpen.isEmpty()) {
+            log.info("Skipping {} repositories with an open circuit in organization {}", circuitOpen.size(),
+                    organization.getId());
+        }
 
         if (targets.isEmpty()) {
             progress.accept(100);
             return;
         }
 
+        // Authors recur across repositories, so one cache spans the whole organization sync.
+        GitHubUserCache userCache = new GitHubUserCache();
+        int concurrency = Math.max(1, organizationSyncProperties.getRepositoryConcurrency());
+        if (concurrency > 1 && targets.size() > 1) {
+            synchronizeConcurrently(targets, accessToken, checkpointRunId, userCache, concurrency, progress, profile);
+            return;
+        }
+
         int total = targets.size();
         int processed = 0;
         for (RepositorySyncTarget target : targets) {
-            synchronizeRepositoryInternal(target, accessToken);
+            synchronizeCounted(target, accessToken, checkpointRunId, userCache, profileItem(profile, target),
+                    SqlStatementCounter.current());
             processed++;
             int percent = (int) Math.round((processed * 100.0) / total);
             progress.accept(Math.min(100, Math.max(0, percent)));
         }
     }
 
+    // Each repository runs on its own virtual thread; DB work is still bounded by DatabaseConcurrencyLimiter.
+    private void synchronizeConcurrently(List<RepositorySyncTarget> targets,
+                                         String accessToken,
+                                         String checkpointRunId,
+                                         GitHubUserCache userCache,
+                                         int concurrency,
+                                         IntConsumer progress,
+                                         JobProfile profile) {
+        int total = targets.size();
+        Semaphore slots = new Semaphore(concurrency);
+        ReentrantLock progressLock = new ReentrantLock();
+        int[] processed = {0};
+        List<Future<?>> futures = new ArrayList<>(total);
+        SqlStatementCounter.Scope statements = SqlStatementCounter.current();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (RepositorySyncTarget target : targets) {
+                futures.add(executor.submit(() -> {
+                    slots.acquireUninterruptibly();
+                    try {
+                        synchronizeCounted(target, accessToken, checkpointRunId, userCache,
+                                profileItem(profile, target), statements);
+                    } finally {
+                        slots.release();
+                        progressLock.lock();
+                        try {
+                            processed[0]++;
+                            int percent = (int) Math.round((processed[0] * 100.0) / total);
+                            progress.accept(Math.min(100, Math.max(0, percent)));
+                        } finally {
+                            progressLock.unlock();
+                        }
+                    }
+                }));
+            }
+        }
+
+        RuntimeException failure = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException runtime
+                            ? runtime
+                            : new IllegalStateException(e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while synchronizing repositories", e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void synchronizeRepository(Long repositoryId, String accessToken) {
         if (repositoryId == null) {
@@ -139,6 +258,35 @@ public class RepositoryActivitySyncService {
     }
 
     private void synchronizeRepositoryInternal(RepositorySyncTarget target, String accessToken) {
+        synchronizeRepositoryInternal(target, accessToken, null, new GitHubUserCache(),
+                profileItem(new JobProfile(), target));
+    }
+
+    // Counts the repository's statements on its item and in the caller's scope, which may be on another thread.
+    private void synchronizeCounted(RepositorySyncTarget target,
+                                    String accessToken,
+                                    String checkpointRunId,
+                                    GitHubUserCache userCache,
+                                    JobProfile.Item profile,
+                                    SqlStatementCounter.Scope parent) {
+        try (SqlStatementCounter.Scope statements = SqlStatementCounter.open(parent)) {
+            try {
+                synchronizeRepositoryInternal(target, accessToken, checkpointRunId, userCache, profile);
+            } finally {
+                profile.recordStatements(statements.count());
+            }
+        }
+    }
+
+    private JobProfile.Item profileItem(JobProfile profile, RepositorySyncTarget target) {
+        return profile.item(StringUtils.hasText(target.fullName()) ? target.fullName() : String.valueOf(target.id()));
+    }
+
+    private void synchronizeRepositoryInternal(RepositorySyncTarget target,
+                                               String accessToken,
+                                               String checkpointRunId,
+                                               GitHubUserCache userCache,
+                                               JobProfile.Item profile) {
         if (target == null || target.id() == null) {
             return;
         }
@@ -147,81 +295,148 @@ public class RepositoryActivitySyncService {
             return;
         }
 
+        RepositorySyncCheckpoint checkpoint = checkpointRunId == null
+                ? null
+                : executeInTransaction(profile, () -> repositorySyncStatusService
+                        .findCheckpoint(target.id(), checkpointRunId)
+                        .orElse(null));
+        SyncCheckpointPhase resumePhase = checkpoint != null ? checkpoint.phase() : null;
+        if (resumePhase == SyncCheckpointPhase.COMPLETED) {
+            return;
+        }
+
         OffsetDateTime attemptStartedAt = OffsetDateTime.now();
         String latestCommitSha = null;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
-            List<GitHubPullRequestSummary> summaries = gitHubRepositoryService.listPullRequestSummaries(
-                    accessToken,
-                    ownerRepo.owner(),
-                    ownerRepo.name(),
-                    MAX_PULL_REQUESTS);
+            PullRequestCursor resumeCursor = resumePhase == SyncCheckpointPhase.PULL_REQUESTS
+                    ? PullRequestCursor.parse(checkpoint.cursor())
+                    : null;
+            OffsetDateTime listedAt = resumeCursor != null ? resumeCursor.listedAt() : OffsetDateTime.now();
+            List<GitHubPullRequestSummary> summaries = resumePhase == SyncCheckpointPhase.COMMITS
+                    ? List.of()
+                    : profile.github(() -> gitHubRepositoryService.listPullRequestSummaries(
+                            accessToken,
+                            ownerRepo.owner(),
+                            ownerRepo.name(),
+                            MAX_PULL_REQUESTS));
+            Map<Integer, String> pullRequestHashes = loadPullRequestHashes(target.id(), summaries);
 
             for (GitHubPullRequestSummary summary : summaries) {
                 if (summary == null || summary.number() == null) {
                     continue;
                 }
-                Optional<GitHubPullRequest> detailOpt = gitHubRepositoryService.getPullRequest(
+                if (resumeCursor != null && resumeCursor.covers(summary)) {
+                    continue;
+                }
+                Optional<GitHubPullRequest> detailOpt = profile.github(() -> gitHubRepositoryService.getPullRequest(
                         accessToken,
                         ownerRepo.owner(),
                         ownerRepo.name(),
-                        summary.number());
+                        summary.number()));
                 if (detailOpt.isEmpty()) {
                     continue;
                 }
                 GitHubPullRequest detail = detailOpt.get();
                 List<GitHubPullRequestFile> files = organizationSyncProperties.isFetchPullRequestDetails()
-                        ? gitHubRepositoryService.listPullRequestFiles(
+                        ? profile.github(() -> gitHubRepositoryService.listPullRequestFiles(
                                 accessToken,
                                 ownerRepo.owner(),
                                 ownerRepo.name(),
                                 detail.number(),
-                                MAX_PULL_REQUEST_FILES)
+                                MAX_PULL_REQUEST_FILES))
                         : List.of();
-                executeInTransaction(() -> {
+                String sourceHash = pullRequestHash(detail, files);
+                if (sourceHash.equals(pullRequestHashes.get(summary.number()))) {
+                    continue;
+                }
+                executeInTransaction(profile, () -> {
                     Repository managedRepository = getActiveRepository(target.id());
                     if (managedRepository == null) {
                         return;
                     }
-                    persistPullRequest(managedRepository, detail, files);
+                    persistPullRequest(managedRepository, detail, files, sourceHash, userCache, profile);
+                    repositorySyncStatusService.markBucketsDirty(target.id(), detail.mergedAt());
+                    repositorySyncStatusService.recordCheckpoint(managedRepository, checkpointRunId,
+                            SyncCheckpointPhase.PULL_REQUESTS,
+                            new PullRequestCursor(summary.number(), summary.updatedAt(), listedAt).format());
                 });
             }
 
-            List<GitHubCommit> commits = gitHubRepositoryService.listCommits(
+            List<GitHubCommit> commits = profile.github(() -> gitHubRepositoryService.listCommits(
                     accessToken,
                     ownerRepo.owner(),
                     ownerRepo.name(),
                     MAX_COMMITS,
-                    OffsetDateTime.now().minusDays(ACTIVITY_LOOKBACK_DAYS));
+                    OffsetDateTime.now().minusDays(ACTIVITY_LOOKBACK_DAYS)));
+
+            Map<String, CommitSyncSnapshot> commitSnapshots = loadCommitSnapshots(target.id(), commits);
+            boolean fetchCommitDetails = organizationSyncProperties.isFetchCommitDetails();
 
+            // Commits resume by SHA rather than by list position: rows already stored with the same hash (and files)
+            // are skipped without API calls, while commits pushed since the failed attempt are always processed.
             for (GitHubCommit commit : commits) {
                 if (commit == null || !StringUtils.hasText(commit.sha())) {
                     continue;
                 }
-                CommitUpsertResult upsertResult = executeInTransaction(() -> {
-                    Repository managedRepository = getActiveRepository(target.id());
-                    if (managedRepository == null) {
-                        return null;
-                    }
-                    return persistCommit(managedRepository, commit);
-                });
+                String sourceHash = ContentHash.of(commit);
+                CommitSyncSnapshot snapshot = commitSnapshots.get(commit.sha());
+                OffsetDateTime commitTime = commit.committedAt() != null ? commit.committedAt() : commit.authoredAt();
+                CommitUpsertResult upsertResult;
+                if (snapshot != null && sourceHash.equals(snapshot.sourceHash())) {
+                    // Unchanged since the last sync: the row is left alone and only file bookkeeping may remain.
+                    upsertResult = new CommitUpsertResult(snapshot.id(), snapshot.hasFiles(),
+                            snapshot.hasFiles() || snapshot.filesSynced());
+                } else {
+                    upsertResult = executeInTransaction(profile, () -> {
+                        Repository managedRepository = getActiveRepository(target.id());
+                        if (managedRepository == null) {
+                            return null;
+                        }
+                        CommitUpsertResult result = persistCommit(managedRepository, commit, sourceHash, userCache, profile);
+                        repositorySyncStatusService.markBucketsDirty(target.id(), commitTime);
+                        if (result != null && (fetchCommitDetails ? result.filesSynced() : !result.hasExistingFiles())) {
+                            repositorySyncStatusService.recordCheckpoint(managedRepository, checkpointRunId,
+                                    SyncCheckpointPhase.COMMITS, commit.sha());
+                        }
+                        return result;
+                    });
+                }
                 if (upsertResult == null) {
                     continue;
                 }
 
-                if (organizationSyncProperties.isFetchCommitDetails()) {
-                    if (!upsertResult.hasExistingFiles() && ownerRepo != null && StringUtils.hasText(accessToken)) {
-            Optional<GitHubCommitDetail> detailOpt = gitHubRepositoryService.getCommit(
-                                accessToken,
-                                ownerRepo.owner(),
-                                ownerRepo.name(),
-                                commit.sha());
-                        detailOpt.ifPresent(detail -> executeInTransaction(() -> {
-                            synchronizeCommitFiles(upsertResult.commit(), detail.files());
-                        }));
+                // Commits without files (merges, empty commits) count as synced once their empty list was recorded,
+                // so re-syncs neither look them up again nor mark the buckets dirty.
+                if (fetchCommitDetails && !upsertResult.filesSynced()) {
+                    Optional<List<GitHubCommitFile>> filesOpt = loadCommitFiles(accessToken, ownerRepo, commit.sha(), profile);
+                    if (filesOpt.isEmpty()) {
+                        continue;
                     }
-                } else {
-                    executeInTransaction(() -> {
-                        clearCommitFiles(upsertResult.commit());
+                    List<GitHubCommitFile> files = filesOpt.get();
+                    if (files.isEmpty()) {
+                        // The commit has no file rows either, so only the marker is written and the buckets stay as they are.
+                        executeInTransaction(profile, () -> gitCommitRepository.markFilesSynced(
+                                upsertResult.commitId(), OffsetDateTime.now()));
+                        recordRowWritten(profile, "git_commit");
+                        continue;
+                    }
+                    executeInTransaction(profile, () -> {
+                        GitCommit managedCommit = gitCommitRepository.getReferenceById(upsertResult.commitId());
+                        synchronizeCommitFiles(managedCommit, files, profile);
+                        managedCommit.setFilesSyncedAt(OffsetDateTime.now());
+                        recordRowWritten(profile, "git_commit");
+                        // Line counts in the buckets come from these files.
+                        repositorySyncStatusService.markBucketsDirty(target.id(), commitTime);
+                        recordCheckpoint(target.id(), checkpointRunId, SyncCheckpointPhase.COMMITS, commit.sha());
+                    });
+                } else if (!fetchCommitDetails && upsertResult.hasExistingFiles()) {
+                    executeInTransaction(profile, () -> {
+                        clearCommitFiles(upsertResult.commitId(), profile);
+                        gitCommitRepository.getReferenceById(upsertResult.commitId()).setFilesSyncedAt(null);
+                        repositorySyncStatusService.markBucketsDirty(target.id(), commitTime);
+                        recordCheckpoint(target.id(), checkpointRunId, SyncCheckpointPhase.COMMITS, commit.sha());
                     });
                 }
             }
@@ -232,20 +447,31 @@ public class RepositoryActivitySyncService {
 
             String latestShaForStatus = latestCommitSha;
             OffsetDateTime finishedAt = OffsetDateTime.now();
-            executeInTransaction(() -> {
+            executeInTransaction(profile, () -> {
                 Repository managedRepository = getActiveRepository(target.id());
                 if (managedRepository == null) {
                     return;
                 }
+                // Also picks up marks left behind by an earlier sync that failed after writing rows.
+                if (target.organizationId() != null) {
+                    repositorySyncStatusService.findBucketDirtySince(target.id()).ifPresent(since -> {
+                        activityBucketService.refreshRepository(target.organizationId(), target.id(), since);
+                        repositorySyncStatusService.clearBucketsDirty(target.id(), since);
+                    });
+                }
                 repositorySyncStatusService.markSynced(managedRepository, finishedAt, latestShaForStatus);
+                repositorySyncStatusService.recordCheckpoint(managedRepository, checkpointRunId,
+                        SyncCheckpointPhase.COMPLETED, null);
             });
+            outcome = "success";
         } catch (GitHubApiException e) {
+            outcome = "github_error";
             String repositoryName = StringUtils.hasText(target.fullName())
                     ? target.fullName()
                     : String.valueOf(target.id());
             log.warn("Failed to synchronize repository {}: {}", repositoryName, e.getMessage());
             String message = e.getMessage();
-            executeInTransaction(() -> {
+            executeInTransaction(profile, () -> {
                 Repository managedRepository = getActiveRepository(target.id());
                 if (managedRepository == null) {
                     return;
@@ -254,7 +480,7 @@ public class RepositoryActivitySyncService {
             });
         } catch (RuntimeException e) {
             String message = e.getMessage();
-            executeInTransaction(() -> {
+            executeInTransaction(profile, () -> {
                 Repository managedRepository = getActiveRepository(target.id());
                 if (managedRepository == null) {
                     return;
@@ -262,10 +488,21 @@ public class RepositoryActivitySyncService {
                 repositorySyncStatusService.markFailure(managedRepository, attemptStartedAt, message);
             });
             throw e;
+        } finally {
+            // Tagged by outcome only; a per-repository tag would grow without bound with the number of repositories.
+            sample.stop(Timer.builder("sync.repository.duration")
+                    .description("Time to synchronize one repository")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
         }
     }
 
-    private void persistPullRequest(Repository repository, GitHubPullRequest pullRequest, List<GitHubPullRequestFile> files) {
+    private void persistPullRequest(Repository repository,
+                                    GitHubPullRequest pullRequest,
+                                    List<GitHubPullRequestFile> files,
+                                    String sourceHash,
+                                    GitHubUserCache userCache,
+                                    JobProfile.Item profile) {
         PullRequest entity = pullRequestRepository
                 .findByRepositoryIdAndNumberAndDeletedAtIsNull(repository.getId(), pullRequest.number())
                 .orElseGet(() -> PullRequest.builder()
@@ -287,19 +524,24 @@ public class RepositoryActivitySyncService {
         entity.setUpdatedAt(pullRequest.updatedAt());
         entity.setMergedAt(pullRequest.mergedAt());
         entity.setClosedAt(pullRequest.closedAt());
-        entity.setAuthor(toUser(pullRequest.author()));
-        entity.setMergedBy(toUser(pullRequest.mergedBy()));
+        Map<Long, User> users = resolveUsers(userCache, pullRequest.author(), pullRequest.mergedBy());
+        entity.setAuthor(toUser(users, pullRequest.author()));
+        entity.setMergedBy(toUser(users, pullRequest.mergedBy()));
+        entity.setSourceHash(sourceHash);
         entity.setDeletedAt(null);
 
         PullRequest saved = pullRequestRepository.save(entity);
+        recordRowWritten(profile, "pull_request");
         if (organizationSyncProperties.isFetchPullRequestDetails()) {
-            synchronizePullRequestFiles(saved, files);
+            synchronizePullRequestFiles(saved, files, profile);
         } else {
-            clearPullRequestFiles(saved);
+            clearPullRequestFiles(saved, profile);
         }
     }
 
-    private void synchronizePullRequestFiles(PullRequest pullRequest, List<GitHubPullRequestFile> files) {
+    private void synchronizePullRequestFiles(PullRequest pullRequest,
+                                             List<GitHubPullRequestFile> files,
+                                             JobProfile.Item profile) {
         Map<String, PullRequestFile> existing = new HashMap<>();
         List<PullRequestFile> current = pullRequestFileRepository
                 .findByPullRequestIdAndDeletedAtIsNullOrderByPathAsc(pullRequest.getId());
@@ -331,6 +573,7 @@ public class RepositoryActivitySyncService {
                 entity.setDeletedAt(null);
 
                 pullRequestFileRepository.save(entity);
+                recordRowWritten(profile, "pull_request_file");
             }
         }
 
@@ -340,11 +583,16 @@ public class RepositoryActivitySyncService {
                 PullRequestFile obsolete = entry.getValue();
                 obsolete.setDeletedAt(now);
                 pullRequestFileRepository.save(obsolete);
+                recordRowWritten(profile, "pull_request_file");
             }
         }
     }
 
-    private CommitUpsertResult persistCommit(Repository repository, GitHubCommit commit) {
+    private CommitUpsertResult persistCommit(Repository repository,
+                                             GitHubCommit commit,
+                                             String sourceHash,
+                                             GitHubUserCache userCache,
+                                             JobProfile.Item profile) {
         if (commit == null || !StringUtils.hasText(commit.sha())) {
             return null;
         }
@@ -360,21 +608,45 @@ public class RepositoryActivitySyncService {
         entity.setHtmlUrl(commit.htmlUrl());
         entity.setAuthorName(commit.authorName());
         entity.setAuthorEmail(commit.authorEmail());
+        entity.setAuthor(toUser(resolveUsers(userCache, commit.author()), commit.author()));
         entity.setCommitterName(commit.committerName());
         entity.setCommitterEmail(commit.committerEmail());
         OffsetDateTime committedAt = commit.committedAt() != null ? commit.committedAt() : commit.authoredAt();
         entity.setCommittedAt(committedAt);
         entity.setPushedAt(commit.committedAt());
+        entity.setSourceHash(sourceHash);
         entity.setDeletedAt(null);
 
         GitCommit saved = gitCommitRepository.save(entity);
+        recordRowWritten(profile, "git_commit");
 
         boolean hasFiles = commitFileRepository.existsByCommitIdAndDeletedAtIsNull(saved.getId());
-        return new CommitUpsertResult(saved, hasFiles);
+        return new CommitUpsertResult(saved.getId(), hasFiles, hasFiles || saved.getFilesSyncedAt() != null);
+    }
+
+    // A SHA already fetched for any repository, a fork or this one before its files were cleared, costs no API call.
+    private Optional<List<GitHubCommitFile>> loadCommitFiles(String accessToken,
+                                                             OwnerRepo ownerRepo,
+                                                             String sha,
+                                                             JobProfile.Item profile) {
+        Optional<List<GitHubCommitFile>> stored = executeInTransaction(profile, () -> commitFileStatsStore.find(sha));
+        if (stored.isPresent()) {
+            meterRegistry.counter("sync.commit.details", "source", "store").increment();
+            return stored;
+        }
+        Optional<GitHubCommitDetail> detail = profile.github(() -> gitHubRepositoryService.getCommit(
+                accessToken,
+                ownerRepo.owner(),
+                ownerRepo.name(),
+                sha));
+        meterRegistry.counter("sync.commit.details", "source", "github").increment();
+        detail.ifPresent(fetched -> databaseConcurrencyLimiter.run(() -> commitFileStatsStore.save(sha, fetched.files())));
+        return detail.map(GitHubCommitDetail::files);
     }
 
     private void synchronizeCommitFiles(GitCommit commit,
-                                        List<GitHubCommitFile> files) {
+                                        List<GitHubCommitFile> files,
+                                        JobProfile.Item profile) {
         Map<String, CommitFile> existing = new HashMap<>();
         List<CommitFile> current = commitFileRepository
                 .findByCommitIdAndDeletedAtIsNullOrderByPathAsc(commit.getId());
@@ -407,6 +679,7 @@ public class RepositoryActivitySyncService {
                 entity.setDeletedAt(null);
 
                 commitFileRepository.save(entity);
+                recordRowWritten(profile, "commit_file");
             }
         }
 
@@ -416,16 +689,17 @@ public class RepositoryActivitySyncService {
                 CommitFile obsolete = entry.getValue();
                 obsolete.setDeletedAt(now);
                 commitFileRepository.save(obsolete);
+                recordRowWritten(profile, "commit_file");
             }
         }
     }
 
-    private void clearCommitFiles(GitCommit commit) {
-        if (commit == null || commit.getId() == null) {
+    private void clearCommitFiles(Long commitId, JobProfile.Item profile) {
+        if (commitId == null) {
             return;
         }
         List<CommitFile> current = commitFileRepository
-                .findByCommitIdAndDeletedAtIsNullOrderByPathAsc(commit.getId());
+                .findByCommitIdAndDeletedAtIsNullOrderByPathAsc(commitId);
         if (current.isEmpty()) {
             return;
         }
@@ -433,10 +707,11 @@ public class RepositoryActivitySyncService {
         for (CommitFile file : current) {
             file.setDeletedAt(now);
             commitFileRepository.save(file);
+            recordRowWritten(profile, "commit_file");
         }
     }
 
-    private void clearPullRequestFiles(PullRequest pullRequest) {
+    private void clearPullRequestFiles(PullRequest pullRequest, JobProfile.Item profile) {
         if (pullRequest == null || pullRequest.getId() == null) {
             return;
         }
@@ -449,24 +724,107 @@ public class RepositoryActivitySyncService {
         for (PullRequestFile file : current) {
             file.setDeletedAt(now);
             pullRequestFileRepository.save(file);
+            recordRowWritten(profile, "pull_request_file");
         }
     }
 
+    // Files are part of the hash only when they are synced, so toggling the option rewrites every pull request once.
+    private String pullRequestHash(GitHubPullRequest pullRequest, List<GitHubPullRequestFile> files) {
+        return organizationSyncProperties.isFetchPullRequestDetails()
+                ? ContentHash.of(pullRequest, files)
+                : ContentHash.of(pullRequest);
+    }
+
+    private Map<Integer, String> loadPullRequestHashes(Long repositoryId, List<GitHubPullRequestSummary> summaries) {
+        List<Integer> numbers = summaries.stream()
+                .filter(Objects::nonNull)
+                .map(GitHubPullRequestSummary::number)
+                .filter(Objects::nonNull)
+                .toList();
+        if (numbers.isEmpty()) {
+            return Map.of();
+        }
+        Map<Integer, String> hashes = new HashMap<>();
+        executeInTransaction(() -> pullRequestRepository.findSyncSnapshots(repositoryId, numbers).forEach(snapshot -> {
+            if (snapshot.sourceHash() != null) {
+                hashes.put(snapshot.number(), snapshot.sourceHash());
+            }
+        }));
+        return hashes;
+    }
+
+    private Map<String, CommitSyncSnapshot> loadCommitSnapshots(Long repositoryId, List<GitHubCommit> commits) {
+        List<String> shas = commits.stream()
+                .filter(Objects::nonNull)
+                .map(GitHubCommit::sha)
+                .filter(StringUtils::hasText)
+                .toList();
+        if (shas.isEmpty()) {
+            return Map.of();
+        }
+        return executeInTransaction(() -> gitCommitRepository.findSyncSnapshots(repositoryId, shas).stream()
+                .collect(Collectors.toMap(CommitSyncSnapshot::sha, Function.identity(), (first, second) -> first)));
+    }
+
+    private void recordCheckpoint(Long repositoryId, String checkpointRunId, SyncCheckpointPhase phase, String cursor) {
+        if (checkpointRunId == null) {
+            return;
+        }
+        Repository managedRepository = getActiveRepository(repositoryId);
+        if (managedRepository != null) {
+            repositorySyncStatusService.recordCheckpoint(managedRepository, checkpointRunId, phase, cursor);
+        }
+    }
+
+    // Rows written by the sync, including soft deletes; unchanged rows are skipped before they get here.
+    private void recordRowWritten(JobProfile.Item profile, String table) {
+        meterRegistry.counter("sync.rows.written", "table", table).increment();
+        profile.recordRowWritten();
+    }
+
     private void executeInTransaction(Runnable action) {
         TransactionTemplate template = new TransactionTemplate(transactionManager);
-        template.executeWithoutResult(status -> action.run());
+        databaseConcurrencyLimiter.run(() -> template.executeWithoutResult(status -> action.run()));
     }
 
     private <T> T executeInTransaction(Supplier<T> action) {
         TransactionTemplate template = new TransactionTemplate(transactionManager);
-        return template.execute(status -> action.get());
+        return databaseConcurrencyLimiter.call(() -> template.execute(status -> action.get()));
     }
 
-    private User toUser(GitHubSimpleUser simpleUser) {
-        if (simpleUser == null || simpleUser.id() == null || !StringUtils.hasText(simpleUser.login())) {
+    private void executeInTransaction(JobProfile.Item profile, Runnable action) {
+        executeInTransaction(profile, () -> {
+            action.run();
             return null;
+        });
+    }
+
+    // Time until the permit is granted counts as lock wait; the transaction itself counts as database time.
+    private <T> T executeInTransaction(JobProfile.Item profile, Supplier<T> action) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        long requested = System.nanoTime();
+        return databaseConcurrencyLimiter.call(() -> {
+            long acquired = System.nanoTime();
+            try {
+                return template.execute(status -> action.get());
+            } finally {
+                profile.recordDatabase(acquired - requested, System.nanoTime() - acquired);
+            }
+        });
+    }
+
+    private Map<Long, User> resolveUsers(GitHubUserCache userCache, GitHubSimpleUser... simpleUsers) {
+        List<GitHubUserProfile> profiles = new ArrayList<>(simpleUsers.length);
+        for (GitHubSimpleUser simpleUser : simpleUsers) {
+            if (simpleUser != null && simpleUser.id() != null) {
+                profiles.add(new GitHubUserProfile(simpleUser.id(), simpleUser.login(), simpleUser.avatarUrl()));
+            }
         }
-        return userService.upsertGitHubUser(simpleUser.id(), simpleUser.login(), null, simpleUser.avatarUrl());
+        return profiles.isEmpty() ? Map.of() : userService.resolveGitHubUsers(userCache, profiles);
+    }
+
+    private User toUser(Map<Long, User> users, GitHubSimpleUser simpleUser) {
+        return simpleUser == null || simpleUser.id() == null ? null : users.get(simpleUser.id());
     }
 
     private OwnerRepo resolveOwnerAndName(RepositorySyncTarget target) {
@@ -538,7 +896,49 @@ public class RepositoryActivitySyncService {
     private record OwnerRepo(String owner, String name) {
     }
 
-    private record CommitUpsertResult(GitCommit commit, boolean hasExistingFiles) {
+    /**
+     * Position of a pull request checkpoint. The list is ordered by {@code updated_at} descending, so the run had
+     * handled every pull request updated between the checkpointed one and the time it listed them. Anything updated
+     * after the listing sorts in front again and is processed on resume instead of being skipped by position.
+     */
+    private record PullRequestCursor(int number, OffsetDateTime updatedAt, OffsetDateTime listedAt) {
+
+        private static final String SEPARATOR = "|";
+
+        static PullRequestCursor parse(String cursor) {
+            if (!StringUtils.hasText(cursor)) {
+                return null;
+            }
+            String[] parts = cursor.split("\\|", -1);
+            if (parts.length != 3) {
+                return null;
+            }
+            try {
+                return new PullRequestCursor(Integer.parseInt(parts[0]),
+                        parts[1].isEmpty() ? null : OffsetDateTime.parse(parts[1]),
+                        OffsetDateTime.parse(parts[2]));
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+
+        String format() {
+            return number + SEPARATOR + (updatedAt != null ? updatedAt.toString() : "") + SEPARATOR + listedAt;
+        }
+
+        boolean covers(GitHubPullRequestSummary summary) {
+            OffsetDateTime summaryUpdatedAt = summary.updatedAt();
+            if (summaryUpdatedAt == null || updatedAt == null || summaryUpdatedAt.isAfter(listedAt)) {
+                return false;
+            }
+            if (summaryUpdatedAt.isEqual(updatedAt)) {
+                return summary.number() == number;
+            }
+            return summaryUpdatedAt.isAfter(updatedAt);
+        }
+    }
+
+    private record CommitUpsertResult(Long commitId, boolean hasExistingFiles, boolean filesSynced) {
     }
 
     private record RepositorySyncTarget(
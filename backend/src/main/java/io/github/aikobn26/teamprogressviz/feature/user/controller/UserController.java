@@ -14,6 +14,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 import io.github.aikobn26.teamprogressviz.feature.auth.service.GitHubOAuthService;
 import io.github.aikobn26.teamprogressviz.feature.job.dto.response.JobSubmissionResponse;
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobFairnessKey;
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobLane;
 import io.github.aikobn26.teamprogressviz.feature.job.service.JobService;
 import io.github.aikobn26.teamprogressviz.feature.user.dto.response.UserOnboardingJobResponse;
 import io.github.aikobn26.teamprogressviz.feature.user.dto.response.UserResponse;
@@ -88,7 +90,8 @@ public class UserController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         var user = userService.ensureUserExists(authenticated.get());
-        var job = jobService.submit("job-delete-user", () -> userService.deleteUser(user));
+        var job = jobService.submit("job-delete-user", JobLane.MAINTENANCE, JobFairnessKey.user(user.getId()),
+                () -> userService.deleteUser(user));
         session.invalidate();
         var response = new JobSubmissionResponse(job.id(), job.status().name().toLowerCase(Locale.ROOT));
         return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
@@ -0,0 +1,4 @@
+package io.github.aikobn26.teamprogressviz.feature.user.model;
+
+public record GitHubUserProfile(Long githubId, String login, String avatarUrl) {
+}
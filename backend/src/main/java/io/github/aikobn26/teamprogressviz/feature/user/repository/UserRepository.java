@@ -1,5 +1,7 @@
 package io.github.aikobn26.teamprogressviz.feature.user.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,6 +15,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByGithubId(Long githubId);
 
+    List<User> findByGithubIdIn(Collection<Long> githubIds);
+
     Optional<User> findByGithubIdAndDeletedAtIsNull(Long githubId);
 
     Optional<User> findByIdAndDeletedAtIsNull(Long id);
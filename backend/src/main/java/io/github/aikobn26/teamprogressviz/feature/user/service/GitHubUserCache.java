@@ -0,0 +1,39 @@
+package io.github.aikobn26.teamprogressviz.feature.user.service;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.github.aikobn26.teamprogressviz.feature.user.entity.User;
+import io.github.aikobn26.teamprogressviz.feature.user.model.GitHubUserProfile;
+
+/**
+ * Remembers which GitHub users a sync job has already upserted, keyed by GitHub id.
+ * A profile that matches the cached login and avatar resolves to the stored user id without touching locks or the
+ * database again. Create one per job; it is safe to share between the job's repository threads.
+ */
+public class GitHubUserCache {
+
+    private final Map<Long, CachedUser> users = new ConcurrentHashMap<>();
+
+    Long resolve(GitHubUserProfile profile) {
+        CachedUser cached = users.get(profile.githubId());
+        if (cached == null
+                || !Objects.equals(cached.login(), profile.login())
+                || !Objects.equals(cached.avatarUrl(), profile.avatarUrl())) {
+            return null;
+        }
+        return cached.userId();
+    }
+
+    void put(User user) {
+        users.put(user.getGithubId(), new CachedUser(user.getId(), user.getLogin(), user.getAvatarUrl()));
+    }
+
+    public int size() {
+        return users.size();
+    }
+
+    private record CachedUser(Long userId, String login, String avatarUrl) {
+    }
+}
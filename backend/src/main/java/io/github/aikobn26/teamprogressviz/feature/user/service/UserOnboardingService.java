@@ -13,7 +13,10 @@ import org.springframework.util.StringUtils;
 
 import io.github.aikobn26.teamprogressviz.feature.github.model.GitHubOrganization;
 import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubOrganizationService;
+import io.github.aikobn26.teamprogressviz.feature.job.exception.JobRejectedException;
 import io.github.aikobn26.teamprogressviz.feature.job.model.JobDescriptor;
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobFairnessKey;
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobLane;
 import io.github.aikobn26.teamprogressviz.feature.job.service.JobService;
 import io.github.aikobn26.teamprogressviz.feature.organization.entity.Organization;
 import io.github.aikobn26.teamprogressviz.feature.organization.service.OrganizationService;
@@ -34,6 +37,17 @@ public class UserOnboardingService {
     private final JobService jobService;
 
     public List<OnboardingJobResult> onboardUser(User user, String accessToken) {
+        return onboardUser(user, accessToken, false);
+    }
+
+    /**
+     * Registers the user's GitHub organizations and queues a sync job for each of them.
+     *
+     * @param rejectWhenQueueFull when {@code true} and the sync lane rejected every submission, the last
+     *                            {@link JobRejectedException} is rethrown so callers can answer 429; otherwise
+     *                            rejected organizations are only logged and left to the scheduled sync
+     */
+    public List<OnboardingJobResult> onboardUser(User user, String accessToken, boolean rejectWhenQueueFull) {
         if (user == null || user.getId() == null) {
             return List.of();
         }
@@ -91,13 +105,25 @@ public class UserOnboardingService {
         }
 
         List<OnboardingJobResult> jobs = new ArrayList<>();
+        JobRejectedException lastRejection = null;
         for (PendingSyncTarget target : pendingSyncTargets) {
             if (target.organizationId() == null) {
                 continue;
             }
-        JobDescriptor job = jobService.submit("job-sync-org",
-            context -> organizationService.synchronizeOrganization(target.organizationId(), accessToken, context::updateProgress));
-            jobs.add(new OnboardingJobResult(target.organizationId(), target.organizationLogin(), job.id()));
+            try {
+                JobDescriptor job = jobService.submit("job-sync-org", JobLane.SYNC, JobFairnessKey.token(accessToken),
+                        context -> organizationService.synchronizeOrganization(target.organizationId(), accessToken,
+                                context::updateProgress, context.profile()));
+                jobs.add(new OnboardingJobResult(target.organizationId(), target.organizationLogin(), job.id()));
+            } catch (JobRejectedException rejected) {
+                lastRejection = rejected;
+                log.warn("Skipped onboarding sync for organization {}: lane {} is full, retry after {}s",
+                        target.organizationLogin(), rejected.lane(), rejected.retryAfter().toSeconds());
+            }
+        }
+
+        if (rejectWhenQueueFull && jobs.isEmpty() && lastRejection != null) {
+            throw lastRejection;
         }
 
         return jobs;
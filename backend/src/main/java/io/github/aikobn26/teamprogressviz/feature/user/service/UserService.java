@@ -1,21 +1,30 @@
 package io.github.aikobn26.teamprogressviz.feature.user.service;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 
 import io.github.aikobn26.teamprogressviz.feature.auth.model.AuthenticatedUser;
-import io.github.aikobn26.teamprogressviz.feature.organization.repository.ActivityDailyRepository;
-import io.github.aikobn26.teamprogressviz.feature.organization.repository.DailyStatusRepository;
-import io.github.aikobn26.teamprogressviz.feature.organization.repository.UserOrganizationRepository;
 import io.github.aikobn26.teamprogressviz.feature.user.entity.User;
+import io.github.aikobn26.teamprogressviz.feature.user.model.GitHubUserProfile;
 import io.github.aikobn26.teamprogressviz.feature.user.repository.UserRepository;
 import io.github.aikobn26.teamprogressviz.shared.concurrency.KeyLockManager;
+import io.github.aikobn26.teamprogressviz.shared.persistence.SoftDeleteCascade;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -23,11 +32,15 @@ import lombok.RequiredArgsConstructor;
 @Transactional
 public class UserService {
 
+    private static final String INSERT_GITHUB_USER_SQL = """
+            insert into "user" (github_id, login, avatar_url, created_at, updated_at)
+            values (?, ?, ?, ?, ?)
+            """;
+
     private final UserRepository userRepository;
-    private final UserOrganizationRepository userOrganizationRepository;
-    private final DailyStatusRepository dailyStatusRepository;
-    private final ActivityDailyRepository activityDailyRepository;
     private final KeyLockManager keyLockManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final SoftDeleteCascade softDeleteCascade;
 
     public User ensureUserExists(AuthenticatedUser authenticatedUser) {
         return ensureUserExists(authenticatedUser, null);
@@ -77,8 +90,114 @@ public class UserService {
             throw new IllegalArgumentException("login must not be blank");
         }
 
-        String lockKey = "github-user:" + githubId;
-        return keyLockManager.callWithLock(lockKey, () -> upsertGitHubUserInternal(githubId, login, name, avatarUrl));
+        return keyLockManager.callWithLock(githubUserLockKey(githubId),
+                () -> upsertGitHubUserInternal(githubId, login, name, avatarUrl));
+    }
+
+    public Map<Long, User> upsertGitHubUsers(Collection<GitHubUserProfile> profiles) {
+        return resolveGitHubUsers(null, profiles);
+    }
+
+    /**
+     * Resolves GitHub users to stored users keyed by GitHub id, consulting the job's cache first.
+     * Users that are new are inserted in one JDBC batch and changed ones are updated in place; the GitHub profile
+     * carries no display name, so an existing name is kept.
+     */
+    public Map<Long, User> resolveGitHubUsers(GitHubUserCache cache, Collection<GitHubUserProfile> profiles) {
+        Map<Long, User> resolved = new HashMap<>();
+        Map<Long, GitHubUserProfile> pending = new LinkedHashMap<>();
+        if (profiles == null) {
+            return resolved;
+        }
+        for (GitHubUserProfile profile : profiles) {
+            if (profile == null || profile.githubId() == null || !StringUtils.hasText(profile.login())) {
+                continue;
+            }
+            Long cachedUserId = cache != null ? cache.resolve(profile) : null;
+            if (cachedUserId != null) {
+                resolved.put(profile.githubId(), userRepository.getReferenceById(cachedUserId));
+            } else {
+                pending.put(profile.githubId(), profile);
+            }
+        }
+        if (pending.isEmpty()) {
+            return resolved;
+        }
+
+        Map<Long, User> upserted = upsertProfiles(pending);
+        resolved.putAll(upserted);
+        if (cache != null) {
+            remember(cache, List.copyOf(upserted.values()));
+        }
+        return resolved;
+    }
+
+    // Users inserted by a transaction that later rolls back must not leak into the cache.
+    private void remember(GitHubUserCache cache, List<User> users) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            users.forEach(cache::put);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                users.forEach(cache::put);
+            }
+        });
+    }
+
+    private Map<Long, User> upsertProfiles(Map<Long, GitHubUserProfile> profiles) {
+        Map<Long, User> users = indexByGithubId(userRepository.findByGithubIdIn(profiles.keySet()));
+        List<GitHubUserProfile> missing = profiles.values().stream()
+                .filter(profile -> !users.containsKey(profile.githubId()))
+                .toList();
+        if (!missing.isEmpty()) {
+            // Only new ids need locking; they guard against another sync inserting the same GitHub user concurrently.
+            List<String> lockKeys = missing.stream().map(profile -> githubUserLockKey(profile.githubId())).toList();
+            keyLockManager.callWithLocks(lockKeys, () -> {
+                insertMissing(missing, users);
+                return null;
+            });
+        }
+
+        for (GitHubUserProfile profile : profiles.values()) {
+            User user = users.get(profile.githubId());
+            if (user != null) {
+                updateIfChanged(user, profile.login(), user.getName(), profile.avatarUrl());
+            }
+        }
+        return users;
+    }
+
+    private void insertMissing(List<GitHubUserProfile> missing, Map<Long, User> users) {
+        // Re-read under the locks: a concurrent sync may have inserted some of these users while we waited.
+        List<Long> missingIds = missing.stream().map(GitHubUserProfile::githubId).toList();
+        users.putAll(indexByGithubId(userRepository.findByGithubIdIn(missingIds)));
+        List<GitHubUserProfile> toInsert = missing.stream()
+                .filter(profile -> !users.containsKey(profile.githubId()))
+                .toList();
+        if (toInsert.isEmpty()) {
+            return;
+        }
+
+        OffsetDateTime now = OffsetDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_GITHUB_USER_SQL, toInsert, toInsert.size(), (statement, profile) -> {
+            statement.setLong(1, profile.githubId());
+            statement.setString(2, profile.login());
+            statement.setString(3, profile.avatarUrl());
+            statement.setObject(4, now);
+            statement.setObject(5, now);
+        });
+        users.putAll(indexByGithubId(userRepository.findByGithubIdIn(
+                toInsert.stream().map(GitHubUserProfile::githubId).toList())));
+    }
+
+    private static Map<Long, User> indexByGithubId(List<User> users) {
+        return users.stream().collect(Collectors.toMap(User::getGithubId, Function.identity(), (first, second) -> first, HashMap::new));
+    }
+
+    private static String githubUserLockKey(Long githubId) {
+        return "github-user:" + githubId;
     }
 
     private User upsertGitHubUserInternal(Long githubId, String login, String name, String avatarUrl) {
@@ -128,22 +247,7 @@ public class UserService {
         }
 
         OffsetDateTime now = OffsetDateTime.now();
+        softDeleteCascade.deleteUser(user.getId(), now);
         user.setDeletedAt(now);
-        userRepository.save(user);
-
-        userOrganizationRepository.findByUserIdAndDeletedAtIsNull(user.getId()).forEach(membership -> {
-            membership.setDeletedAt(now);
-            userOrganizationRepository.save(membership);
-        });
-
-        dailyStatusRepository.findByUserIdAndDeletedAtIsNull(user.getId()).forEach(status -> {
-            status.setDeletedAt(now);
-            dailyStatusRepository.save(status);
-        });
-
-        activityDailyRepository.findByUserIdAndDeletedAtIsNull(user.getId()).forEach(activity -> {
-            activity.setDeletedAt(now);
-            activityDailyRepository.save(activity);
-        });
     }
 }
@@ -0,0 +1,129 @@
+package io.github.aikobn26.teamprogressviz.shared.concurrency;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.DatabaseMetaData;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Extends a local {@link KeyLockManager} with PostgreSQL advisory locks so that keys are serialised across replicas.
+ * The lock is taken with {@code pg_try_advisory_xact_lock} on the connection of the caller's transaction, which
+ * PostgreSQL releases on commit or rollback just as the local lock is released after completion. Callers must
+ * therefore be inside a transaction: taking the lock on a second connection would hold it for the whole call while the
+ * work itself borrows yet another one, which can exhaust the pool under load. On other databases (H2 in tests and
+ * local runs) only the local lock is used.
+ */
+public class AdvisoryKeyLockManager implements KeyLockManager {
+
+    private static final Logger log = LoggerFactory.getLogger(AdvisoryKeyLockManager.class);
+
+    private static final String TRY_XACT_LOCK = "select pg_try_advisory_xact_lock(?)";
+
+    private static final Duration MAX_POLL_INTERVAL = Duration.ofMillis(500);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final KeyLockManager localLocks;
+    private final Duration acquireTimeout;
+    private final Duration pollInterval;
+    private final boolean advisorySupported;
+
+    public AdvisoryKeyLockManager(DataSource dataSource, KeyLockManager localLocks, Duration acquireTimeout, Duration pollInterval) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.localLocks = localLocks;
+        this.acquireTimeout = acquireTimeout;
+        this.pollInterval = pollInterval;
+        this.advisorySupported = isPostgres(dataSource);
+        if (!advisorySupported) {
+            log.info("Database does not support advisory locks, key locks are local to this instance");
+        }
+    }
+
+    @Override
+    public <T> T callWithLock(String key, Supplier<T> supplier) {
+        if (key == null || supplier == null) {
+            throw new IllegalArgumentException("key and supplier must not be null");
+        }
+        if (!advisorySupported) {
+            return localLocks.callWithLock(key, supplier);
+        }
+
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Advisory key lock '" + key + "' requires an active transaction");
+        }
+
+        // The local lock goes first so that threads of this instance queue in memory instead of polling the database.
+        long lockId = lockId(key);
+        return localLocks.callWithLock(key, () -> callWithTransactionLock(key, lockId, supplier));
+    }
+
+    @Override
+    public List<String> lockOrder(Collection<String> keys) {
+        return localLocks.lockOrder(keys);
+    }
+
+    public KeyLockManager localLocks() {
+        return localLocks;
+    }
+
+    public boolean isAdvisorySupported() {
+        return advisorySupported;
+    }
+
+    // 64-bit FNV-1a over the UTF-8 key, stable across JVMs so every replica maps a key to the same advisory lock.
+    static long lockId(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private <T> T callWithTransactionLock(String key, long lockId, Supplier<T> supplier) {
+        awaitLock(key, () -> Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject(TRY_XACT_LOCK, Boolean.class, lockId)));
+        return supplier.get();
+    }
+
+    private void awaitLock(String key, BooleanSupplier attempt) {
+        long deadline = System.nanoTime() + acquireTimeout.toNanos();
+        long sleepMillis = Math.max(1L, pollInterval.toMillis());
+        while (!attempt.getAsBoolean()) {
+            if (System.nanoTime() >= deadline) {
+                throw new LockAcquisitionTimeoutException(key, String.format(
+                        "Timed out after %d ms waiting for advisory lock '%s' held by another instance",
+                        acquireTimeout.toMillis(), key));
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for advisory lock '" + key + "'", e);
+            }
+            sleepMillis = Math.min(sleepMillis * 2, MAX_POLL_INTERVAL.toMillis());
+        }
+    }
+
+    private static boolean isPostgres(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equalsIgnoreCase(product);
+        } catch (MetaDataAccessException e) {
+            log.warn("Could not determine database product, falling back to local key locks", e);
+            return false;
+        }
+    }
+}
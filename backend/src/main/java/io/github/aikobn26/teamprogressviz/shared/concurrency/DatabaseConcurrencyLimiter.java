@@ -0,0 +1,57 @@
+package io.github.aikobn26.teamprogressviz.shared.concurrency;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+public class DatabaseConcurrencyLimiter {
+
+    private final Semaphore permits;
+    private final ThreadLocal<Integer> holdCount = ThreadLocal.withInitial(() -> 0);
+
+    public DatabaseConcurrencyLimiter(int maxConcurrent) {
+        this.permits = new Semaphore(Math.max(1, maxConcurrent), true);
+    }
+
+    public void run(Runnable action) {
+        call(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public <T> T call(Supplier<T> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("action must not be null");
+        }
+
+        // Nested transactions on the same thread reuse the permit they already hold.
+        int held = holdCount.get();
+        if (held == 0) {
+            acquire();
+        }
+        holdCount.set(held + 1);
+        try {
+            return action.get();
+        } finally {
+            if (held == 0) {
+                holdCount.remove();
+                permits.release();
+            } else {
+                holdCount.set(held);
+            }
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a database permit", e);
+        }
+    }
+}
@@ -1,68 +1,41 @@
 package io.github.aikobn26.teamprogressviz.shared.concurrency;
 
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Collection;
+import java.util.List;
 import java.util.function.Supplier;
 
-import org.springframework.stereotype.Component;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
+/**
+ * Serialises work on a logical key such as {@code github-user:42}.
+ * When called inside a transaction the lock is held until the transaction completes, so the protected rows are
+ * committed before the next holder reads them.
+ */
+public interface KeyLockManager {
 
-@Component
-public class KeyLockManager {
-
-    private final ConcurrentMap<String, ReentrantLock> locks = new ConcurrentHashMap<>();
-
-    public void runWithLock(String key, Runnable action) {
+    default void runWithLock(String key, Runnable action) {
         callWithLock(key, () -> {
             action.run();
             return null;
         });
     }
 
-    public <T> T callWithLock(String key, Supplier<T> supplier) {
-        if (key == null || supplier == null) {
-            throw new IllegalArgumentException("key and supplier must not be null");
-        }
+    <T> T callWithLock(String key, Supplier<T> supplier);
 
-        ReentrantLock lock = locks.computeIfAbsent(key, unused -> new ReentrantLock());
-        lock.lock();
-        boolean releaseAfterCompletion = registerUnlockAfterTransaction(key, lock);
-        try {
-            return supplier.get();
-        } finally {
-            if (!releaseAfterCompletion) {
-                unlockAndCleanup(key, lock);
-            }
+    default <T> T callWithLocks(Collection<String> keys, Supplier<T> supplier) {
+        if (keys == null || supplier == null) {
+            throw new IllegalArgumentException("keys and supplier must not be null");
         }
+        return callNested(lockOrder(keys), 0, supplier);
     }
 
-    private boolean registerUnlockAfterTransaction(String key, ReentrantLock lock) {
-        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
-            return false;
-        }
-
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCompletion(int status) {
-                unlockAndCleanup(key, lock);
-            }
-        });
-        return true;
+    // Every caller acquires keys in the same global order, so batches that overlap cannot deadlock each other.
+    default List<String> lockOrder(Collection<String> keys) {
+        return keys.stream().distinct().sorted().toList();
     }
 
-    private void unlockAndCleanup(String key, ReentrantLock lock) {
-        try {
-            lock.unlock();
-        } finally {
-            cleanupLock(key, lock);
-        }
-    }
-
-    private void cleanupLock(String key, ReentrantLock lock) {
-        if (!lock.isLocked() && !lock.hasQueuedThreads()) {
-            locks.remove(key, lock);
+    private <T> T callNested(List<String> keys, int index, Supplier<T> supplier) {
+        if (index == keys.size()) {
+            return supplier.get();
         }
+        return callWithLock(keys.get(index), () -> callNested(keys, index + 1, supplier));
     }
 }
@@ -0,0 +1,136 @@
+package io.github.aikobn26.teamprogressviz.shared.concurrency;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Periodically logs how the lock stripes behaved since the previous report. Contention or timeouts are logged at
+ * INFO with the hottest stripe, so an undersized {@code concurrency.key-lock.stripes} shows up in the logs; quiet
+ * intervals are only logged at DEBUG. Per-key locking has no stripes and reports nothing.
+ * The same counters are published as {@code key_lock.acquisitions}, {@code key_lock.contended},
+ * {@code key_lock.timeouts} and {@code key_lock.max_wait}, summed over all stripes.
+ */
+public class KeyLockStatsReporter implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(KeyLockStatsReporter.class);
+
+    private final StripedKeyLockManager stripedLocks;
+    private final long[] previousAcquisitions;
+    private final long[] previousContended;
+    private final long[] previousTimeouts;
+
+    public KeyLockStatsReporter(KeyLockManager keyLockManager) {
+        this.stripedLocks = stripedLocksOf(keyLockManager);
+        int size = stripedLocks != null ? stripedLocks.stripeCount() : 0;
+        this.previousAcquisitions = new long[size];
+        this.previousContended = new long[size];
+        this.previousTimeouts = new long[size];
+    }
+
+    @Scheduled(fixedDelayString = "${concurrency.key-lock.stats-interval:PT5M}",
+            initialDelayString = "${concurrency.key-lock.stats-interval:PT5M}")
+    public void report() {
+        if (stripedLocks == null) {
+            return;
+        }
+        Window window = collect();
+        if (window.contended() == 0 && window.timeouts() == 0) {
+            log.debug("Key locks: {} acquisitions without contention", window.acquisitions());
+            return;
+        }
+        log.info("Key locks: {} acquisitions, {} contended ({}%), {} timed out; hottest stripe {} with {} contended "
+                        + "(max wait since start {} ms) across {} stripes",
+                window.acquisitions(), window.contended(),
+                String.format("%.1f", window.contendedRatio() * 100), window.timeouts(),
+                window.hottestStripe(), window.hottestContended(), window.hottestMaxWait().toMillis(),
+                stripedLocks.stripeCount());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (stripedLocks == null) {
+            return;
+        }
+        registerCounter(registry, "key_lock.acquisitions", "Key lock acquisitions",
+                StripedKeyLockManager.StripeStats::acquisitions);
+        registerCounter(registry, "key_lock.contended", "Key lock acquisitions that had to wait",
+                StripedKeyLockManager.StripeStats::contended);
+        registerCounter(registry, "key_lock.timeouts", "Key lock acquisitions that timed out",
+                StripedKeyLockManager.StripeStats::timeouts);
+        Gauge.builder("key_lock.max_wait", stripedLocks, locks -> locks.snapshot().stream()
+                        .mapToLong(stripe -> stripe.maxWait().toNanos())
+                        .max()
+                        .orElse(0L) / 1_000_000_000.0)
+                .description("Longest wait for any stripe since start")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    private void registerCounter(MeterRegistry registry,
+                                 String name,
+                                 String description,
+                                 ToLongFunction<StripedKeyLockManager.StripeStats> counter) {
+        FunctionCounter.builder(name, stripedLocks, locks -> locks.snapshot().stream().mapToLong(counter).sum())
+                .description(description)
+                .register(registry);
+    }
+
+    // Counters in StripeStats are cumulative; the window is the difference to the previous call.
+    synchronized Window collect() {
+        List<StripedKeyLockManager.StripeStats> stats = stripedLocks.snapshot();
+        long acquisitions = 0;
+        long contended = 0;
+        long timeouts = 0;
+        int hottestStripe = -1;
+        long hottestContended = 0;
+        Duration hottestMaxWait = Duration.ZERO;
+        for (StripedKeyLockManager.StripeStats stripe : stats) {
+            int i = stripe.stripe();
+            long stripeContended = stripe.contended() - previousContended[i];
+            acquisitions += stripe.acquisitions() - previousAcquisitions[i];
+            contended += stripeContended;
+            timeouts += stripe.timeouts() - previousTimeouts[i];
+            if (stripeContended > hottestContended) {
+                hottestStripe = i;
+                hottestContended = stripeContended;
+                hottestMaxWait = stripe.maxWait();
+            }
+            previousAcquisitions[i] = stripe.acquisitions();
+            previousContended[i] = stripe.contended();
+            previousTimeouts[i] = stripe.timeouts();
+        }
+        return new Window(acquisitions, contended, timeouts, hottestStripe, hottestContended, hottestMaxWait);
+    }
+
+    private static StripedKeyLockManager stripedLocksOf(KeyLockManager keyLockManager) {
+        if (keyLockManager instanceof StripedKeyLockManager striped) {
+            return striped;
+        }
+        if (keyLockManager instanceof AdvisoryKeyLockManager advisory) {
+            return stripedLocksOf(advisory.localLocks());
+        }
+        return null;
+    }
+
+    record Window(long acquisitions,
+                  long contended,
+                  long timeouts,
+                  int hottestStripe,
+                  long hottestContended,
+                  Duration hottestMaxWait) {
+
+        double contendedRatio() {
+            return acquisitions == 0 ? 0 : (double) contended / acquisitions;
+        }
+    }
+}
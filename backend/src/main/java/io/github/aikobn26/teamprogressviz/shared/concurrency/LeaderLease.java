@@ -0,0 +1,55 @@
+package io.github.aikobn26.teamprogressviz.shared.concurrency;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Elects one replica per named task through a row in {@code scheduler_lease}. The holder renews the lease on every
+ * run; another replica takes it over only once it has expired, so at most one replica runs the task at a time.
+ * Every statement runs in its own auto-committed transaction, so no connection is held between runs.
+ */
+public class LeaderLease {
+
+    private static final String RENEW_OR_TAKE_OVER_SQL = """
+            update scheduler_lease set owner_id = ?, expires_at = ?
+            where name = ? and (owner_id = ? or expires_at < ?)
+            """;
+
+    private static final String INSERT_SQL =
+            "insert into scheduler_lease (name, owner_id, expires_at) values (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String ownerId = UUID.randomUUID().toString();
+
+    public LeaderLease(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @return {@code true} when this replica holds the lease for {@code name} until {@code ttl} from now
+     */
+    public boolean tryAcquire(String name, Duration ttl) {
+        if (name == null || ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("name and a positive ttl are required");
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime expiresAt = now.plus(ttl);
+        if (jdbcTemplate.update(RENEW_OR_TAKE_OVER_SQL, ownerId, expiresAt, name, ownerId, now) > 0) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_SQL, name, ownerId, expiresAt) > 0;
+        } catch (DataIntegrityViolationException e) {
+            // Another replica holds a live lease, or created the row first.
+            return false;
+        }
+    }
+
+    public String ownerId() {
+        return ownerId;
+    }
+}
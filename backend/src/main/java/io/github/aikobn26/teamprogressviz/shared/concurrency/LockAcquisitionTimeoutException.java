@@ -0,0 +1,15 @@
+package io.github.aikobn26.teamprogressviz.shared.concurrency;
+
+public class LockAcquisitionTimeoutException extends RuntimeException {
+
+    private final String key;
+
+    public LockAcquisitionTimeoutException(String key, String message) {
+        super(message);
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
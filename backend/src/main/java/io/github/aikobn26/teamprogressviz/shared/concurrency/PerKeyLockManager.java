@@ -0,0 +1,43 @@
+package io.github.aikobn26.teamprogressviz.shared.concurrency;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+public class PerKeyLockManager implements KeyLockManager {
+
+    private final ConcurrentMap<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    @Override
+    public <T> T callWithLock(String key, Supplier<T> supplier) {
+        if (key == null || supplier == null) {
+            throw new IllegalArgumentException("key and supplier must not be null");
+        }
+
+        ReentrantLock lock = locks.computeIfAbsent(key, unused -> new ReentrantLock());
+        lock.lock();
+        boolean releaseAfterCompletion = TransactionBoundUnlock.registerAfterCompletion(() -> unlockAndCleanup(key, lock));
+        try {
+            return supplier.get();
+        } finally {
+            if (!releaseAfterCompletion) {
+                unlockAndCleanup(key, lock);
+            }
+        }
+    }
+
+    private void unlockAndCleanup(String key, ReentrantLock lock) {
+        try {
+            lock.unlock();
+        } finally {
+            cleanupLock(key, lock);
+        }
+    }
+
+    private void cleanupLock(String key, ReentrantLock lock) {
+        if (!lock.isLocked() && !lock.hasQueuedThreads()) {
+            locks.remove(key, lock);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.aikobn26.teamprogressviz.shared.concurrency;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+final class TransactionBoundUnlock {
+
+    private TransactionBoundUnlock() {
+    }
+
+    // Returns true when the unlock was deferred to transaction completion and must not be run by the caller.
+    static boolean registerAfterCompletion(Runnable unlock) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                unlock.run();
+            }
+        });
+        return true;
+    }
+}
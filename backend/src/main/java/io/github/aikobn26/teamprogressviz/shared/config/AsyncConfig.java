@@ -6,18 +6,36 @@ import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import io.github.aikobn26.teamprogressviz.feature.job.properties.JobSchedulerProperties;
+import io.github.aikobn26.teamprogressviz.shared.concurrency.DatabaseConcurrencyLimiter;
+
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    // Queueing and back-pressure live in AsyncJobExecutor's lanes, so the pool itself stays fixed-size and unbounded.
     @Bean(name = "jobExecutor")
-    TaskExecutor jobExecutor() {
+    TaskExecutor jobExecutor(JobSchedulerProperties properties) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(4);
-        executor.setMaxPoolSize(8);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("job-exec-");
+        if (properties.isVirtualThreads()) {
+            // Virtual workers are cheap to park on blocking I/O; idle ones time out instead of being pooled forever.
+            int workers = Math.max(1, properties.getVirtualWorkers());
+            executor.setCorePoolSize(workers);
+            executor.setMaxPoolSize(workers);
+            executor.setAllowCoreThreadTimeOut(true);
+            executor.setThreadFactory(Thread.ofVirtual().name("job-vt-", 0).factory());
+        } else {
+            int workers = Math.max(1, properties.getWorkers());
+            executor.setCorePoolSize(workers);
+            executor.setMaxPoolSize(workers);
+            executor.setThreadNamePrefix("job-exec-");
+        }
         executor.initialize();
         return executor;
     }
+
+    @Bean
+    DatabaseConcurrencyLimiter databaseConcurrencyLimiter(JobSchedulerProperties properties) {
+        return new DatabaseConcurrencyLimiter(properties.getDatabasePermits());
+    }
 }
@@ -0,0 +1,21 @@
+package io.github.aikobn26.teamprogressviz.shared.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.aikobn26.teamprogressviz.feature.github.properties.GitHubCacheProperties;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubResponseCache;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(GitHubCacheProperties.class)
+public class GitHubCacheConfig {
+
+    @Bean
+    GitHubResponseCache gitHubResponseCache(GitHubCacheProperties properties,
+                                            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new GitHubResponseCache(properties, meterRegistry.getIfAvailable());
+    }
+}
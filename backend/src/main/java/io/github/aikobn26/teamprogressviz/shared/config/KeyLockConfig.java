@@ -0,0 +1,39 @@
+package io.github.aikobn26.teamprogressviz.shared.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.aikobn26.teamprogressviz.shared.concurrency.AdvisoryKeyLockManager;
+import io.github.aikobn26.teamprogressviz.shared.concurrency.KeyLockManager;
+import io.github.aikobn26.teamprogressviz.shared.concurrency.KeyLockStatsReporter;
+import io.github.aikobn26.teamprogressviz.shared.concurrency.PerKeyLockManager;
+import io.github.aikobn26.teamprogressviz.shared.concurrency.StripedKeyLockManager;
+import io.github.aikobn26.teamprogressviz.shared.properties.KeyLockProperties;
+
+@Configuration
+@EnableConfigurationProperties(KeyLockProperties.class)
+public class KeyLockConfig {
+
+    @Bean
+    KeyLockManager keyLockManager(KeyLockProperties properties, DataSource dataSource) {
+        return switch (properties.getStrategy()) {
+            case PER_KEY -> new PerKeyLockManager();
+            case STRIPED -> stripedLocks(properties);
+            case ADVISORY -> new AdvisoryKeyLockManager(dataSource, stripedLocks(properties),
+                    properties.getAcquireTimeout(), properties.getAdvisoryPollInterval());
+        };
+    }
+
+    @Bean
+    KeyLockStatsReporter keyLockStatsReporter(KeyLockManager keyLockManager) {
+        return new KeyLockStatsReporter(keyLockManager);
+    }
+
+    private StripedKeyLockManager stripedLocks(KeyLockProperties properties) {
+        return new StripedKeyLockManager(properties.getStripes(),
+                properties.getAcquireTimeout(), properties.getSlowWaitThreshold());
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.aikobn26.teamprogressviz.shared.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import io.github.aikobn26.teamprogressviz.shared.concurrency.LeaderLease;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Bean
+    public LeaderLease leaderLease(JdbcTemplate jdbcTemplate) {
+        return new LeaderLease(jdbcTemplate);
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.aikobn26.teamprogressviz.shared.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.aikobn26.teamprogressviz.shared.persistence.SqlStatementListener;
+import io.github.aikobn26.teamprogressviz.shared.persistence.SqlStatementRequestFilter;
+import io.github.aikobn26.teamprogressviz.shared.properties.SqlStatementProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Wraps the application's {@link DataSource} in a datasource-proxy that counts statements, and counts them per HTTP
+ * request. Import it into slice tests to assert statement counts with {@code SqlStatementCounter}.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(SqlStatementProperties.class)
+@ConditionalOnProperty(prefix = "persistence.sql-statements", name = "enabled", matchIfMissing = true)
+public class SqlStatementConfig {
+
+    // Static so the post-processor is registered before the data source and does not pull this class in early.
+    @Bean
+    static BeanPostProcessor sqlStatementDataSourceProxy(ObjectProvider<MeterRegistry> meterRegistry) {
+        SqlStatementListener listener = new SqlStatementListener(meterRegistry);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(listener)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    SqlStatementRequestFilter sqlStatementRequestFilter(MeterRegistry meterRegistry,
+                                                        SqlStatementProperties properties) {
+        return new SqlStatementRequestFilter(meterRegistry, properties);
+    }
+}
@@ -1,23 +1,65 @@
 package io.github.aikobn26.teamprogressviz.shared.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.netty.http.client.HttpClient;
+
+import io.github.aikobn26.teamprogressviz.feature.github.properties.GitHubHttpClientProperties;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubMetricsFilter;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubRetryFilter;
+import io.netty.channel.ChannelOption;
 import io.netty.resolver.DefaultAddressResolverGroup;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.Http2AllocationStrategy;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
+@EnableConfigurationProperties(GitHubHttpClientProperties.class)
 public class WebClientConfig {
 
-    @Bean
-    WebClient webClient() {
-        HttpClient httpClient = HttpClient.create()
-                .resolver(DefaultAddressResolverGroup.INSTANCE);
+    // Disposed with the context so pooled sockets are closed on shutdown rather than left to the JVM.
+    @Bean(destroyMethod = "dispose")
+    ConnectionProvider gitHubConnectionProvider(GitHubHttpClientProperties properties) {
+        return ConnectionProvider.builder("github")
+                .maxConnections(properties.getMaxConnections())
+                // Applies to HTTP/1.1 as well, where each connection carries one request at a time.
+                .allocationStrategy(Http2AllocationStrategy.builder()
+                        .maxConnections(properties.getMaxConnections())
+                        .maxConcurrentStreams(properties.getMaxConcurrentStreams())
+                        .build())
+                .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .maxLifeTime(properties.getMaxLifeTime())
+                .evictInBackground(properties.getEvictionInterval())
+                .metrics(properties.isMetrics())
+                .build();
+    }
 
+    @Bean
+    WebClient webClient(ConnectionProvider gitHubConnectionProvider, GitHubHttpClientProperties properties,
+                        GitHubRetryFilter retryFilter, GitHubMetricsFilter metricsFilter) {
         return WebClient.builder()
-                .clientConnector(new ReactorClientHttpConnector(httpClient))
-                .codecs(codec -> codec.defaultCodecs().maxInMemorySize(4 * 1024 * 1024))
+                .clientConnector(new ReactorClientHttpConnector(httpClient(gitHubConnectionProvider, properties)))
+                // The metrics filter is inside the retry filter, so each attempt is timed with its own status.
+                .filter(retryFilter)
+                .filter(metricsFilter)
                 .build();
     }
-}
\ No newline at end of file
+
+    static HttpClient httpClient(ConnectionProvider connectionProvider, GitHubHttpClientProperties properties) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .resolver(DefaultAddressResolverGroup.INSTANCE)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(properties.getConnectTimeout().toMillis()))
+                .responseTimeout(properties.getResponseTimeout())
+                .compress(properties.isCompress());
+        if (properties.isHttp2()) {
+            // HTTP/2 is negotiated over TLS via ALPN and falls back to HTTP/1.1; plain http URLs stay on HTTP/1.1.
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        }
+        return httpClient;
+    }
+}
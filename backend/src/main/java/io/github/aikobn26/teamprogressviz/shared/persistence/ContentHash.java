@@ -0,0 +1,32 @@
+package io.github.aikobn26.teamprogressviz.shared.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 fingerprint of the source payload a row was written from. Parts are rendered with {@link String#valueOf},
+ * which is stable for the records and lists the GitHub client returns, so an unchanged payload hashes identically
+ * across syncs and the write can be skipped.
+ */
+public final class ContentHash {
+
+    private static final char SEPARATOR = '\u001f';
+
+    private ContentHash() {
+    }
+
+    public static String of(Object... parts) {
+        StringBuilder content = new StringBuilder();
+        for (Object part : parts) {
+            content.append(part).append(SEPARATOR);
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.aikobn26.teamprogressviz.shared.persistence;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Soft-deletes an organization or a user together with every row that depends on it, issuing one set-based
+ * {@code UPDATE} per table inside a single transaction instead of loading and saving each entity. Rows that are
+ * already deleted keep their original {@code deleted_at}.
+ */
+@Component
+@RequiredArgsConstructor
+public class SoftDeleteCascade {
+
+    private static final Logger log = LoggerFactory.getLogger(SoftDeleteCascade.class);
+
+    private static final String ORGANIZATION_REPOSITORIES = "select id from repository where organization_id = ?";
+    private static final String ORGANIZATION_COMMITS =
+            "select id from git_commit where repository_id in (" + ORGANIZATION_REPOSITORIES + ")";
+    private static final String ORGANIZATION_PULL_REQUESTS =
+            "select id from pull_request where repository_id in (" + ORGANIZATION_REPOSITORIES + ")";
+
+    // Children first, the root last; every predicate takes the root id as its only parameter.
+    private static final List<CascadeStep> ORGANIZATION_CASCADE = List.of(
+            new CascadeStep("commit_file", "commit_id in (" + ORGANIZATION_COMMITS + ")", false),
+            new CascadeStep("git_commit", "repository_id in (" + ORGANIZATION_REPOSITORIES + ")", true),
+            new CascadeStep("pull_request_file", "pull_request_id in (" + ORGANIZATION_PULL_REQUESTS + ")", false),
+            new CascadeStep("pull_request", "repository_id in (" + ORGANIZATION_REPOSITORIES + ")", false),
+            new CascadeStep("repository_sync_status", "repository_id in (" + ORGANIZATION_REPOSITORIES + ")", true),
+            new CascadeStep("repository", "organization_id = ?", true),
+            new CascadeStep("activity_daily", "organization_id = ?", true),
+            new CascadeStep("daily_status", "organization_id = ?", true),
+            new CascadeStep("comment", "organization_id = ?", true),
+            new CascadeStep("user_organization", "organization_id = ?", true),
+            new CascadeStep("organization", "id = ?", true));
+
+    private static final List<CascadeStep> USER_CASCADE = List.of(
+            new CascadeStep("activity_daily", "user_id = ?", true),
+            new CascadeStep("daily_status", "user_id = ?", true),
+            new CascadeStep("user_organization", "user_id = ?", true),
+            new CascadeStep("\"user\"", "id = ?", true));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Transactional
+    public Map<String, Integer> deleteOrganization(Long organizationId, OffsetDateTime deletedAt) {
+        return cascade("organization", ORGANIZATION_CASCADE, organizationId, deletedAt);
+    }
+
+    @Transactional
+    public Map<String, Integer> deleteUser(Long userId, OffsetDateTime deletedAt) {
+        return cascade("user", USER_CASCADE, userId, deletedAt);
+    }
+
+    private Map<String, Integer> cascade(String root, List<CascadeStep> steps, Long id, OffsetDateTime deletedAt) {
+        if (id == null || deletedAt == null) {
+            throw new IllegalArgumentException("id and deletedAt must not be null");
+        }
+
+        // The statements bypass Hibernate: pending changes go out first and managed copies are dropped afterwards
+        // so that later reads in the same transaction see the deleted rows.
+        entityManager.flush();
+        Map<String, Integer> affected = new LinkedHashMap<>();
+        for (CascadeStep step : steps) {
+            affected.put(step.table(), step.touchesUpdatedAt()
+                    ? jdbcTemplate.update(step.sql(), deletedAt, deletedAt, id)
+                    : jdbcTemplate.update(step.sql(), deletedAt, id));
+        }
+        entityManager.clear();
+
+        log.debug("Soft-deleted {} {} with {}", root, id, affected);
+        return affected;
+    }
+
+    private record CascadeStep(String table, String predicate, boolean touchesUpdatedAt) {
+
+        String sql() {
+            String assignments = touchesUpdatedAt ? "deleted_at = ?, updated_at = ?" : "deleted_at = ?";
+            return "update " + table + " set " + assignments + " where deleted_at is null and " + predicate;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.aikobn26.teamprogressviz.shared.persistence;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.github.aikobn26.teamprogressviz.shared.properties.CompactionProperties;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Physically removes rows that were soft-deleted longer ago than {@code retention}, so tables and their indexes stay
+ * proportional to live data. Each batch is a separate auto-committed statement followed by a pause, which keeps row
+ * locks short and leaves room for regular traffic. Children are compacted before their parents, and a parent is only
+ * removed once nothing references it any more.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "persistence.compaction", name = "enabled", havingValue = "true")
+public class SoftDeleteCompactionService {
+
+    private static final Logger log = LoggerFactory.getLogger(SoftDeleteCompactionService.class);
+
+    private static final String EXPIRED = "t.deleted_at < ?";
+
+    private static final List<CompactionStep> STEPS = List.of(
+            new CompactionStep("commit_file", EXPIRED),
+            new CompactionStep("pull_request_file", EXPIRED),
+            new CompactionStep("repository_sync_status", EXPIRED),
+            new CompactionStep("git_commit", EXPIRED
+                    + " and not exists (select 1 from commit_file f where f.commit_id = t.id)"),
+            new CompactionStep("pull_request", EXPIRED
+                    + " and not exists (select 1 from pull_request_file f where f.pull_request_id = t.id)"),
+            new CompactionStep("comment", EXPIRED
+                    + " and not exists (select 1 from comment c where c.parent_comment_id = t.id)"),
+            new CompactionStep("activity_daily", EXPIRED),
+            new CompactionStep("daily_status", EXPIRED),
+            new CompactionStep("user_organization", EXPIRED),
+            new CompactionStep("webhook_event", EXPIRED),
+            // Checkpoints and activity buckets have no deleted_at of their own and go with their owner.
+            new CompactionStep("organization_sync_checkpoint",
+                    "t.organization_id in (select o.id from organization o where o.deleted_at < ?)"),
+            new CompactionStep("activity_bucket",
+                    "t.repository_id in (select r.id from repository r where r.deleted_at < ?)"),
+            new CompactionStep("repository", EXPIRED
+                    + " and not exists (select 1 from git_commit c where c.repository_id = t.id)"
+                    + " and not exists (select 1 from pull_request p where p.repository_id = t.id)"
+                    + " and not exists (select 1 from repository_sync_status s where s.repository_id = t.id)"
+                    + " and not exists (select 1 from activity_bucket b where b.repository_id = t.id)"),
+            new CompactionStep("organization", EXPIRED
+                    + " and not exists (select 1 from repository r where r.organization_id = t.id)"
+                    + " and not exists (select 1 from user_organization m where m.organization_id = t.id)"
+                    + " and not exists (select 1 from activity_daily a where a.organization_id = t.id)"
+                    + " and not exists (select 1 from daily_status d where d.organization_id = t.id)"
+                    + " and not exists (select 1 from comment c where c.organization_id = t.id)"
+                    + " and not exists (select 1 from organization_sync_checkpoint k where k.organization_id = t.id)"),
+            new CompactionStep("\"user\"", EXPIRED
+                    + " and not exists (select 1 from user_organization m where m.user_id = t.id)"
+                    + " and not exists (select 1 from activity_daily a where a.user_id = t.id)"
+                    + " and not exists (select 1 from daily_status d where d.user_id = t.id)"
+                    + " and not exists (select 1 from comment c where c.user_id = t.id)"
+                    + " and not exists (select 1 from pull_request p where p.author_user_id = t.id or p.merged_by_user_id = t.id)"
+                    + " and not exists (select 1 from git_commit c where c.author_user_id = t.id)"
+                    + " and not exists (select 1 from activity_bucket b where b.user_id = t.id)"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CompactionProperties properties;
+
+    @Scheduled(fixedDelayString = "${persistence.compaction.interval:PT1H}",
+            initialDelayString = "${persistence.compaction.interval:PT1H}")
+    public void compactSoftDeletedRows() {
+        OffsetDateTime cutoff = OffsetDateTime.now().minus(properties.getRetention());
+        long start = System.nanoTime();
+        Map<String, Integer> removed = compact(cutoff);
+        if (!removed.isEmpty()) {
+            log.info("Compacted rows soft-deleted before {} in {} ms: {}",
+                    cutoff, (System.nanoTime() - start) / 1_000_000, removed);
+        }
+    }
+
+    public Map<String, Integer> compact(OffsetDateTime cutoff) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        int remainingBatches = Math.max(1, properties.getMaxBatchesPerRun());
+        Map<String, Integer> removed = new LinkedHashMap<>();
+
+        for (CompactionStep step : STEPS) {
+            int total = 0;
+            while (remainingBatches > 0) {
+                int count = jdbcTemplate.update(step.sql(), cutoff, batchSize);
+                remainingBatches--;
+                total += count;
+                if (count < batchSize || !pause()) {
+                    break;
+                }
+            }
+            if (total > 0) {
+                removed.put(step.table(), total);
+            }
+            if (remainingBatches == 0 || Thread.currentThread().isInterrupted()) {
+                // Whatever is left is picked up by the next run.
+                break;
+            }
+        }
+        return removed;
+    }
+
+    private boolean pause() {
+        long millis = properties.getPauseBetweenBatches().toMillis();
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record CompactionStep(String table, String predicate) {
+
+        String sql() {
+            return "delete from " + table + " where id in (select t.id from " + table + " t where " + predicate
+                    + " fetch first ? rows only)";
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.aikobn26.teamprogressviz.shared.persistence;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Counts the SQL statements the current thread executes while a {@link Scope} is open. Statements are reported by
+ * {@link SqlStatementListener} on the proxied {@code DataSource}, one per JDBC execution, so a batch counts once.
+ * <p>
+ * Scopes nest: a statement counts towards every scope open on the thread. Work handed to another thread joins a scope
+ * explicitly with {@link #open(Scope)}, which is how a job phase still sees the statements of repositories synced on
+ * virtual threads.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+    private static final AtomicLong TOTAL = new AtomicLong();
+
+    private SqlStatementCounter() {
+    }
+
+    /**
+     * Opens a scope inside whatever scope is open on this thread.
+     */
+    public static Scope open() {
+        return open(CURRENT.get());
+    }
+
+    /**
+     * Opens a scope whose statements also count towards {@code parent}, which may belong to another thread.
+     */
+    public static Scope open(Scope parent) {
+        Scope scope = new Scope(parent, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * @return the innermost scope open on this thread, or {@code null}
+     */
+    public static Scope current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs {@code action} in its own scope and returns the statements it executed on this thread.
+     */
+    public static long count(Runnable action) {
+        try (Scope scope = open()) {
+            action.run();
+            return scope.count();
+        }
+    }
+
+    /**
+     * Like {@link #count(Runnable)}, keeping the result of {@code action}.
+     */
+    public static <T> Counted<T> counted(Supplier<T> action) {
+        try (Scope scope = open()) {
+            T result = action.get();
+            return new Counted<>(result, scope.count());
+        }
+    }
+
+    /**
+     * @return statements executed through the proxied data source since startup, in any scope or none
+     */
+    public static long total() {
+        return TOTAL.get();
+    }
+
+    static void record() {
+        TOTAL.incrementAndGet();
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.statements.incrementAndGet();
+        }
+    }
+
+    public record Counted<T>(T result, long statements) {
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final Scope previous;
+        private final AtomicLong statements = new AtomicLong();
+
+        private Scope(Scope parent, Scope previous) {
+            this.parent = parent;
+            this.previous = previous;
+        }
+
+        public long count() {
+            return statements.get();
+        }
+
+        /**
+         * Restores the scope that was current on this thread when this one was opened.
+         */
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.aikobn26.teamprogressviz.shared.persistence;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+/**
+ * Feeds every JDBC execution on the proxied {@code DataSource} to {@link SqlStatementCounter} and counts it as
+ * {@code db.statements}, tagged with the statement type and whether it succeeded. The registry is looked up lazily
+ * because the data source is wrapped before meter registries exist.
+ */
+public class SqlStatementListener implements QueryExecutionListener {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public SqlStatementListener(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatementCounter.record();
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        String type = queryInfoList.isEmpty()
+                ? "other"
+                : QueryUtils.getQueryType(queryInfoList.get(0).getQuery()).name().toLowerCase(Locale.ROOT);
+        Counter.builder("db.statements")
+                .description("SQL statements executed, one per JDBC execution")
+                .tag("type", type)
+                .tag("batch", String.valueOf(execInfo.isBatch()))
+                .tag("success", String.valueOf(execInfo.isSuccess()))
+                .register(registry)
+                .increment();
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.aikobn26.teamprogressviz.shared.persistence;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.github.aikobn26.teamprogressviz.shared.properties.SqlStatementProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Records the SQL statements each HTTP request executes as {@code http.server.requests.statements}, tagged like
+ * {@code http.server.requests} with the method and the matched route. Requests above
+ * {@code persistence.sql-statements.request-warn-threshold} are logged at WARN so N+1 queries show up in the logs.
+ * Statements run on other threads, such as jobs the request submits, are not counted.
+ */
+public class SqlStatementRequestFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementRequestFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final SqlStatementProperties properties;
+
+    public SqlStatementRequestFilter(MeterRegistry meterRegistry, SqlStatementProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                record(request, scope.count());
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, long statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        // Unmatched paths share one tag so arbitrary URLs cannot grow the number of series.
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("http.server.requests.statements")
+                .description("SQL statements executed per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statements);
+
+        int threshold = properties.getRequestWarnThreshold();
+        if (threshold > 0 && statements > threshold) {
+            log.warn("{} {} executed {} SQL statements (threshold {}); check for N+1 queries",
+                    request.getMethod(), uri, statements, threshold);
+        }
+    }
+}
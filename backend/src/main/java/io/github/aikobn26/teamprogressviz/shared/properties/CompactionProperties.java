@@ -0,0 +1,69 @@
+package io.github.aikobn26.teamprogressviz.shared.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "persistence.compaction")
+public class CompactionProperties {
+
+    private boolean enabled = false;
+
+    private Duration interval = Duration.ofHours(1);
+
+    private Duration retention = Duration.ofDays(30);
+
+    private int batchSize = 500;
+
+    private Duration pauseBetweenBatches = Duration.ofMillis(200);
+
+    private int maxBatchesPerRun = 100;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getPauseBetweenBatches() {
+        return pauseBetweenBatches;
+    }
+
+    public void setPauseBetweenBatches(Duration pauseBetweenBatches) {
+        this.pauseBetweenBatches = pauseBetweenBatches;
+    }
+
+    public int getMaxBatchesPerRun() {
+        return maxBatchesPerRun;
+    }
+
+    public void setMaxBatchesPerRun(int maxBatchesPerRun) {
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+}
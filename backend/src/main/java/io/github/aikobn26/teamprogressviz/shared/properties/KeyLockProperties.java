@@ -0,0 +1,82 @@
+package io.github.aikobn26.teamprogressviz.shared.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "concurrency.key-lock")
+public class KeyLockProperties {
+
+    private Strategy strategy = Strategy.STRIPED;
+
+    /*
+     * Locks are held until the surrounding transaction completes, so an acquisition collides with an unrelated key
+     * with a probability of roughly (keys held at once) / stripes. Locking happens inside transactions, which
+     * job.scheduler.database-permits caps at 8 by default, and a transaction holds one or two keys. That is at most
+     * about 16 held keys, so 256 stripes keep false sharing near 6% of acquisitions in the worst case. Scale this
+     * with database-permits, and check the periodic key lock report for the contention actually observed.
+     */
+    private int stripes = 256;
+
+    private Duration acquireTimeout = Duration.ofSeconds(30);
+
+    private Duration slowWaitThreshold = Duration.ofSeconds(1);
+
+    private Duration advisoryPollInterval = Duration.ofMillis(20);
+
+    private Duration statsInterval = Duration.ofMinutes(5);
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(Strategy strategy) {
+        this.strategy = strategy;
+    }
+
+    public int getStripes() {
+        return stripes;
+    }
+
+    public void setStripes(int stripes) {
+        this.stripes = stripes;
+    }
+
+    public Duration getAcquireTimeout() {
+        return acquireTimeout;
+    }
+
+    public void setAcquireTimeout(Duration acquireTimeout) {
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    public Duration getSlowWaitThreshold() {
+        return slowWaitThreshold;
+    }
+
+    public void setSlowWaitThreshold(Duration slowWaitThreshold) {
+        this.slowWaitThreshold = slowWaitThreshold;
+    }
+
+    public Duration getAdvisoryPollInterval() {
+        return advisoryPollInterval;
+    }
+
+    public void setAdvisoryPollInterval(Duration advisoryPollInterval) {
+        this.advisoryPollInterval = advisoryPollInterval;
+    }
+
+    public Duration getStatsInterval() {
+        return statsInterval;
+    }
+
+    public void setStatsInterval(Duration statsInterval) {
+        this.statsInterval = statsInterval;
+    }
+
+    public enum Strategy {
+        PER_KEY,
+        STRIPED,
+        ADVISORY
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.aikobn26.teamprogressviz.shared.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "persistence.sql-statements")
+public class SqlStatementProperties {
+
+    /**
+     * Wraps the data source in a counting proxy. Without it, statement metrics and assertions see nothing.
+     */
+    private boolean enabled = true;
+
+    /**
+     * HTTP requests that execute more statements than this are logged at WARN as likely N+1 queries; 0 disables.
+     */
+    private int requestWarnThreshold = 50;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getRequestWarnThreshold() {
+        return requestWarnThreshold;
+    }
+
+    public void setRequestWarnThreshold(int requestWarnThreshold) {
+        this.requestWarnThreshold = requestWarnThreshold;
+    }
+}
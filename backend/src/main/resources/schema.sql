@@ -53,14 +53,18 @@ create table if not exists git_commit (
     html_url varchar(512),
     author_name varchar(255),
     author_email varchar(255),
+    author_user_id bigint,
     committer_name varchar(255),
     committer_email varchar(255),
     committed_at timestamp with time zone,
     pushed_at timestamp with time zone,
     created_at timestamp with time zone not null,
     updated_at timestamp with time zone not null,
+    source_hash varchar(64),
+    files_synced_at timestamp with time zone,
     deleted_at timestamp with time zone,
-    constraint fk_git_commit_repository foreign key (repository_id) references repository (id)
+    constraint fk_git_commit_repository foreign key (repository_id) references repository (id),
+    constraint fk_git_commit_author foreign key (author_user_id) references "user" (id)
 );
 
 create table if not exists commit_file (
@@ -98,6 +102,7 @@ create table if not exists pull_request (
     updated_at timestamp with time zone,
     closed_at timestamp with time zone,
     merged_at timestamp with time zone,
+    source_hash varchar(64),
     deleted_at timestamp with time zone,
     constraint fk_pull_request_repository foreign key (repository_id) references repository (id),
     constraint fk_pull_request_author foreign key (author_user_id) references "user" (id),
@@ -134,6 +139,23 @@ create table if not exists activity_daily (
     constraint fk_activity_daily_user foreign key (user_id) references "user" (id)
 );
 
+create table if not exists activity_bucket (
+    id bigserial primary key,
+    organization_id bigint not null,
+    repository_id bigint not null,
+    user_id bigint,
+    granularity varchar(16) not null,
+    bucket_start timestamp with time zone not null,
+    commit_count integer not null default 0,
+    additions integer not null default 0,
+    deletions integer not null default 0,
+    merged_pull_requests integer not null default 0,
+    updated_at timestamp with time zone not null,
+    constraint fk_activity_bucket_organization foreign key (organization_id) references organization (id),
+    constraint fk_activity_bucket_repository foreign key (repository_id) references repository (id),
+    constraint fk_activity_bucket_user foreign key (user_id) references "user" (id)
+);
+
 create table if not exists daily_status (
     id bigserial primary key,
     user_id bigint not null,
@@ -184,11 +206,30 @@ create table if not exists repository_sync_status (
     last_synced_at timestamp with time zone,
     last_synced_commit_sha varchar(255),
     error_message text,
+    consecutive_failures integer not null default 0,
+    circuit_open_until timestamp with time zone,
+    checkpoint_run_id varchar(64),
+    checkpoint_phase varchar(32),
+    checkpoint_cursor varchar(255),
+    bucket_dirty_since timestamp with time zone,
     updated_at timestamp with time zone not null,
     deleted_at timestamp with time zone,
     constraint fk_repository_sync_status_repository foreign key (repository_id) references repository (id)
 );
 
+create table if not exists organization_sync_checkpoint (
+    id bigserial primary key,
+    organization_id bigint not null,
+    run_id varchar(64) not null,
+    started_at timestamp with time zone not null,
+    completed_at timestamp with time zone,
+    lease_owner varchar(64),
+    lease_expires_at timestamp with time zone,
+    updated_at timestamp with time zone not null,
+    constraint uq_organization_sync_checkpoint_organization unique (organization_id),
+    constraint fk_organization_sync_checkpoint_organization foreign key (organization_id) references organization (id)
+);
+
 create table if not exists webhook_event (
     id bigserial primary key,
     event_type varchar(128),
@@ -202,6 +243,40 @@ create table if not exists webhook_event (
     deleted_at timestamp with time zone
 );
 
+create table if not exists scheduler_lease (
+    name varchar(64) primary key,
+    owner_id varchar(64) not null,
+    expires_at timestamp with time zone not null
+);
+
+-- File stats of a commit as a JSON array, by SHA; shared by every repository containing the commit.
+create table if not exists commit_file_stats (
+    sha varchar(64) primary key,
+    files text not null,
+    created_at timestamp with time zone not null
+);
+
+-- Columns added after a table was first shipped. "create table if not exists" leaves existing tables untouched,
+-- so each later column is also added here idempotently and the whole file can be re-applied to a live database.
+alter table repository_sync_status add column if not exists checkpoint_run_id varchar(64);
+alter table repository_sync_status add column if not exists checkpoint_phase varchar(32);
+alter table repository_sync_status add column if not exists checkpoint_cursor varchar(255);
+alter table repository_sync_status add column if not exists consecutive_failures integer not null default 0;
+alter table repository_sync_status add column if not exists circuit_open_until timestamp with time zone;
+alter table git_commit add column if not exists source_hash varchar(64);
+alter table pull_request add column if not exists source_hash varchar(64);
+alter table git_commit add column if not exists author_user_id bigint references "user" (id);
+alter table git_commit add column if not exists files_synced_at timestamp with time zone;
+alter table repository_sync_status add column if not exists bucket_dirty_since timestamp with time zone;
+alter table organization_sync_checkpoint add column if not exists lease_owner varchar(64);
+alter table organization_sync_checkpoint add column if not exists lease_expires_at timestamp with time zone;
+
+-- Repositories without activity buckets are rebuilt from their full history on their next sync.
+update repository_sync_status
+set bucket_dirty_since = timestamp with time zone '1970-01-01 00:00:00+00'
+where bucket_dirty_since is null
+    and not exists (select 1 from activity_bucket b where b.repository_id = repository_sync_status.repository_id);
+
 create index if not exists idx_repository_organization on repository (organization_id);
 create index if not exists idx_git_commit_repository on git_commit (repository_id);
 create index if not exists idx_commit_file_commit on commit_file (commit_id);
@@ -210,6 +285,9 @@ create index if not exists idx_pull_request_author on pull_request (author_user_
 create index if not exists idx_pull_request_file_pull_request on pull_request_file (pull_request_id);
 create index if not exists idx_activity_daily_organization on activity_daily (organization_id);
 create index if not exists idx_activity_daily_user on activity_daily (user_id);
+create index if not exists idx_activity_bucket_range on activity_bucket (organization_id, granularity, bucket_start);
+create index if not exists idx_activity_bucket_repository on activity_bucket (repository_id, bucket_start);
+create index if not exists idx_git_commit_author on git_commit (author_user_id);
 create index if not exists idx_daily_status_user on daily_status (user_id);
 create index if not exists idx_daily_status_organization on daily_status (organization_id);
 create index if not exists idx_comment_organization on comment (organization_id);
@@ -218,3 +296,5 @@ create index if not exists idx_comment_parent on comment (parent_comment_id);
 create index if not exists idx_user_organization_user on user_organization (user_id);
 create index if not exists idx_user_organization_org on user_organization (organization_id);
 create index if not exists idx_repository_sync_status_repository on repository_sync_status (repository_id);
+create index if not exists idx_commit_file_deleted_at on commit_file (deleted_at);
+create index if not exists idx_pull_request_file_deleted_at on pull_request_file (deleted_at);
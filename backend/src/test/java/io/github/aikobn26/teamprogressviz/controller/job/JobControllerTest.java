@@ -7,6 +7,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -26,6 +27,7 @@ import io.github.aikobn26.teamprogressviz.feature.auth.model.AuthenticatedUser;
 import io.github.aikobn26.teamprogressviz.feature.auth.service.GitHubOAuthService;
 import io.github.aikobn26.teamprogressviz.feature.job.controller.JobController;
 import io.github.aikobn26.teamprogressviz.feature.job.model.JobDescriptor;
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobProfile;
 import io.github.aikobn26.teamprogressviz.feature.job.model.JobStatus;
 import io.github.aikobn26.teamprogressviz.feature.job.service.JobService;
 import io.github.aikobn26.teamprogressviz.shared.properties.FrontendProperties;
@@ -75,7 +77,10 @@ class JobControllerTest {
                 OffsetDateTime.now().minusMinutes(4),
         null,
         50,
-        null
+        null,
+        new JobProfile.Snapshot(
+                List.of(new JobProfile.Phase("github.organization", 120, 0)),
+                List.of(new JobProfile.ItemSnapshot("octo-org/app", 900, 300, 40, 12, 57, 85)))
         );
         when(jobService.findJob("job-1")).thenReturn(Optional.of(descriptor));
 
@@ -84,7 +89,12 @@ class JobControllerTest {
                 .andExpect(jsonPath("$.jobId").value("job-1"))
                 .andExpect(jsonPath("$.type").value("sync"))
         .andExpect(jsonPath("$.status").value("RUNNING"))
-        .andExpect(jsonPath("$.progress").value(50));
+        .andExpect(jsonPath("$.progress").value(50))
+                .andExpect(jsonPath("$.profile.phases[0].name").value("github.organization"))
+                .andExpect(jsonPath("$.profile.items[0].key").value("octo-org/app"))
+                .andExpect(jsonPath("$.profile.items[0].lockWaitMillis").value(40))
+                .andExpect(jsonPath("$.profile.items[0].rowsWritten").value(57))
+                .andExpect(jsonPath("$.profile.items[0].statements").value(85));
     }
 
     @TestConfiguration
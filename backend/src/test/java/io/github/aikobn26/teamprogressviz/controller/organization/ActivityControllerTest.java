@@ -28,6 +28,7 @@ import io.github.aikobn26.teamprogressviz.feature.auth.model.AuthenticatedUser;
 import io.github.aikobn26.teamprogressviz.feature.auth.service.GitHubOAuthService;
 import io.github.aikobn26.teamprogressviz.feature.organization.controller.ActivityController;
 import io.github.aikobn26.teamprogressviz.feature.organization.dto.response.ActivitySummaryItemResponse;
+import io.github.aikobn26.teamprogressviz.feature.organization.dto.response.ActivityTimeSeriesResponse;
 import io.github.aikobn26.teamprogressviz.feature.organization.service.ActivityService;
 import io.github.aikobn26.teamprogressviz.feature.repository.dto.response.CommitFeedResponse;
 import io.github.aikobn26.teamprogressviz.feature.user.entity.User;
@@ -83,6 +84,31 @@ class ActivityControllerTest {
         verify(activityService).summarize(same(user), eq(42L), eq(LocalDate.parse("2025-01-01")), eq(LocalDate.parse("2025-01-07")), eq("user"));
     }
 
+    @Test
+    void timeseries_returnsSeriesForAuthenticatedUser() throws Exception {
+        var authUser = new AuthenticatedUser(1_000L, "octocat", "Octo Cat", "https://avatar");
+        var user = User.builder().id(20L).githubId(1_000L).login("octocat").build();
+        when(gitHubOAuthService.getAuthenticatedUser(any())).thenReturn(Optional.of(authUser));
+        when(userService.ensureUserExists(authUser)).thenReturn(user);
+
+        var point = new ActivityTimeSeriesResponse.Point(OffsetDateTime.parse("2025-01-06T00:00:00Z"), 7, 120, 30, 2);
+        var response = new ActivityTimeSeriesResponse(LocalDate.parse("2025-01-06"), LocalDate.parse("2025-01-19"), "week",
+                "repository", true, List.of(new ActivityTimeSeriesResponse.Series(5L, "repo", List.of(point))));
+        when(activityService.timeseries(same(user), eq(42L), eq(LocalDate.parse("2025-01-06")), eq(LocalDate.parse("2025-01-19")),
+                eq("week"), eq("repository")))
+                .thenReturn(response);
+
+        mockMvc.perform(get("/api/organizations/42/activity/timeseries")
+                        .param("startDate", "2025-01-06")
+                        .param("endDate", "2025-01-19")
+                        .param("granularity", "week")
+                        .param("groupBy", "repository"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.series[0].name").value("repo"))
+                .andExpect(jsonPath("$.series[0].points[0].commitCount").value(7))
+                .andExpect(jsonPath("$.series[0].points[0].mergedPullRequests").value(2));
+    }
+
     @Test
     void commitFeed_returnsFeedItems() throws Exception {
         var authUser = new AuthenticatedUser(1_000L, "octocat", "Octo Cat", "https://avatar");
@@ -5,10 +5,12 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.net.URI;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -27,7 +29,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import io.github.aikobn26.teamprogressviz.feature.auth.model.AuthenticatedUser;
 import io.github.aikobn26.teamprogressviz.feature.auth.service.GitHubOAuthService;
 import io.github.aikobn26.teamprogressviz.feature.github.model.GitHubOrganization;
+import io.github.aikobn26.teamprogressviz.feature.job.exception.JobRejectedException;
 import io.github.aikobn26.teamprogressviz.feature.job.model.JobDescriptor;
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobLane;
 import io.github.aikobn26.teamprogressviz.feature.job.model.JobStatus;
 import io.github.aikobn26.teamprogressviz.feature.job.service.JobService;
 import io.github.aikobn26.teamprogressviz.feature.organization.controller.OrganizationController;
@@ -62,6 +66,9 @@ class OrganizationControllerTest {
     @Autowired
     private GitHubOrganizationService gitHubOrganizationService;
 
+    @Autowired
+    private UserOnboardingService userOnboardingService;
+
     @Test
     void list_returnsUnauthorizedWhenNotAuthenticated() throws Exception {
         when(gitHubOAuthService.getAuthenticatedUser(any())).thenReturn(Optional.empty());
@@ -93,6 +100,21 @@ class OrganizationControllerTest {
                 .andExpect(jsonPath("$[0].login").value("test-org"));
     }
 
+    @Test
+    void ensureSync_returnsTooManyRequestsWhenSyncLaneIsFull() throws Exception {
+        var authUser = new AuthenticatedUser(1_000L, "octocat", "Octo Cat", "https://avatar");
+        when(gitHubOAuthService.getAuthenticatedUser(any())).thenReturn(Optional.of(authUser));
+        when(gitHubOAuthService.getAccessToken(any())).thenReturn(Optional.of("token"));
+        var user = User.builder().id(10L).githubId(1_000L).login("octocat").build();
+        when(userService.ensureUserExists(authUser)).thenReturn(user);
+        when(userOnboardingService.onboardUser(user, "token", true))
+                .thenThrow(new JobRejectedException(JobLane.SYNC, Duration.ofSeconds(30)));
+
+        mockMvc.perform(post("/api/organizations/ensure-sync"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "30"));
+    }
+
     @Test
     void register_returnsUnauthorizedWhenTokenMissing() throws Exception {
         var authUser = new AuthenticatedUser(1_000L, "octocat", "Octo Cat", "https://avatar");
@@ -136,9 +158,10 @@ class OrganizationControllerTest {
         null,
         null,
         0,
+        null,
         null
     );
-    when(jobService.submit(eq("job-sync-org"), any(JobService.JobTask.class))).thenReturn(jobDescriptor);
+    when(jobService.submit(eq("job-sync-org"), eq(JobLane.INTERACTIVE), any(), any(JobService.JobTask.class))).thenReturn(jobDescriptor);
 
         mockMvc.perform(post("/api/organizations")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -170,9 +193,10 @@ class OrganizationControllerTest {
         null,
         null,
         0,
+        null,
         null
     );
-    when(jobService.submit(eq("job-sync-org"), any(JobService.JobTask.class))).thenReturn(jobDescriptor);
+    when(jobService.submit(eq("job-sync-org"), eq(JobLane.INTERACTIVE), any(), any(JobService.JobTask.class))).thenReturn(jobDescriptor);
 
     mockMvc.perform(post("/api/organizations/33/sync"))
         .andExpect(status().isAccepted())
@@ -193,6 +217,8 @@ class OrganizationControllerTest {
         "org/repo",
         OffsetDateTime.now(),
         "abc123",
+        null,
+        0,
         null
     );
     when(organizationService.listRepositorySyncStatus(eq(user), eq(33L))).thenReturn(List.of(statusView));
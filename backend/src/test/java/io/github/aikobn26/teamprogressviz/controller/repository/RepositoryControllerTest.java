@@ -6,9 +6,11 @@ import static org.mockito.Mockito.same;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.Optional;
 
@@ -24,7 +26,9 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import io.github.aikobn26.teamprogressviz.feature.auth.model.AuthenticatedUser;
 import io.github.aikobn26.teamprogressviz.feature.auth.service.GitHubOAuthService;
+import io.github.aikobn26.teamprogressviz.feature.job.exception.JobRejectedException;
 import io.github.aikobn26.teamprogressviz.feature.job.model.JobDescriptor;
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobLane;
 import io.github.aikobn26.teamprogressviz.feature.job.model.JobStatus;
 import io.github.aikobn26.teamprogressviz.feature.job.service.JobService;
 import io.github.aikobn26.teamprogressviz.feature.repository.controller.RepositoryController;
@@ -82,8 +86,8 @@ class RepositoryControllerTest {
         when(userService.ensureUserExists(authUser)).thenReturn(user);
         when(pullRequestService.requireAccessibleRepository(same(user), eq(60L))).thenReturn(repository);
 
-        var jobDescriptor = new JobDescriptor("job-1", "job-sync-prs", JobStatus.RUNNING, OffsetDateTime.now(), OffsetDateTime.now(), null, 0, null);
-        when(jobService.submit(eq("job-sync-prs"), any(Runnable.class))).thenReturn(jobDescriptor);
+        var jobDescriptor = new JobDescriptor("job-1", "job-sync-prs", JobStatus.RUNNING, OffsetDateTime.now(), OffsetDateTime.now(), null, 0, null, null);
+        when(jobService.submit(eq("job-sync-prs"), eq(JobLane.INTERACTIVE), eq("repository:60"), any(Runnable.class))).thenReturn(jobDescriptor);
 
         mockMvc.perform(post("/api/repositories/60/pulls/sync"))
                 .andExpect(status().isAccepted())
@@ -91,7 +95,25 @@ class RepositoryControllerTest {
                 .andExpect(jsonPath("$.status").value("running"));
 
         verify(pullRequestService).requireAccessibleRepository(same(user), eq(60L));
-        verify(jobService).submit(eq("job-sync-prs"), any(Runnable.class));
+        verify(jobService).submit(eq("job-sync-prs"), eq(JobLane.INTERACTIVE), eq("repository:60"), any(Runnable.class));
+    }
+
+    @Test
+    void syncPullRequests_returnsTooManyRequestsWhenQueueIsFull() throws Exception {
+        var authUser = new AuthenticatedUser(1_000L, "octocat", "Octo Cat", "https://avatar");
+        var user = User.builder().id(20L).githubId(1_000L).login("octocat").build();
+        var repository = Repository.builder().id(60L).githubId(6_000L).name("repo").build();
+        when(gitHubOAuthService.getAuthenticatedUser(any())).thenReturn(Optional.of(authUser));
+        when(gitHubOAuthService.getAccessToken(any())).thenReturn(Optional.of("token"));
+        when(userService.ensureUserExists(authUser)).thenReturn(user);
+        when(pullRequestService.requireAccessibleRepository(same(user), eq(60L))).thenReturn(repository);
+        when(jobService.submit(eq("job-sync-prs"), eq(JobLane.INTERACTIVE), eq("repository:60"), any(Runnable.class)))
+                .thenThrow(new JobRejectedException(JobLane.INTERACTIVE, Duration.ofSeconds(30)));
+
+        mockMvc.perform(post("/api/repositories/60/pulls/sync"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "30"))
+                .andExpect(jsonPath("$.retryAfterSeconds").value(30));
     }
 
     @TestConfiguration
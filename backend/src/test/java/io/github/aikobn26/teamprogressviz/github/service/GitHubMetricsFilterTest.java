@@ -0,0 +1,87 @@
+package io.github.aikobn26.teamprogressviz.github.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import io.github.aikobn26.teamprogressviz.feature.github.properties.GitHubRetryProperties;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubMetricsFilter;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubRetryFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class GitHubMetricsFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private GitHubRetryProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new GitHubRetryProperties();
+        properties.setMaxAttempts(2);
+        properties.setInitialBackoff(Duration.ofMillis(1));
+        properties.setMaxBackoff(Duration.ofMillis(5));
+    }
+
+    @Test
+    void get_recordsEachAttemptUnderTheEndpointTemplate() {
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction stub = request -> Mono.just(calls.incrementAndGet() == 1
+                ? ClientResponse.create(HttpStatus.BAD_GATEWAY).build()
+                : ClientResponse.create(HttpStatus.OK)
+                        .header("X-RateLimit-Remaining", "4321")
+                        .header("X-RateLimit-Resource", "core")
+                        .build());
+
+        buildClient(stub).get().uri("https://api.github.com/repos/octo-org/app/pulls/12/files?per_page=100")
+                .retrieve().toBodilessEntity().block();
+
+        String template = "/repos/{owner}/{repo}/pulls/{number}/files";
+        assertThat(meterRegistry.get("github.client.requests").tags("uri", template, "status", "502").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("github.client.requests").tags("uri", template, "status", "200").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("github.rate_limit.remaining").tag("resource", "core").gauge().value())
+                .isEqualTo(4321);
+    }
+
+    @Test
+    void get_templatesOrganizationAndCommitPathsAndRecordsTransportErrors() {
+        properties.setMaxAttempts(1);
+        ExchangeFunction ok = request -> Mono.just(ClientResponse.create(HttpStatus.OK).build());
+        ExchangeFunction failing = request -> Mono.error(new WebClientRequestException(
+                new IOException("reset"), request.method(), request.url(), request.headers()));
+
+        buildClient(ok).get().uri("https://api.github.com/orgs/octo-org/members")
+                .retrieve().toBodilessEntity().block();
+        assertThatThrownBy(() -> buildClient(failing).get().uri("https://api.github.com/repos/octo-org/app/commits/abc123")
+                .retrieve().toBodilessEntity().block())
+                .isInstanceOf(WebClientRequestException.class);
+
+        assertThat(meterRegistry.get("github.client.requests").tag("uri", "/orgs/{org}/members").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("github.client.requests")
+                .tags("uri", "/repos/{owner}/{repo}/commits/{sha}", "status", "IO_ERROR").timer().count())
+                .isEqualTo(1);
+    }
+
+    private WebClient buildClient(ExchangeFunction stub) {
+        return WebClient.builder()
+                .exchangeFunction(stub)
+                .filter(new GitHubRetryFilter(properties))
+                .filter(new GitHubMetricsFilter(meterRegistry))
+                .build();
+    }
+}
@@ -21,6 +21,7 @@ import io.github.aikobn26.teamprogressviz.feature.github.model.GitHubOrganizatio
 import io.github.aikobn26.teamprogressviz.feature.github.model.GitHubRepository;
 import io.github.aikobn26.teamprogressviz.feature.github.properties.GitHubApiProperties;
 import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubOrganizationService;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubResponseCache;
 import reactor.core.publisher.Mono;
 
 class GitHubOrganizationServiceTest {
@@ -45,7 +46,7 @@ class GitHubOrganizationServiceTest {
             return Mono.error(new IllegalStateException("Unexpected request: " + request.url()));
         };
 
-        var service = new GitHubOrganizationService(buildClient(stub), properties);
+        var service = new GitHubOrganizationService(buildClient(stub), properties, GitHubResponseCache.disabled());
 
         var organization = service.getOrganization("token-abc", "octo-org");
 
@@ -66,7 +67,7 @@ class GitHubOrganizationServiceTest {
             return Mono.error(new IllegalStateException("Unexpected request: " + request.url()));
         };
 
-        var service = new GitHubOrganizationService(buildClient(stub), properties);
+        var service = new GitHubOrganizationService(buildClient(stub), properties, GitHubResponseCache.disabled());
 
         List<GitHubOrganization> organizations = service.listOrganizations("token-abc");
 
@@ -93,7 +94,7 @@ class GitHubOrganizationServiceTest {
             return Mono.error(new IllegalStateException("Unexpected request: " + request.url()));
         };
 
-        var service = new GitHubOrganizationService(buildClient(stub), properties);
+        var service = new GitHubOrganizationService(buildClient(stub), properties, GitHubResponseCache.disabled());
 
         List<GitHubRepository> repositories = service.listRepositories("token-abc", "octo-org");
 
@@ -124,7 +125,7 @@ class GitHubOrganizationServiceTest {
             return Mono.error(new IllegalStateException("Unexpected request: " + request.url()));
         };
 
-        var service = new GitHubOrganizationService(buildClient(stub), properties);
+        var service = new GitHubOrganizationService(buildClient(stub), properties, GitHubResponseCache.disabled());
 
         List<GitHubOrganizationMember> members = service.listMembers("token-abc", "octo-org");
 
@@ -140,7 +141,7 @@ class GitHubOrganizationServiceTest {
 
     @Test
     void listOrganizations_throwsWhenTokenBlank() {
-        var service = new GitHubOrganizationService(buildClient(request -> Mono.never()), properties);
+        var service = new GitHubOrganizationService(buildClient(request -> Mono.never()), properties, GitHubResponseCache.disabled());
 
         assertThatThrownBy(() -> service.listOrganizations(" "))
                 .isInstanceOf(IllegalArgumentException.class)
@@ -149,7 +150,7 @@ class GitHubOrganizationServiceTest {
 
     @Test
     void listRepositories_throwsWhenTokenBlank() {
-        var service = new GitHubOrganizationService(buildClient(request -> Mono.never()), properties);
+        var service = new GitHubOrganizationService(buildClient(request -> Mono.never()), properties, GitHubResponseCache.disabled());
 
         assertThatThrownBy(() -> service.listRepositories("", "org"))
                 .isInstanceOf(IllegalArgumentException.class)
@@ -158,7 +159,7 @@ class GitHubOrganizationServiceTest {
 
     @Test
     void listRepositories_throwsWhenOrganizationBlank() {
-        var service = new GitHubOrganizationService(buildClient(request -> Mono.never()), properties);
+        var service = new GitHubOrganizationService(buildClient(request -> Mono.never()), properties, GitHubResponseCache.disabled());
 
         assertThatThrownBy(() -> service.listRepositories("token", ""))
                 .isInstanceOf(IllegalArgumentException.class)
@@ -167,7 +168,7 @@ class GitHubOrganizationServiceTest {
 
     @Test
     void listMembers_throwsWhenTokenBlank() {
-        var service = new GitHubOrganizationService(buildClient(request -> Mono.never()), properties);
+        var service = new GitHubOrganizationService(buildClient(request -> Mono.never()), properties, GitHubResponseCache.disabled());
 
         assertThatThrownBy(() -> service.listMembers("", "org"))
                 .isInstanceOf(IllegalArgumentException.class)
@@ -176,7 +177,7 @@ class GitHubOrganizationServiceTest {
 
     @Test
     void listMembers_throwsWhenOrganizationBlank() {
-        var service = new GitHubOrganizationService(buildClient(request -> Mono.never()), properties);
+        var service = new GitHubOrganizationService(buildClient(request -> Mono.never()), properties, GitHubResponseCache.disabled());
 
         assertThatThrownBy(() -> service.listMembers("token", ""))
                 .isInstanceOf(IllegalArgumentException.class)
@@ -193,7 +194,7 @@ class GitHubOrganizationServiceTest {
             return Mono.just(response);
         };
 
-        var service = new GitHubOrganizationService(buildClient(stub), properties);
+        var service = new GitHubOrganizationService(buildClient(stub), properties, GitHubResponseCache.disabled());
 
         assertThatThrownBy(() -> service.listOrganizations("token"))
                 .isInstanceOf(GitHubApiException.class)
@@ -210,7 +211,7 @@ class GitHubOrganizationServiceTest {
             return Mono.just(response);
         };
 
-        var service = new GitHubOrganizationService(buildClient(stub), properties);
+        var service = new GitHubOrganizationService(buildClient(stub), properties, GitHubResponseCache.disabled());
 
         assertThatThrownBy(() -> service.listRepositories("token", "octo-org"))
                 .isInstanceOf(GitHubApiException.class)
@@ -227,7 +228,7 @@ class GitHubOrganizationServiceTest {
             return Mono.just(response);
         };
 
-        var service = new GitHubOrganizationService(buildClient(stub), properties);
+        var service = new GitHubOrganizationService(buildClient(stub), properties, GitHubResponseCache.disabled());
 
         assertThatThrownBy(() -> service.listMembers("token", "octo-org"))
                 .isInstanceOf(GitHubApiException.class)
@@ -0,0 +1,127 @@
+package io.github.aikobn26.teamprogressviz.github.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.github.aikobn26.teamprogressviz.feature.github.exception.GitHubApiException;
+import io.github.aikobn26.teamprogressviz.feature.github.properties.GitHubApiProperties;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubRepositoryService;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubResponseCache;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class GitHubRepositoryServiceTest {
+
+    private static final String COMMIT = "{\"sha\":\"abc123\",\"html_url\":\"https://github.com/octo-org/repo/commit/abc123\","
+            + "\"commit\":{\"message\":\"Fix\",\"author\":{\"name\":\"Octo\",\"email\":\"octo@example.com\",\"date\":\"2025-06-30T12:00:00Z\"},"
+            + "\"committer\":{\"name\":\"Octo\",\"email\":\"octo@example.com\",\"date\":\"2025-06-30T12:00:00Z\"}},"
+            + "\"author\":{\"id\":7,\"login\":\"octo\"}";
+
+    private GitHubApiProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GitHubApiProperties(URI.create("https://api.github.com"));
+    }
+
+    @Test
+    void getCommit_readsBodiesLargerThanTheCodecLimitAndSkipsPatches() {
+        String patch = "+".repeat(20_000);
+        StringBuilder body = new StringBuilder(COMMIT).append(",\"files\":[");
+        for (int i = 0; i < 300; i++) {
+            body.append(i == 0 ? "" : ",")
+                    .append("{\"filename\":\"src/File").append(i).append(".java\",\"status\":\"modified\",")
+                    .append("\"additions\":3,\"deletions\":1,\"changes\":4,\"patch\":\"").append(patch).append("\"}");
+        }
+        body.append("]}");
+        assertThat(body.length()).isGreaterThan(4 * 1024 * 1024);
+        ExchangeFunction stub = request -> Mono.just(json(HttpStatus.OK, chunked(body.toString())));
+
+        var service = new GitHubRepositoryService(buildClient(stub), properties, GitHubResponseCache.disabled());
+
+        var detail = service.getCommit("token", "octo-org", "repo", "abc123");
+
+        assertThat(detail).get().satisfies(commit -> {
+            assertThat(commit.commit().sha()).isEqualTo("abc123");
+            assertThat(commit.commit().author().login()).isEqualTo("octo");
+            assertThat(commit.files()).hasSize(300);
+            assertThat(commit.files().get(299).path()).isEqualTo("src/File299.java");
+            assertThat(commit.files().get(299).additions()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void listCommits_readsArrayElementsAcrossBuffersAndDropsNulls() {
+        String body = "[" + COMMIT + ",\"files\":[]}, null, " + COMMIT.replace("abc123", "def456") + "}]";
+        ExchangeFunction stub = request -> Mono.just(json(HttpStatus.OK, chunked(body)));
+
+        var service = new GitHubRepositoryService(buildClient(stub), properties, GitHubResponseCache.disabled());
+
+        assertThat(service.listCommits("token", "octo-org", "repo", 100, null))
+                .extracting(commit -> commit.sha())
+                .containsExactly("abc123", "def456");
+    }
+
+    @Test
+    void listCommits_returnsEmptyListForEmptyBodyAndConflict() {
+        ExchangeFunction empty = request -> Mono.just(ClientResponse.create(HttpStatus.OK).build());
+        ExchangeFunction conflict = request -> Mono.just(json(HttpStatus.CONFLICT,
+                Flux.just(buffer("{\"message\":\"Git Repository is empty.\"}"))));
+
+        assertThat(new GitHubRepositoryService(buildClient(empty), properties, GitHubResponseCache.disabled())
+                .listCommits("token", "octo-org", "repo", 100, null)).isEmpty();
+        assertThat(new GitHubRepositoryService(buildClient(conflict), properties, GitHubResponseCache.disabled())
+                .listCommits("token", "octo-org", "repo", 100, null)).isEmpty();
+    }
+
+    @Test
+    void getCommit_returnsEmptyForNotFoundAndFailsOnOtherErrors() {
+        ExchangeFunction notFound = request -> Mono.just(json(HttpStatus.NOT_FOUND,
+                Flux.just(buffer("{\"message\":\"Not Found\"}"))));
+        ExchangeFunction malformed = request -> Mono.just(json(HttpStatus.OK, Flux.just(buffer("{\"sha\":"))));
+
+        assertThat(new GitHubRepositoryService(buildClient(notFound), properties, GitHubResponseCache.disabled())
+                .getCommit("token", "octo-org", "repo", "abc123")).isEmpty();
+        assertThatThrownBy(() -> new GitHubRepositoryService(buildClient(malformed), properties, GitHubResponseCache.disabled())
+                .getCommit("token", "octo-org", "repo", "abc123"))
+                .isInstanceOf(GitHubApiException.class);
+    }
+
+    // Splits the body into small buffers, as the network delivers it, so tokens straddle buffer boundaries.
+    private static Flux<DataBuffer> chunked(String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        return Flux.range(0, (bytes.length + 8191) / 8192)
+                .map(chunk -> DefaultDataBufferFactory.sharedInstance.wrap(ByteBuffer.wrap(bytes, chunk * 8192,
+                        Math.min(8192, bytes.length - chunk * 8192))));
+    }
+
+    private static DataBuffer buffer(String value) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ClientResponse json(HttpStatus status, Flux<DataBuffer> body) {
+        return ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+
+    private WebClient buildClient(ExchangeFunction stub) {
+        return WebClient.builder().exchangeFunction(stub).build();
+    }
+}
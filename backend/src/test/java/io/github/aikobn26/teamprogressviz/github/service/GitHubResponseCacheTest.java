@@ -0,0 +1,163 @@
+package io.github.aikobn26.teamprogressviz.github.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.github.aikobn26.teamprogressviz.feature.github.properties.GitHubApiProperties;
+import io.github.aikobn26.teamprogressviz.feature.github.properties.GitHubCacheProperties;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubRepositoryService;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubRepositoryService.GitHubCommit;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubRepositoryService.GitHubCommitDetail;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubRepositoryService.GitHubCommitFile;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubRepositoryService.GitHubSimpleUser;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubResponseCache;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubResponseCache.Key;
+import io.github.aikobn26.teamprogressviz.github.simulator.GitHubApiSimulator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GitHubResponseCacheTest {
+
+    private static final GitHubCommitDetail DETAIL = new GitHubCommitDetail(
+            new GitHubCommit("abc123", "Fix", "https://github.com/octo-org/repo/commit/abc123",
+                    "Octo", "octo@example.com", OffsetDateTime.of(2025, 6, 30, 12, 0, 0, 0, ZoneOffset.UTC),
+                    "Octo", "octo@example.com", OffsetDateTime.of(2025, 6, 30, 12, 0, 0, 0, ZoneOffset.UTC),
+                    new GitHubSimpleUser(7L, "octo", null, null)),
+            List.of(new GitHubCommitFile("src/App.java", "modified", 3, 1, 4, null)));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void listing_isBoundToTheTokenAndExpires() throws InterruptedException {
+        GitHubCacheProperties properties = new GitHubCacheProperties();
+        properties.setListingTtl(Duration.ofMillis(100));
+        GitHubResponseCache cache = new GitHubResponseCache(properties, null);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.listing(Key.forToken("/user/orgs", "token-a"), () -> "a" + loads.incrementAndGet()))
+                .isEqualTo("a1");
+        assertThat(cache.listing(Key.forToken("/user/orgs", "token-a"), () -> "a" + loads.incrementAndGet()))
+                .isEqualTo("a1");
+        assertThat(cache.listing(Key.forToken("/user/orgs", "token-b"), () -> "b" + loads.incrementAndGet()))
+                .isEqualTo("b2");
+
+        Thread.sleep(150);
+        assertThat(cache.listing(Key.forToken("/user/orgs", "token-a"), () -> "a" + loads.incrementAndGet()))
+                .isEqualTo("a3");
+    }
+
+    @Test
+    void key_neverHoldsTheToken() {
+        assertThat(Key.forToken("/user/orgs", "gho_secret").principal())
+                .doesNotContain("gho_secret")
+                .hasSize(64);
+    }
+
+    @Test
+    void immutable_survivesARestartThroughTheDiskTier() {
+        GitHubCacheProperties properties = new GitHubCacheProperties();
+        properties.setDiskDirectory(directory);
+        Key key = Key.shared("/repos/octo-org/repo/commits/abc123");
+        AtomicInteger loads = new AtomicInteger();
+
+        new GitHubResponseCache(properties, null).immutable(key, GitHubCommitDetail.class, () -> {
+            loads.incrementAndGet();
+            return DETAIL;
+        });
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        GitHubResponseCache restarted = new GitHubResponseCache(properties, registry);
+        GitHubCommitDetail first = restarted.immutable(key, GitHubCommitDetail.class, () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        GitHubCommitDetail second = restarted.immutable(key, GitHubCommitDetail.class, () -> null);
+
+        assertThat(first).isEqualTo(DETAIL);
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(registry.get("github.cache.requests").tag("result", "disk").counter().count()).isEqualTo(1);
+        assertThat(registry.get("github.cache.requests").tag("result", "heap").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void immutable_treatsDamagedFilesAsMissesAndDoesNotCacheAbsentObjects() throws IOException {
+        GitHubCacheProperties properties = new GitHubCacheProperties();
+        properties.setDiskDirectory(directory);
+        GitHubResponseCache cache = new GitHubResponseCache(properties, null);
+        Key key = Key.shared("/repos/octo-org/repo/commits/abc123");
+        cache.immutable(key, GitHubCommitDetail.class, () -> DETAIL);
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.writeString(file, "{\"commit\":");
+            }
+        }
+
+        GitHubResponseCache restarted = new GitHubResponseCache(properties, null);
+        assertThat(restarted.immutable(key, GitHubCommitDetail.class, () -> DETAIL)).isEqualTo(DETAIL);
+
+        AtomicInteger loads = new AtomicInteger();
+        Key missing = Key.shared("/repos/octo-org/repo/commits/missing");
+        restarted.immutable(missing, GitHubCommitDetail.class, () -> { loads.incrementAndGet(); return null; });
+        restarted.immutable(missing, GitHubCommitDetail.class, () -> { loads.incrementAndGet(); return null; });
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void heap_dropsTheLeastRecentlyUsedEntry() {
+        GitHubCacheProperties properties = new GitHubCacheProperties();
+        properties.setHeapMaxEntries(2);
+        GitHubResponseCache cache = new GitHubResponseCache(properties, null);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.immutable(Key.shared("a"), String.class, () -> "a" + loads.incrementAndGet());
+        cache.immutable(Key.shared("b"), String.class, () -> "b" + loads.incrementAndGet());
+        cache.immutable(Key.shared("a"), String.class, () -> "a" + loads.incrementAndGet());
+        cache.immutable(Key.shared("c"), String.class, () -> "c" + loads.incrementAndGet());
+
+        assertThat(cache.heapSize()).isEqualTo(2);
+        assertThat(cache.immutable(Key.shared("a"), String.class, () -> "a" + loads.incrementAndGet())).isEqualTo("a1");
+        assertThat(cache.immutable(Key.shared("b"), String.class, () -> "b" + loads.incrementAndGet())).isEqualTo("b4");
+    }
+
+    @Test
+    void disabled_alwaysLoads() {
+        GitHubResponseCache cache = GitHubResponseCache.disabled();
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.listing(Key.forToken("/user/orgs", "token"), loads::incrementAndGet);
+        cache.listing(Key.forToken("/user/orgs", "token"), loads::incrementAndGet);
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.heapSize()).isZero();
+    }
+
+    @Test
+    void getCommit_isFetchedOnceAcrossTokens() {
+        try (GitHubApiSimulator simulator = GitHubApiSimulator.start(new GitHubApiSimulator.Settings().commits(5))) {
+            var service = new GitHubRepositoryService(WebClient.create(),
+                    new GitHubApiProperties(URI.create(simulator.baseUrl().toString())),
+                    new GitHubResponseCache(new GitHubCacheProperties(), null));
+            String sha = service.listCommits("token-a", "octo-org", "repo-1", 100, null).get(0).sha();
+            long before = simulator.stats().requests();
+
+            var first = service.getCommit("token-a", "octo-org", "repo-1", sha);
+            var second = service.getCommit("token-b", "octo-org", "repo-1", sha);
+
+            assertThat(second).isEqualTo(first).isPresent();
+            assertThat(simulator.stats().requests() - before).isEqualTo(1);
+        }
+    }
+}
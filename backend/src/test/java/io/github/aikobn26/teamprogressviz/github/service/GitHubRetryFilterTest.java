@@ -0,0 +1,120 @@
+package io.github.aikobn26.teamprogressviz.github.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.github.aikobn26.teamprogressviz.feature.github.properties.GitHubRetryProperties;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubRetryFilter;
+import reactor.core.publisher.Mono;
+
+class GitHubRetryFilterTest {
+
+    private GitHubRetryProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GitHubRetryProperties();
+        properties.setMaxAttempts(3);
+        properties.setInitialBackoff(Duration.ofMillis(1));
+        properties.setMaxBackoff(Duration.ofMillis(5));
+    }
+
+    @Test
+    void get_retriesServerErrorsUntilSuccess() {
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction stub = request -> Mono.just(calls.incrementAndGet() < 3
+                ? ClientResponse.create(HttpStatus.BAD_GATEWAY).build()
+                : json(HttpStatus.OK, "\"ok\""));
+
+        String body = buildClient(stub).get().uri("https://api.github.com/orgs/octo-org")
+                .retrieve().bodyToMono(String.class).block();
+
+        assertThat(body).isEqualTo("\"ok\"");
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void get_returnsLastResponseWhenAttemptsAreExhausted() {
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction stub = request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "0")
+                    .build());
+        };
+
+        assertThatThrownBy(() -> buildClient(stub).get().uri("https://api.github.com/orgs/octo-org")
+                .retrieve().bodyToMono(String.class).block())
+                .isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void get_transportErrorThenServerErrors_staysWithinMaxAttempts() {
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction stub = request -> calls.incrementAndGet() == 1
+                ? Mono.error(new IOException("connection reset"))
+                : Mono.just(ClientResponse.create(HttpStatus.BAD_GATEWAY).build());
+
+        assertThatThrownBy(() -> buildClient(stub).get().uri("https://api.github.com/orgs/octo-org")
+                .retrieve().bodyToMono(String.class).block())
+                .isInstanceOf(WebClientResponseException.BadGateway.class);
+        assertThat(calls).hasValue(properties.getMaxAttempts());
+    }
+
+    @Test
+    void get_doesNotRetryClientErrors() {
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction stub = request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.CONFLICT).build());
+        };
+
+        assertThatThrownBy(() -> buildClient(stub).get().uri("https://api.github.com/repos/octo-org/empty/commits")
+                .retrieve().bodyToMono(String.class).block())
+                .isInstanceOf(WebClientResponseException.Conflict.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void post_isNeverRetried() {
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction stub = request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.BAD_GATEWAY).build());
+        };
+
+        assertThatThrownBy(() -> buildClient(stub).post().uri("https://github.com/login/oauth/access_token")
+                .retrieve().bodyToMono(String.class).block())
+                .isInstanceOf(WebClientResponseException.BadGateway.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    private ClientResponse json(HttpStatus status, String body) {
+        return ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+
+    private WebClient buildClient(ExchangeFunction stub) {
+        return WebClient.builder()
+                .exchangeFunction(stub)
+                .filter(new GitHubRetryFilter(properties))
+                .build();
+    }
+}
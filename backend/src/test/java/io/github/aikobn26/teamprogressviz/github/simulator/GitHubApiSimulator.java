@@ -0,0 +1,692 @@
+package io.github.aikobn26.teamprogressviz.github.simulator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Embedded stand-in for the parts of the GitHub REST API the backend calls. Point {@code github.api.base-url} at
+ * {@link #baseUrl()} to run sync end-to-end without network access or quota.
+ * <p>
+ * Data is synthesised on request from indexes, so organizations with thousands of repositories cost no memory: any
+ * organization login is accepted and gets the configured number of repositories, members, pull requests, commits and
+ * files. Commits are returned newest first and honour {@code since}. List endpoints paginate with
+ * {@code per_page}/{@code page} and a {@code Link} header, every 200 carries a weak {@code ETag} and a matching
+ * {@code If-None-Match} gets a 304 that does not count against the quota, and each token has a
+ * {@code X-RateLimit-*} budget per window after which requests get 403. Bodies are gzipped for clients that send
+ * {@code Accept-Encoding: gzip}, as GitHub does. Latency and 5xx faults can be injected.
+ * <p>
+ * The OAuth code exchange at {@value #TOKEN_PATH} and {@code /user} are served too, always for
+ * {@code sim-user-0}, so {@code github.oauth.token-url} and {@code github.oauth.user-url} can point here for logins.
+ */
+public final class GitHubApiSimulator implements AutoCloseable {
+
+    private static final OffsetDateTime NEWEST_COMMIT = OffsetDateTime.of(2025, 6, 30, 12, 0, 0, 0, ZoneOffset.UTC);
+    private static final String TOKEN_PATH = "/login/oauth/access_token";
+    private static final String[] EXTENSIONS = {"java", "ts", "tsx", "sql", "md", "yml"};
+
+    private final Settings settings;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Random random;
+    private final Map<String, Integer> organizationIndexes = new ConcurrentHashMap<>();
+    private final AtomicInteger nextOrganizationIndex = new AtomicInteger();
+    private final Map<String, Quota> quotas = new ConcurrentHashMap<>();
+    private final String patch;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+    private final AtomicLong rateLimited = new AtomicLong();
+    private final AtomicLong faults = new AtomicLong();
+    private final AtomicLong compressed = new AtomicLong();
+
+    private GitHubApiSimulator(Settings settings) throws IOException {
+        this.settings = settings;
+        this.random = new Random(settings.seed);
+        this.patch = "@@ -1,1 +1,1 @@\n" + "+".repeat(Math.max(0, settings.patchBytes));
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    public static GitHubApiSimulator start(Settings settings) {
+        try {
+            return new GitHubApiSimulator(settings);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start GitHub API simulator", e);
+        }
+    }
+
+    public URI baseUrl() {
+        return URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+    }
+
+    public Stats stats() {
+        return new Stats(requests.get(), notModified.get(), rateLimited.get(), faults.get(), compressed.get());
+    }
+
+    /**
+     * @return requests left for the token in the current window
+     */
+    public int remainingQuota(String token) {
+        return quotaFor(token).remaining();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            sleep(latency());
+            if ("POST".equals(exchange.getRequestMethod()) && exchange.getRequestURI().getPath().equals(TOKEN_PATH)) {
+                exchangeCode(exchange);
+                return;
+            }
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                send(exchange, 405, message("Method not allowed"), Map.of());
+                return;
+            }
+            if (injectFault()) {
+                faults.incrementAndGet();
+                send(exchange, random(2) == 0 ? 502 : 503, message("Server Error"), Map.of());
+                return;
+            }
+            String token = token(exchange);
+            if (token == null) {
+                send(exchange, 401, message("Requires authentication"), Map.of());
+                return;
+            }
+
+            Map<String, String> query = query(exchange.getRequestURI());
+            Page page = route(exchange.getRequestURI().getPath(), query);
+            Quota quota = quotaFor(token);
+            if (page == null) {
+                sendCharged(exchange, quota, 404, message("Not Found"), Map.of());
+                return;
+            }
+
+            byte[] body = objectMapper.writeValueAsBytes(page.body());
+            String etag = "W/\"" + Integer.toHexString(Arrays.hashCode(body)) + "\"";
+            Map<String, String> headers = new LinkedHashMap<>();
+            headers.put("ETag", etag);
+            if (page.link() != null) {
+                headers.put("Link", page.link());
+            }
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.incrementAndGet();
+                quota.writeHeaders(headers, false);
+                send(exchange, 304, null, headers);
+                return;
+            }
+            sendCharged(exchange, quota, 200, body, headers);
+        } catch (RuntimeException e) {
+            send(exchange, 500, message(e.getMessage()), Map.of());
+        }
+    }
+
+    /**
+     * OAuth code exchange: any code is accepted and turned into its own token, so each login gets a separate quota.
+     */
+    private void exchangeCode(HttpExchange exchange) throws IOException {
+        String form = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        String code = query(URI.create("?" + form)).get("code");
+        if (code == null || code.isBlank()) {
+            send(exchange, 200, objectMapper.writeValueAsBytes(Map.of("error", "bad_verification_code")), Map.of());
+            return;
+        }
+        Map<String, Object> token = new LinkedHashMap<>();
+        token.put("access_token", "sim-token-" + code);
+        token.put("token_type", "bearer");
+        token.put("scope", "read:org");
+        send(exchange, 200, objectMapper.writeValueAsBytes(token), Map.of());
+    }
+
+    private void sendCharged(HttpExchange exchange, Quota quota, int status, byte[] body, Map<String, String> headers)
+            throws IOException {
+        Map<String, String> responseHeaders = new LinkedHashMap<>(headers);
+        if (!quota.writeHeaders(responseHeaders, true)) {
+            rateLimited.incrementAndGet();
+            send(exchange, 403, message("API rate limit exceeded"), responseHeaders);
+            return;
+        }
+        send(exchange, status, body, responseHeaders);
+    }
+
+    private Page route(String path, Map<String, String> query) {
+        String[] segments = Arrays.stream(path.split("/")).filter(segment -> !segment.isEmpty()).toArray(String[]::new);
+        if (segments.length == 1 && segments[0].equals("user")) {
+            Map<String, Object> user = user(0);
+            user.put("name", "Simulated User 0");
+            return Page.single(user);
+        }
+        if (segments.length == 2 && segments[0].equals("user") && segments[1].equals("orgs")) {
+            return paginate(path, query, settings.organizations, i -> organization("sim-org-" + i));
+        }
+        if (segments.length >= 2 && segments[0].equals("orgs")) {
+            String login = segments[1];
+            if (segments.length == 2) {
+                return Page.single(organization(login));
+            }
+            if (segments.length == 3 && segments[2].equals("repos")) {
+                return paginate(path, query, settings.repositories, i -> repository(login, i));
+            }
+            if (segments.length == 3 && segments[2].equals("members")) {
+                return paginate(path, query, settings.members, this::member);
+            }
+            return null;
+        }
+        if (segments.length >= 4 && segments[0].equals("repos")) {
+            int repository = repositoryIndex(segments[2]);
+            if (repository < 0) {
+                return null;
+            }
+            long repositoryId = repositoryId(segments[1], repository);
+            String fullName = segments[1] + "/" + segments[2];
+            if (segments[3].equals("pulls")) {
+                if (segments.length == 4) {
+                    return paginate(path, query, settings.pullRequests,
+                            i -> pullRequestSummary(repositoryId, i + 1));
+                }
+                int number = parseIndex(segments[4]);
+                if (number < 1 || number > settings.pullRequests) {
+                    return null;
+                }
+                if (segments.length == 5) {
+                    return Page.single(pullRequest(repositoryId, fullName, number));
+                }
+                if (segments.length == 6 && segments[5].equals("files")) {
+                    return paginate(path, query, settings.filesPerItem, i -> file(i, null));
+                }
+                return null;
+            }
+            if (segments[3].equals("commits")) {
+                if (segments.length == 4) {
+                    return paginate(path, query, commitCountSince(query.get("since")),
+                            i -> commit(repositoryId, fullName, i, false));
+                }
+                if (segments.length == 5) {
+                    int index = commitIndex(repositoryId, segments[4]);
+                    return index < 0 ? null : Page.single(commit(repositoryId, fullName, index, true));
+                }
+            }
+        }
+        return null;
+    }
+
+    private Page paginate(String path, Map<String, String> query, int total, IntFunction<Object> item) {
+        int perPage = Math.min(Math.max(parseInt(query.get("per_page"), 30), 1), 100);
+        int page = Math.max(parseInt(query.get("page"), 1), 1);
+        int from = Math.min((page - 1) * perPage, total);
+        int to = Math.min(from + perPage, total);
+        List<Object> items = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            items.add(item.apply(i));
+        }
+        int lastPage = Math.max(1, (total + perPage - 1) / perPage);
+        String link = null;
+        if (page < lastPage) {
+            link = "<" + pageUrl(path, query, page + 1) + ">; rel=\"next\", <"
+                    + pageUrl(path, query, lastPage) + ">; rel=\"last\"";
+        }
+        return new Page(items, link);
+    }
+
+    private String pageUrl(String path, Map<String, String> query, int page) {
+        Map<String, String> parameters = new LinkedHashMap<>(query);
+        parameters.put("page", String.valueOf(page));
+        StringBuilder url = new StringBuilder(baseUrl().toString()).append(path);
+        char separator = '?';
+        for (Map.Entry<String, String> parameter : parameters.entrySet()) {
+            url.append(separator).append(parameter.getKey()).append('=').append(parameter.getValue());
+            separator = '&';
+        }
+        return url.toString();
+    }
+
+    private Map<String, Object> organization(String login) {
+        Map<String, Object> organization = new LinkedHashMap<>();
+        organization.put("id", 1_000_000L + organizationIndex(login));
+        organization.put("login", login);
+        organization.put("name", login);
+        organization.put("description", "Simulated organization");
+        organization.put("avatar_url", "https://avatars.example.com/" + login);
+        organization.put("html_url", "https://github.com/" + login);
+        return organization;
+    }
+
+    private Map<String, Object> repository(String owner, int index) {
+        Map<String, Object> repository = new LinkedHashMap<>();
+        repository.put("id", repositoryId(owner, index));
+        repository.put("name", "repo-" + index);
+        repository.put("full_name", owner + "/repo-" + index);
+        repository.put("description", "Simulated repository " + index);
+        repository.put("html_url", "https://github.com/" + owner + "/repo-" + index);
+        repository.put("language", index % 2 == 0 ? "Java" : "TypeScript");
+        repository.put("stargazers_count", index % 100);
+        repository.put("forks_count", index % 10);
+        repository.put("default_branch", "main");
+        repository.put("private", false);
+        repository.put("archived", false);
+        return repository;
+    }
+
+    private Map<String, Object> member(int index) {
+        Map<String, Object> member = user(index);
+        member.put("type", "User");
+        member.put("site_admin", false);
+        return member;
+    }
+
+    private Map<String, Object> user(int index) {
+        Map<String, Object> user = new LinkedHashMap<>();
+        user.put("id", 5_000_000L + index);
+        user.put("login", "sim-user-" + index);
+        user.put("avatar_url", "https://avatars.example.com/sim-user-" + index);
+        user.put("html_url", "https://github.com/sim-user-" + index);
+        return user;
+    }
+
+    private Map<String, Object> pullRequestSummary(long repositoryId, int number) {
+        Map<String, Object> pullRequest = new LinkedHashMap<>();
+        pullRequest.put("id", repositoryId * 100_000L + number);
+        pullRequest.put("number", number);
+        pullRequest.put("updated_at", NEWEST_COMMIT.minusHours(number).toString());
+        return pullRequest;
+    }
+
+    private Map<String, Object> pullRequest(long repositoryId, String fullName, int number) {
+        Map<String, Object> pullRequest = pullRequestSummary(repositoryId, number);
+        boolean merged = number % 3 == 0;
+        OffsetDateTime createdAt = NEWEST_COMMIT.minusHours(number + 24L);
+        pullRequest.put("title", "Simulated pull request " + number);
+        pullRequest.put("body", "Generated by the GitHub API simulator");
+        pullRequest.put("state", merged ? "closed" : "open");
+        pullRequest.put("merged", merged);
+        pullRequest.put("html_url", "https://github.com/" + fullName + "/pull/" + number);
+        pullRequest.put("user", user(number % Math.max(1, settings.members)));
+        pullRequest.put("merged_by", merged ? user(0) : null);
+        pullRequest.put("additions", 10 * settings.filesPerItem);
+        pullRequest.put("deletions", 2 * settings.filesPerItem);
+        pullRequest.put("changed_files", settings.filesPerItem);
+        pullRequest.put("created_at", createdAt.toString());
+        pullRequest.put("merged_at", merged ? NEWEST_COMMIT.minusHours(number).toString() : null);
+        pullRequest.put("closed_at", merged ? NEWEST_COMMIT.minusHours(number).toString() : null);
+        return pullRequest;
+    }
+
+    private Map<String, Object> commit(long repositoryId, String fullName, int index, boolean withFiles) {
+        String sha = sha(repositoryId, index);
+        Map<String, Object> author = new LinkedHashMap<>();
+        int member = index % Math.max(1, settings.members);
+        author.put("name", "sim-user-" + member);
+        author.put("email", "sim-user-" + member + "@example.com");
+        author.put("date", NEWEST_COMMIT.minusMinutes(index).toString());
+
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("author", author);
+        details.put("committer", author);
+        details.put("message", "Simulated commit " + index);
+
+        Map<String, Object> commit = new LinkedHashMap<>();
+        commit.put("sha", sha);
+        commit.put("html_url", "https://github.com/" + fullName + "/commit/" + sha);
+        commit.put("commit", details);
+        commit.put("author", user(member));
+        if (withFiles) {
+            List<Object> files = new ArrayList<>(settings.filesPerItem);
+            for (int i = 0; i < settings.filesPerItem; i++) {
+                files.add(file(i, "modified"));
+            }
+            commit.put("files", files);
+        }
+        return commit;
+    }
+
+    private Map<String, Object> file(int index, String status) {
+        String filename = "src/file" + index + "." + EXTENSIONS[index % EXTENSIONS.length];
+        Map<String, Object> file = new LinkedHashMap<>();
+        file.put("filename", filename);
+        file.put("status", status != null ? status : "modified");
+        file.put("additions", 10);
+        file.put("deletions", 2);
+        file.put("changes", 12);
+        file.put("raw_url", "https://github.com/raw/" + filename);
+        file.put("patch", patch);
+        return file;
+    }
+
+    private int commitCountSince(String since) {
+        if (since == null || since.isBlank()) {
+            return settings.commits;
+        }
+        long minutes = Duration.between(OffsetDateTime.parse(since), NEWEST_COMMIT).toMinutes();
+        if (minutes < 0) {
+            return 0;
+        }
+        return (int) Math.min(settings.commits, minutes + 1);
+    }
+
+    private int commitIndex(long repositoryId, String sha) {
+        String prefix = String.format("%016x", repositoryId);
+        if (sha.length() != 40 || !sha.startsWith(prefix)) {
+            return -1;
+        }
+        try {
+            int index = Integer.parseInt(sha.substring(16), 16);
+            return index < settings.commits ? index : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String sha(long repositoryId, int index) {
+        return String.format("%016x%024x", repositoryId, index);
+    }
+
+    private long repositoryId(String owner, int index) {
+        return (organizationIndex(owner) + 1L) * 10_000_000L + index;
+    }
+
+    private int repositoryIndex(String name) {
+        if (!name.startsWith("repo-")) {
+            return -1;
+        }
+        int index = parseIndex(name.substring("repo-".length()));
+        return index < settings.repositories ? index : -1;
+    }
+
+    private int organizationIndex(String login) {
+        return organizationIndexes.computeIfAbsent(login, unused -> nextOrganizationIndex.getAndIncrement());
+    }
+
+    private Quota quotaFor(String token) {
+        return quotas.computeIfAbsent(token, unused -> new Quota(settings.rateLimit, settings.rateLimitWindow));
+    }
+
+    private Duration latency() {
+        if (settings.latencyJitter.isZero()) {
+            return settings.latency;
+        }
+        return settings.latency.plusMillis(random((int) settings.latencyJitter.toMillis() + 1));
+    }
+
+    private boolean injectFault() {
+        if (settings.faultRate <= 0) {
+            return false;
+        }
+        synchronized (random) {
+            return random.nextDouble() < settings.faultRate;
+        }
+    }
+
+    private int random(int bound) {
+        synchronized (random) {
+            return random.nextInt(bound);
+        }
+    }
+
+    private byte[] message(String message) {
+        try {
+            return objectMapper.writeValueAsBytes(Map.of("message", String.valueOf(message)));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void send(HttpExchange exchange, int status, byte[] body, Map<String, String> headers)
+            throws IOException {
+        headers.forEach(exchange.getResponseHeaders()::set);
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            compressed.incrementAndGet();
+            body = gzip(body);
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream output = new GZIPOutputStream(buffer)) {
+            output.write(body);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String token(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null) {
+            return null;
+        }
+        int space = authorization.indexOf(' ');
+        String token = space >= 0 ? authorization.substring(space + 1).trim() : authorization.trim();
+        return token.isEmpty() ? null : token;
+    }
+
+    private static Map<String, String> query(URI uri) {
+        Map<String, String> query = new LinkedHashMap<>();
+        String raw = uri.getRawQuery();
+        if (raw == null || raw.isEmpty()) {
+            return query;
+        }
+        for (String pair : raw.split("&")) {
+            int equals = pair.indexOf('=');
+            String key = equals >= 0 ? pair.substring(0, equals) : pair;
+            String value = equals >= 0 ? pair.substring(equals + 1) : "";
+            query.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static int parseIndex(String value) {
+        return parseInt(value, -1);
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero() || duration.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Page(Object body, String link) {
+
+        private static Page single(Object body) {
+            return new Page(body, null);
+        }
+    }
+
+    private static final class Quota {
+
+        private final int limit;
+        private final Duration window;
+        private Instant resetAt;
+        private int used;
+
+        private Quota(int limit, Duration window) {
+            this.limit = limit;
+            this.window = window;
+            this.resetAt = Instant.now().plus(window);
+        }
+
+        private synchronized int remaining() {
+            roll();
+            return limit - used;
+        }
+
+        /**
+         * Writes the rate-limit headers, charging one request if asked to.
+         *
+         * @return {@code false} when the request would exceed the budget
+         */
+        private synchronized boolean writeHeaders(Map<String, String> headers, boolean charge) {
+            roll();
+            boolean allowed = !charge || used < limit;
+            if (charge && allowed) {
+                used++;
+            }
+            headers.put("X-RateLimit-Limit", String.valueOf(limit));
+            headers.put("X-RateLimit-Remaining", String.valueOf(limit - used));
+            headers.put("X-RateLimit-Used", String.valueOf(used));
+            headers.put("X-RateLimit-Reset", String.valueOf(resetAt.getEpochSecond()));
+            headers.put("X-RateLimit-Resource", "core");
+            return allowed;
+        }
+
+        private void roll() {
+            Instant now = Instant.now();
+            if (!now.isBefore(resetAt)) {
+                used = 0;
+                resetAt = now.plus(window);
+            }
+        }
+    }
+
+    public record Stats(long requests, long notModified, long rateLimited, long faults, long compressed) {
+    }
+
+    /**
+     * Shape of the simulated data and the faults to inject. Every organization gets the same shape.
+     */
+    public static final class Settings {
+
+        private int organizations = 1;
+        private int repositories = 10;
+        private int members = 5;
+        private int pullRequests = 10;
+        private int commits = 50;
+        private int filesPerItem = 3;
+        private int patchBytes = 256;
+        private Duration latency = Duration.ZERO;
+        private Duration latencyJitter = Duration.ZERO;
+        private double faultRate;
+        private int rateLimit = 5000;
+        private Duration rateLimitWindow = Duration.ofHours(1);
+        private long seed = 42;
+
+        /**
+         * Organizations listed by {@code /user/orgs}; any other login is served too.
+         */
+        public Settings organizations(int organizations) {
+            this.organizations = organizations;
+            return this;
+        }
+
+        public Settings repositories(int repositories) {
+            this.repositories = repositories;
+            return this;
+        }
+
+        public Settings members(int members) {
+            this.members = members;
+            return this;
+        }
+
+        public Settings pullRequests(int pullRequests) {
+            this.pullRequests = pullRequests;
+            return this;
+        }
+
+        public Settings commits(int commits) {
+            this.commits = commits;
+            return this;
+        }
+
+        /**
+         * Files per pull request and per commit detail.
+         */
+        public Settings filesPerItem(int filesPerItem) {
+            this.filesPerItem = filesPerItem;
+            return this;
+        }
+
+        /**
+         * Size of the {@code patch} field on every file, which the backend does not read.
+         */
+        public Settings patchBytes(int patchBytes) {
+            this.patchBytes = patchBytes;
+            return this;
+        }
+
+        public Settings latency(Duration latency, Duration jitter) {
+            this.latency = latency;
+            this.latencyJitter = jitter;
+            return this;
+        }
+
+        /**
+         * Share of requests, between 0 and 1, answered with 502 or 503 before anything else is checked.
+         */
+        public Settings faultRate(double faultRate) {
+            this.faultRate = faultRate;
+            return this;
+        }
+
+        public Settings rateLimit(int rateLimit, Duration window) {
+            this.rateLimit = rateLimit;
+            this.rateLimitWindow = window;
+            return this;
+        }
+
+        public Settings seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+    }
+}
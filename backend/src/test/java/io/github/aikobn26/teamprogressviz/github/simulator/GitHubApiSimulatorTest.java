@@ -0,0 +1,151 @@
+package io.github.aikobn26.teamprogressviz.github.simulator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.github.aikobn26.teamprogressviz.feature.github.exception.GitHubApiException;
+import io.github.aikobn26.teamprogressviz.feature.github.properties.GitHubApiProperties;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubOrganizationService;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubRepositoryService;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubResponseCache;
+
+class GitHubApiSimulatorTest {
+
+    private GitHubApiSimulator simulator;
+
+    @AfterEach
+    void tearDown() {
+        if (simulator != null) {
+            simulator.close();
+        }
+    }
+
+    @Test
+    void organizationService_readsTheSimulatedOrganization() {
+        simulator = GitHubApiSimulator.start(new GitHubApiSimulator.Settings().repositories(150).members(3));
+        var service = new GitHubOrganizationService(WebClient.create(), properties(), GitHubResponseCache.disabled());
+
+        assertThat(service.getOrganization("token", "octo-org")).get()
+                .extracting(organization -> organization.login())
+                .isEqualTo("octo-org");
+        // The client asks for one page of 100.
+        assertThat(service.listRepositories("token", "octo-org")).hasSize(100);
+        assertThat(service.listMembers("token", "octo-org")).hasSize(3);
+        assertThat(service.listOrganizations("token")).hasSize(1);
+    }
+
+    @Test
+    void repositoryService_readsPullRequestsCommitsAndFiles() {
+        simulator = GitHubApiSimulator.start(new GitHubApiSimulator.Settings()
+                .pullRequests(4)
+                .commits(30)
+                .filesPerItem(5));
+        var service = new GitHubRepositoryService(WebClient.create(), properties(), GitHubResponseCache.disabled());
+
+        assertThat(service.listPullRequestSummaries("token", "octo-org", "repo-1", 100)).hasSize(4);
+        assertThat(service.getPullRequest("token", "octo-org", "repo-1", 3)).get()
+                .satisfies(pullRequest -> {
+                    assertThat(pullRequest.merged()).isTrue();
+                    assertThat(pullRequest.changedFiles()).isEqualTo(5);
+                });
+        assertThat(service.listPullRequestFiles("token", "octo-org", "repo-1", 3, 100)).hasSize(5);
+
+        var commits = service.listCommits("token", "octo-org", "repo-1", 100, null);
+        assertThat(commits).hasSize(30);
+        OffsetDateTime since = commits.get(9).committedAt();
+        assertThat(service.listCommits("token", "octo-org", "repo-1", 100, since)).hasSize(10);
+
+        assertThat(service.getCommit("token", "octo-org", "repo-1", commits.get(0).sha())).get()
+                .satisfies(detail -> assertThat(detail.files()).hasSize(5));
+        assertThat(service.getCommit("token", "octo-org", "repo-1", "0".repeat(40))).isEmpty();
+    }
+
+    @Test
+    void lists_paginateAndAnswerMatchingEtagsWithoutChargingTheQuota() throws Exception {
+        simulator = GitHubApiSimulator.start(new GitHubApiSimulator.Settings().repositories(25));
+        HttpClient client = HttpClient.newHttpClient();
+        URI uri = URI.create(simulator.baseUrl() + "/orgs/octo-org/repos?per_page=10");
+
+        HttpResponse<String> first = client.send(HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer token")
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(first.statusCode()).isEqualTo(200);
+        assertThat(first.headers().firstValue("Link")).get().asString()
+                .contains("page=2>; rel=\"next\"")
+                .contains("page=3>; rel=\"last\"");
+        assertThat(first.headers().firstValue("X-RateLimit-Remaining")).hasValue("4999");
+        String etag = first.headers().firstValue("ETag").orElseThrow();
+
+        HttpResponse<String> second = client.send(HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer token")
+                .header("If-None-Match", etag)
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(second.statusCode()).isEqualTo(304);
+        assertThat(second.headers().firstValue("X-RateLimit-Remaining")).hasValue("4999");
+        assertThat(simulator.stats().notModified()).isEqualTo(1);
+    }
+
+    @Test
+    void oauth_exchangesCodesAndServesTheUser() throws Exception {
+        simulator = GitHubApiSimulator.start(new GitHubApiSimulator.Settings());
+        HttpClient client = HttpClient.newHttpClient();
+
+        HttpResponse<String> token = client.send(HttpRequest.newBuilder(
+                        URI.create(simulator.baseUrl() + "/login/oauth/access_token"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString("client_id=id&client_secret=secret&code=abc"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(token.statusCode()).isEqualTo(200);
+        assertThat(token.body()).contains("\"access_token\":\"sim-token-abc\"");
+
+        HttpResponse<String> user = client.send(HttpRequest.newBuilder(URI.create(simulator.baseUrl() + "/user"))
+                .header("Authorization", "Bearer sim-token-abc")
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(user.statusCode()).isEqualTo(200);
+        assertThat(user.body()).contains("\"id\":5000000", "\"login\":\"sim-user-0\"");
+        assertThat(simulator.remainingQuota("sim-token-abc")).isEqualTo(4999);
+    }
+
+    @Test
+    void quota_isEnforcedPerToken() {
+        simulator = GitHubApiSimulator.start(new GitHubApiSimulator.Settings().rateLimit(2, Duration.ofHours(1)));
+        var service = new GitHubOrganizationService(WebClient.create(), properties(), GitHubResponseCache.disabled());
+
+        service.getOrganization("token-a", "octo-org");
+        service.getOrganization("token-a", "octo-org");
+        assertThatThrownBy(() -> service.getOrganization("token-a", "octo-org"))
+                .isInstanceOf(GitHubApiException.class)
+                .satisfies(error -> assertThat(((GitHubApiException) error).statusCode().value()).isEqualTo(403));
+        assertThat(service.getOrganization("token-b", "octo-org")).isPresent();
+
+        assertThat(simulator.remainingQuota("token-a")).isZero();
+        assertThat(simulator.remainingQuota("token-b")).isEqualTo(1);
+        assertThat(simulator.stats().rateLimited()).isEqualTo(1);
+    }
+
+    @Test
+    void faults_areServerErrors() {
+        simulator = GitHubApiSimulator.start(new GitHubApiSimulator.Settings().faultRate(1.0));
+        var service = new GitHubOrganizationService(WebClient.create(), properties(), GitHubResponseCache.disabled());
+
+        assertThatThrownBy(() -> service.getOrganization("token", "octo-org"))
+                .isInstanceOf(GitHubApiException.class)
+                .satisfies(error -> assertThat(((GitHubApiException) error).statusCode().is5xxServerError()).isTrue());
+        assertThat(simulator.stats().faults()).isEqualTo(1);
+    }
+
+    private GitHubApiProperties properties() {
+        return new GitHubApiProperties(simulator.baseUrl());
+    }
+}
@@ -0,0 +1,183 @@
+package io.github.aikobn26.teamprogressviz.service.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskExecutor;
+
+import io.github.aikobn26.teamprogressviz.feature.job.exception.JobRejectedException;
+import io.github.aikobn26.teamprogressviz.feature.job.model.AsyncJobExecutor;
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobLane;
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobProfile;
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobStatus;
+import io.github.aikobn26.teamprogressviz.feature.job.properties.JobSchedulerProperties;
+import io.github.aikobn26.teamprogressviz.feature.job.service.JobService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JobServiceTest {
+
+    private CollectingExecutor executor;
+    private JobSchedulerProperties properties;
+    private AsyncJobExecutor asyncJobExecutor;
+    private JobService jobService;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        executor = new CollectingExecutor();
+        properties = new JobSchedulerProperties();
+        properties.setRetryAfter(Duration.ofSeconds(15));
+        asyncJobExecutor = new AsyncJobExecutor(executor, properties);
+        meterRegistry = new SimpleMeterRegistry();
+        asyncJobExecutor.bindTo(meterRegistry);
+        jobService = new JobService(asyncJobExecutor, meterRegistry);
+    }
+
+    @Test
+    void submit_runsJobAndRecordsSuccess() {
+        var job = jobService.submit("job-test", context -> context.updateProgress(50));
+
+        assertThat(job.status()).isEqualTo(JobStatus.QUEUED);
+        executor.drain();
+
+        var finished = jobService.findJob(job.id()).orElseThrow();
+        assertThat(finished.status()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(finished.progress()).isEqualTo(100);
+    }
+
+    @Test
+    void submit_exposesTheProfileRecordedByTheJob() {
+        var plain = jobService.submit("job-test", context -> { });
+        var profiled = jobService.submit("job-sync-org", context -> {
+            context.profile().phase("github.organization", () -> { });
+            context.profile().item("octo-org/app").recordRowWritten();
+        });
+
+        executor.drain();
+
+        assertThat(jobService.findJob(plain.id()).orElseThrow().profile()).isNull();
+        var profile = jobService.findJob(profiled.id()).orElseThrow().profile();
+        assertThat(profile.phases()).extracting(JobProfile.Phase::name).containsExactly("github.organization");
+        assertThat(profile.items()).extracting(JobProfile.ItemSnapshot::key, JobProfile.ItemSnapshot::rowsWritten)
+                .containsExactly(tuple("octo-org/app", 1L));
+        assertThat(meterRegistry.get("jobs.phase.statements")
+                .tag("type", "job-sync-org")
+                .tag("phase", "github.organization")
+                .summary()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    void submit_rotatesBetweenFairnessKeysWithinLane() {
+        List<String> order = new ArrayList<>();
+        jobService.submit("job-a1", JobLane.SYNC, "token:a", () -> order.add("a1"));
+        jobService.submit("job-a2", JobLane.SYNC, "token:a", () -> order.add("a2"));
+        jobService.submit("job-a3", JobLane.SYNC, "token:a", () -> order.add("a3"));
+        jobService.submit("job-b1", JobLane.SYNC, "token:b", () -> order.add("b1"));
+
+        executor.drain();
+
+        assertThat(order).containsExactly("a1", "b1", "a2", "a3");
+    }
+
+    @Test
+    void submit_prefersHeavierLaneWithoutStarvingLighterOnes() {
+        properties.getInteractive().setWeight(3);
+        properties.getMaintenance().setWeight(1);
+        List<String> order = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            int index = i;
+            jobService.submit("job-maintenance", JobLane.MAINTENANCE, "user:" + i, () -> order.add("m" + index));
+        }
+        for (int i = 0; i < 4; i++) {
+            int index = i;
+            jobService.submit("job-interactive", JobLane.INTERACTIVE, "organization:" + i, () -> order.add("i" + index));
+        }
+
+        executor.drain();
+
+        assertThat(order.subList(0, 4)).containsExactly("i0", "i1", "m0", "i2");
+        assertThat(order).hasSize(8);
+    }
+
+    @Test
+    void submit_rejectsWhenKeyExceedsLaneLimit() {
+        properties.getInteractive().setMaxQueuedPerKey(1);
+        jobService.submit("job-sync-org", JobLane.INTERACTIVE, "organization:1", () -> { });
+
+        assertThatThrownBy(() -> jobService.submit("job-sync-org", JobLane.INTERACTIVE, "organization:1", () -> { }))
+                .isInstanceOf(JobRejectedException.class)
+                .satisfies(error -> {
+                    var rejected = (JobRejectedException) error;
+                    assertThat(rejected.lane()).isEqualTo(JobLane.INTERACTIVE);
+                    assertThat(rejected.retryAfter()).isEqualTo(Duration.ofSeconds(15));
+                });
+
+        jobService.submit("job-sync-org", JobLane.INTERACTIVE, "organization:2", () -> { });
+        assertThat(asyncJobExecutor.queuedCount(JobLane.INTERACTIVE)).isEqualTo(2);
+    }
+
+    @Test
+    void submit_rejectsWhenLaneIsFullAndDropsJobState() {
+        properties.getMaintenance().setCapacity(1);
+        jobService.submit("job-delete-org", JobLane.MAINTENANCE, "organization:1", () -> { });
+
+        assertThatThrownBy(() -> jobService.submit("job-delete-org", JobLane.MAINTENANCE, "organization:2", () -> { }))
+                .isInstanceOf(JobRejectedException.class);
+
+        assertThat(asyncJobExecutor.queuedCount(JobLane.MAINTENANCE)).isEqualTo(1);
+        assertThat(executor.pending()).isEqualTo(1);
+    }
+
+    @Test
+    void submit_recordsQueueDepthWaitAndRunTimePerJobType() {
+        properties.getMaintenance().setCapacity(1);
+        jobService.submit("job-sync-org", JobLane.SYNC, "token:a", () -> { });
+        jobService.submit("job-delete-org", JobLane.MAINTENANCE, "user:1", () -> {
+            throw new IllegalStateException("boom");
+        });
+        assertThatThrownBy(() -> jobService.submit("job-delete-org", JobLane.MAINTENANCE, "user:2", () -> { }))
+                .isInstanceOf(JobRejectedException.class);
+
+        assertThat(meterRegistry.get("jobs.queued").tag("lane", "SYNC").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("jobs.rejected").tag("type", "job-delete-org").counter().count()).isEqualTo(1);
+
+        executor.drain();
+
+        assertThat(meterRegistry.get("jobs.queued").tag("lane", "SYNC").gauge().value()).isZero();
+        assertThat(meterRegistry.get("jobs.wait").tag("type", "job-sync-org").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jobs.run").tags("type", "job-sync-org", "outcome", "succeeded").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("jobs.run").tags("type", "job-delete-org", "outcome", "failed").timer().count())
+                .isEqualTo(1);
+    }
+
+    private static final class CollectingExecutor implements TaskExecutor {
+
+        private final Deque<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.addLast(task);
+        }
+
+        private void drain() {
+            while (!tasks.isEmpty()) {
+                tasks.pollFirst().run();
+            }
+        }
+
+        private int pending() {
+            return tasks.size();
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package io.github.aikobn26.teamprogressviz.service.organization;
+
+import static io.github.aikobn26.teamprogressviz.support.SqlStatementAssertions.assertStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import io.github.aikobn26.teamprogressviz.feature.organization.dto.response.ActivitySummaryItemResponse;
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.ActivityDaily;
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.Organization;
+import io.github.aikobn26.teamprogressviz.feature.organization.properties.OrganizationSyncProperties;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.ActivityDailyRepository;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.OrganizationRepository;
+import io.github.aikobn26.teamprogressviz.feature.organization.service.ActivityService;
+import io.github.aikobn26.teamprogressviz.feature.organization.service.OrganizationService;
+import io.github.aikobn26.teamprogressviz.feature.repository.entity.CommitFile;
+import io.github.aikobn26.teamprogressviz.feature.repository.entity.GitCommit;
+import io.github.aikobn26.teamprogressviz.feature.repository.entity.Repository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.CommitFileRepository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.GitCommitRepository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.RepositoryRepository;
+import io.github.aikobn26.teamprogressviz.feature.user.entity.User;
+import io.github.aikobn26.teamprogressviz.feature.user.repository.UserRepository;
+import io.github.aikobn26.teamprogressviz.shared.config.SqlStatementConfig;
+import io.github.aikobn26.teamprogressviz.shared.exception.ValidationException;
+
+@DataJpaTest
+@Import({ActivityService.class, SqlStatementConfig.class, ActivityServiceTest.MockConfig.class})
+class ActivityServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 6, 3);
+    private static final LocalDate END = LocalDate.of(2024, 6, 16);
+
+    @Autowired
+    private ActivityService activityService;
+
+    @Autowired
+    private OrganizationService organizationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private ActivityDailyRepository activityDailyRepository;
+
+    @Autowired
+    private RepositoryRepository repositoryRepository;
+
+    @Autowired
+    private GitCommitRepository gitCommitRepository;
+
+    @Autowired
+    private CommitFileRepository commitFileRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Organization organization;
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        organization = organizationRepository.save(Organization.builder()
+                .githubId(500L)
+                .login("summary-org")
+                .name("Summary Org")
+                .build());
+        alice = userRepository.save(User.builder().githubId(501L).login("alice").name("Alice").build());
+        bob = userRepository.save(User.builder().githubId(502L).login("bob").name("Bob").build());
+        Mockito.reset(organizationService);
+        when(organizationService.getAccessibleOrganization(any(), anyLong())).thenReturn(organization);
+
+        saveDaily(alice, LocalDate.of(2024, 6, 3), 2, 10, 30);
+        saveDaily(alice, LocalDate.of(2024, 6, 5), 3, 20, 60);
+        saveDaily(bob, LocalDate.of(2024, 6, 5), 1, 5, 0);
+        saveDaily(bob, LocalDate.of(2024, 6, 12), 4, 40, 15);
+        // Outside the range and soft-deleted rows are ignored.
+        saveDaily(bob, LocalDate.of(2024, 6, 20), 9, 90, 90);
+        ActivityDaily deleted = saveDaily(alice, LocalDate.of(2024, 6, 4), 7, 70, 70);
+        deleted.setDeletedAt(OffsetDateTime.now());
+        activityDailyRepository.saveAndFlush(deleted);
+    }
+
+    @Test
+    void summarize_groupsByUserInTheDatabase() {
+        var items = activityService.summarize(alice, organization.getId(), START, END, null);
+
+        assertThat(items)
+                .extracting(ActivitySummaryItemResponse::userId, ActivitySummaryItemResponse::login,
+                        ActivitySummaryItemResponse::commitCount, ActivitySummaryItemResponse::additions,
+                        ActivitySummaryItemResponse::availableMinutes)
+                .containsExactly(
+                        tuple(alice.getId(), "alice", 5L, 30L, 90L),
+                        tuple(bob.getId(), "bob", 5L, 45L, 15L));
+    }
+
+    @Test
+    void summarize_groupsByDayAndWeek() {
+        assertThat(activityService.summarize(alice, organization.getId(), START, END, "day"))
+                .extracting(ActivitySummaryItemResponse::periodStart, ActivitySummaryItemResponse::commitCount)
+                .containsExactly(
+                        tuple(LocalDate.of(2024, 6, 3), 2L),
+                        tuple(LocalDate.of(2024, 6, 5), 4L),
+                        tuple(LocalDate.of(2024, 6, 12), 4L));
+
+        assertThat(activityService.summarize(alice, organization.getId(), START, END, "WEEK"))
+                .extracting(ActivitySummaryItemResponse::periodStart, ActivitySummaryItemResponse::commitCount,
+                        ActivitySummaryItemResponse::additions)
+                .containsExactly(
+                        tuple(LocalDate.of(2024, 6, 3), 6L, 35L),
+                        tuple(LocalDate.of(2024, 6, 10), 4L, 40L));
+    }
+
+    @Test
+    void summarize_groupsCommitFilesByRepositoryAndExtension() {
+        Repository api = saveRepository(601L, "api");
+        Repository web = saveRepository(602L, "web");
+        GitCommit first = saveCommit(api, "sha-1", OffsetDateTime.of(2024, 6, 4, 9, 0, 0, 0, ZoneOffset.UTC));
+        saveFile(first, "src/Main.java", "java", 10, 2);
+        saveFile(first, "src/Util.java", "java", 5, 1);
+        GitCommit second = saveCommit(web, "sha-2", OffsetDateTime.of(2024, 6, 16, 23, 0, 0, 0, ZoneOffset.UTC));
+        saveFile(second, "index.ts", "ts", 7, 3);
+        // A commit without stored files still counts for its repository.
+        saveCommit(web, "sha-3", OffsetDateTime.of(2024, 6, 10, 9, 0, 0, 0, ZoneOffset.UTC));
+        GitCommit outside = saveCommit(api, "sha-4", OffsetDateTime.of(2024, 6, 17, 0, 0, 0, 0, ZoneOffset.UTC));
+        saveFile(outside, "src/Late.java", "java", 100, 100);
+
+        assertThat(activityService.summarize(alice, organization.getId(), START, END, "repository"))
+                .extracting(ActivitySummaryItemResponse::repositoryFullName, ActivitySummaryItemResponse::commitCount,
+                        ActivitySummaryItemResponse::filesChanged, ActivitySummaryItemResponse::additions,
+                        ActivitySummaryItemResponse::deletions)
+                .containsExactly(
+                        tuple("summary-org/api", 1L, 2L, 15L, 3L),
+                        tuple("summary-org/web", 2L, 1L, 7L, 3L));
+
+        assertThat(activityService.summarize(alice, organization.getId(), START, END, "extension"))
+                .extracting(ActivitySummaryItemResponse::extension, ActivitySummaryItemResponse::commitCount,
+                        ActivitySummaryItemResponse::filesChanged, ActivitySummaryItemResponse::additions)
+                .containsExactly(
+                        tuple("java", 1L, 2L, 15L),
+                        tuple("ts", 1L, 1L, 7L));
+    }
+
+    @Test
+    void fetchCommitFeed_loadsRepositoriesWithTheCommits() {
+        for (int r = 0; r < 3; r++) {
+            Repository repository = saveRepository(610L + r, "feed-" + r);
+            for (int c = 0; c < 4; c++) {
+                saveCommit(repository, "feed-" + r + "-" + c,
+                        OffsetDateTime.of(2024, 6, 4 + c, 9, r, 0, 0, ZoneOffset.UTC));
+            }
+        }
+        entityManager.clear();
+
+        // One page query and its count, however many repositories the page spans.
+        assertStatements(() -> assertThat(activityService.fetchCommitFeed(alice, organization.getId(), null, 5).items())
+                .hasSize(5)
+                .allSatisfy(item -> assertThat(item.repositoryFullName()).startsWith("summary-org/feed-")))
+                .isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void summarize_rejectsUnknownGroup() {
+        assertThatThrownBy(() -> activityService.summarize(alice, organization.getId(), START, END, "team"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("team");
+    }
+
+    private ActivityDaily saveDaily(User user, LocalDate date, int commits, int additions, int minutes) {
+        return activityDailyRepository.saveAndFlush(ActivityDaily.builder()
+                .organization(organization)
+                .user(user)
+                .date(date)
+                .commitCount(commits)
+                .filesChanged(commits)
+                .additions(additions)
+                .deletions(0)
+                .availableMinutes(minutes)
+                .build());
+    }
+
+    private Repository saveRepository(long githubId, String name) {
+        return repositoryRepository.saveAndFlush(Repository.builder()
+                .githubId(githubId)
+                .organization(organization)
+                .name(name)
+                .fullName(organization.getLogin() + "/" + name)
+                .build());
+    }
+
+    private GitCommit saveCommit(Repository repository, String sha, OffsetDateTime committedAt) {
+        return gitCommitRepository.saveAndFlush(GitCommit.builder()
+                .repository(repository)
+                .sha(sha)
+                .committedAt(committedAt)
+                .build());
+    }
+
+    private void saveFile(GitCommit commit, String path, String extension, int additions, int deletions) {
+        commitFileRepository.saveAndFlush(CommitFile.builder()
+                .commit(commit)
+                .path(path)
+                .extension(extension)
+                .additions(additions)
+                .deletions(deletions)
+                .build());
+    }
+
+    @TestConfiguration
+    static class MockConfig {
+        @Bean
+        OrganizationService organizationService() {
+            return Mockito.mock(OrganizationService.class);
+        }
+
+        @Bean
+        OrganizationSyncProperties organizationSyncProperties() {
+            return new OrganizationSyncProperties();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.aikobn26.teamprogressviz.service.organization;
+
+import static io.github.aikobn26.teamprogressviz.support.SqlStatementAssertions.assertStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.Comment;
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.DailyStatus;
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.Organization;
+import io.github.aikobn26.teamprogressviz.feature.organization.service.DashboardService;
+import io.github.aikobn26.teamprogressviz.feature.organization.service.OrganizationService;
+import io.github.aikobn26.teamprogressviz.feature.repository.entity.GitCommit;
+import io.github.aikobn26.teamprogressviz.feature.repository.entity.Repository;
+import io.github.aikobn26.teamprogressviz.feature.user.entity.User;
+import io.github.aikobn26.teamprogressviz.shared.config.SqlStatementConfig;
+
+@DataJpaTest
+@Import({DashboardService.class, SqlStatementConfig.class, DashboardServiceTest.MockConfig.class})
+class DashboardServiceTest {
+
+    // More commits and comments than the dashboard shows, so both pages are full and need a count query.
+    private static final int MEMBERS = 12;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private OrganizationService organizationService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Organization organization;
+    private User viewer;
+
+    @BeforeEach
+    void setUp() {
+        organization = entityManager.persist(Organization.builder()
+                .githubId(700L)
+                .login("dashboard-org")
+                .build());
+        List<User> members = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(entityManager.persist(User.builder().githubId(701L + i).login("member-" + i).build()));
+        }
+        viewer = members.get(0);
+        Repository api = entityManager.persist(Repository.builder()
+                .githubId(750L)
+                .organization(organization)
+                .name("api")
+                .fullName("dashboard-org/api")
+                .build());
+        Repository web = entityManager.persist(Repository.builder()
+                .githubId(751L)
+                .organization(organization)
+                .name("web")
+                .fullName("dashboard-org/web")
+                .build());
+        for (int i = 0; i < MEMBERS; i++) {
+            User member = members.get(i);
+            entityManager.persist(DailyStatus.builder()
+                    .organization(organization)
+                    .user(member)
+                    .date(LocalDate.now())
+                    .availableMinutes(120)
+                    .statusType("working")
+                    .build());
+            entityManager.persist(GitCommit.builder()
+                    .repository(i % 2 == 0 ? api : web)
+                    .sha("dashboard-sha-" + i)
+                    .author(member)
+                    .authorName(member.getLogin())
+                    .committedAt(OffsetDateTime.now().minusHours(i))
+                    .build());
+            entityManager.persist(Comment.builder()
+                    .organization(organization)
+                    .user(member)
+                    .targetType("organization")
+                    .content("comment " + i)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Mockito.reset(organizationService);
+        when(organizationService.getAccessibleOrganization(any(), anyLong())).thenReturn(organization);
+    }
+
+    @Test
+    void fetchDashboard_returnsStatusesCommitsAndComments() {
+        var dashboard = dashboardService.fetchDashboard(organization.getId(), viewer);
+
+        assertThat(dashboard.statuses()).hasSize(MEMBERS);
+        assertThat(dashboard.commits()).hasSize(10);
+        assertThat(dashboard.comments()).hasSize(10);
+    }
+
+    @Test
+    void fetchDashboard_loadsMembersAndRepositoriesWithoutExtraQueries() {
+        // Statuses, commits and comments, plus a count query for each of the two full pages.
+        assertStatements(() -> dashboardService.fetchDashboard(organization.getId(), viewer))
+                .isLessThanOrEqualTo(5);
+    }
+
+    @TestConfiguration
+    static class MockConfig {
+        @Bean
+        OrganizationService organizationService() {
+            return Mockito.mock(OrganizationService.class);
+        }
+    }
+}
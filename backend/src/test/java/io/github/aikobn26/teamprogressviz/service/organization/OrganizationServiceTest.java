@@ -2,7 +2,10 @@ package io.github.aikobn26.teamprogressviz.service.organization;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 
 import java.time.OffsetDateTime;
@@ -11,6 +14,7 @@ import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -27,15 +31,19 @@ import io.github.aikobn26.teamprogressviz.feature.github.repository.WebhookEvent
 import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubOrganizationService;
 import io.github.aikobn26.teamprogressviz.feature.organization.entity.Comment;
 import io.github.aikobn26.teamprogressviz.feature.organization.entity.Organization;
+import io.github.aikobn26.teamprogressviz.feature.organization.properties.OrganizationSyncProperties;
 import io.github.aikobn26.teamprogressviz.feature.organization.entity.UserOrganization;
+import io.github.aikobn26.teamprogressviz.feature.organization.model.MembershipSnapshot;
 import io.github.aikobn26.teamprogressviz.feature.organization.repository.ActivityDailyRepository;
 import io.github.aikobn26.teamprogressviz.feature.organization.repository.CommentRepository;
 import io.github.aikobn26.teamprogressviz.feature.organization.repository.DailyStatusRepository;
 import io.github.aikobn26.teamprogressviz.feature.organization.repository.OrganizationRepository;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.OrganizationSyncCheckpointRepository;
 import io.github.aikobn26.teamprogressviz.feature.organization.repository.RepositorySyncStatusRepository;
 import io.github.aikobn26.teamprogressviz.feature.organization.repository.UserOrganizationRepository;
 import io.github.aikobn26.teamprogressviz.feature.organization.service.OrganizationService;
 import io.github.aikobn26.teamprogressviz.feature.organization.service.RepositorySyncStatusService;
+import io.github.aikobn26.teamprogressviz.feature.organization.service.SyncCheckpointService;
 import io.github.aikobn26.teamprogressviz.feature.repository.entity.GitCommit;
 import io.github.aikobn26.teamprogressviz.feature.repository.entity.PullRequest;
 import io.github.aikobn26.teamprogressviz.feature.repository.entity.Repository;
@@ -48,17 +56,22 @@ import io.github.aikobn26.teamprogressviz.feature.repository.service.RepositoryA
 import io.github.aikobn26.teamprogressviz.feature.user.entity.User;
 import io.github.aikobn26.teamprogressviz.feature.user.repository.UserRepository;
 import io.github.aikobn26.teamprogressviz.feature.user.service.UserService;
-import io.github.aikobn26.teamprogressviz.shared.concurrency.KeyLockManager;
+import io.github.aikobn26.teamprogressviz.shared.concurrency.DatabaseConcurrencyLimiter;
+import io.github.aikobn26.teamprogressviz.shared.config.KeyLockConfig;
 import io.github.aikobn26.teamprogressviz.shared.exception.ForbiddenException;
 import io.github.aikobn26.teamprogressviz.shared.exception.ResourceConflictException;
+import io.github.aikobn26.teamprogressviz.shared.persistence.SoftDeleteCascade;
 
 @DataJpaTest
-@Import({OrganizationService.class, RepositorySyncStatusService.class, UserService.class, KeyLockManager.class, OrganizationServiceTest.MockConfig.class})
+@Import({OrganizationService.class, RepositorySyncStatusService.class, SyncCheckpointService.class, UserService.class, SoftDeleteCascade.class, KeyLockConfig.class, OrganizationServiceTest.MockConfig.class})
 class OrganizationServiceTest {
 
     @Autowired
     private OrganizationService organizationService;
 
+    @Autowired
+    private SyncCheckpointService syncCheckpointService;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -104,6 +117,12 @@ class OrganizationServiceTest {
     @Autowired
     private WebhookEventRepository webhookEventRepository;
 
+    @Autowired
+    private OrganizationSyncCheckpointRepository organizationSyncCheckpointRepository;
+
+    @Autowired
+    private RepositorySyncStatusService repositorySyncStatusService;
+
     private User primaryUser;
 
     @BeforeEach
@@ -119,6 +138,7 @@ class OrganizationServiceTest {
         repositorySyncStatusRepository.deleteAllInBatch();
         repositoryRepository.deleteAllInBatch();
         userOrganizationRepository.deleteAllInBatch();
+        organizationSyncCheckpointRepository.deleteAllInBatch();
         organizationRepository.deleteAllInBatch();
         userRepository.deleteAllInBatch();
         webhookEventRepository.deleteAllInBatch();
@@ -305,6 +325,125 @@ class OrganizationServiceTest {
                 .isEqualTo(99L);
     }
 
+    @Test
+    void synchronizeOrganization_resumesUnfinishedRunAfterFailure() {
+        when(gitHubOrganizationService.getOrganization(eq("token"), eq("octo-org")))
+                .thenReturn(Optional.of(new GitHubOrganization(10L, "octo-org", "Octo Org", "org desc", "https://avatar", "https://github.com/octo-org")));
+        when(gitHubOrganizationService.listRepositories(eq("token"), eq("octo-org")))
+                .thenReturn(List.of(new GitHubRepository(99L, "repo", "repo desc", "https://github.com/octo-org/repo", "Java", 42, 7, "main", true, false)));
+
+        var registration = organizationService.registerOrganization(primaryUser, "octo-org", null, "token");
+        Long organizationId = registration.organization().getId();
+
+        ArgumentCaptor<String> runIds = ArgumentCaptor.forClass(String.class);
+        doThrow(new IllegalStateException("boom"))
+                .doNothing()
+                .when(repositoryActivitySyncService)
+                .synchronizeActivities(any(Organization.class), eq("token"), runIds.capture(), any(), any());
+
+        assertThatThrownBy(() -> organizationService.synchronizeOrganization(organizationId, "token"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(organizationSyncCheckpointRepository.findByOrganizationId(organizationId).orElseThrow().isCompleted()).isFalse();
+
+        organizationService.synchronizeOrganization(organizationId, "token");
+        organizationService.synchronizeOrganization(organizationId, "token");
+
+        List<String> captured = runIds.getAllValues();
+        assertThat(captured).hasSize(3);
+        assertThat(captured.get(1)).isEqualTo(captured.get(0));
+        assertThat(captured.get(2)).isNotEqualTo(captured.get(1));
+        assertThat(organizationSyncCheckpointRepository.findByOrganizationId(organizationId).orElseThrow().isCompleted()).isTrue();
+    }
+
+    @Test
+    void beginRun_rejectsASecondJobWhileTheRunIsLeased() {
+        when(gitHubOrganizationService.getOrganization(eq("token"), eq("octo-org")))
+                .thenReturn(Optional.of(new GitHubOrganization(10L, "octo-org", "Octo Org", "org desc", "https://avatar", "https://github.com/octo-org")));
+        var registration = organizationService.registerOrganization(primaryUser, "octo-org", null, "token");
+        Long organizationId = registration.organization().getId();
+
+        var first = syncCheckpointService.beginRun(organizationId);
+
+        assertThatThrownBy(() -> syncCheckpointService.beginRun(organizationId))
+                .isInstanceOf(ResourceConflictException.class);
+
+        syncCheckpointService.releaseLease(organizationId, first);
+        var resumed = syncCheckpointService.beginRun(organizationId);
+        assertThat(resumed.resumed()).isTrue();
+        assertThat(resumed.runId()).isEqualTo(first.runId());
+        assertThatThrownBy(() -> syncCheckpointService.renewLease(organizationId, first))
+                .isInstanceOf(ResourceConflictException.class);
+    }
+
+    @Test
+    void markFailure_opensCircuitAfterThresholdAndMarkSyncedClosesIt() {
+        when(gitHubOrganizationService.getOrganization(eq("token"), eq("octo-org")))
+                .thenReturn(Optional.of(new GitHubOrganization(10L, "octo-org", "Octo Org", "org desc", "https://avatar", "https://github.com/octo-org")));
+        when(gitHubOrganizationService.listRepositories(eq("token"), eq("octo-org")))
+                .thenReturn(List.of(new GitHubRepository(99L, "repo", "repo desc", "https://github.com/octo-org/repo", "Java", 42, 7, "main", true, false)));
+
+        var registration = organizationService.registerOrganization(primaryUser, "octo-org", null, "token");
+        Long organizationId = registration.organization().getId();
+        organizationService.synchronizeOrganization(organizationId, "token");
+        Repository repository = repositoryRepository.findByOrganizationAndDeletedAtIsNull(registration.organization()).getFirst();
+
+        OffsetDateTime now = OffsetDateTime.now();
+        repositorySyncStatusService.markFailure(repository, now, "502");
+        repositorySyncStatusService.markFailure(repository, now, "502");
+        assertThat(repositorySyncStatusService.findCircuitOpenRepositoryIds(organizationId, now)).isEmpty();
+
+        repositorySyncStatusService.markFailure(repository, now, "502");
+        assertThat(repositorySyncStatusService.findCircuitOpenRepositoryIds(organizationId, now)).containsExactly(repository.getId());
+        var status = repositorySyncStatusRepository.findByRepositoryId(repository.getId()).orElseThrow();
+        assertThat(status.getConsecutiveFailures()).isEqualTo(3);
+        assertThat(status.getCircuitOpenUntil()).isEqualTo(now.plusHours(1));
+
+        repositorySyncStatusService.markFailure(repository, now, "502");
+        assertThat(repositorySyncStatusRepository.findByRepositoryId(repository.getId()).orElseThrow().getCircuitOpenUntil())
+                .isEqualTo(now.plusHours(2));
+
+        repositorySyncStatusService.markSynced(repository, now, "abc");
+        assertThat(repositorySyncStatusService.findCircuitOpenRepositoryIds(organizationId, now)).isEmpty();
+        assertThat(repositorySyncStatusRepository.findByRepositoryId(repository.getId()).orElseThrow().getConsecutiveFailures()).isZero();
+    }
+
+    @Test
+    void synchronizeOrganization_updatesRepositoriesWithoutResettingSyncStatus() {
+        when(gitHubOrganizationService.getOrganization(eq("token"), eq("octo-org")))
+                .thenReturn(Optional.of(new GitHubOrganization(10L, "octo-org", "Octo Org", "org desc", "https://avatar", "https://github.com/octo-org")));
+        when(gitHubOrganizationService.listRepositories(eq("token"), eq("octo-org")))
+                .thenReturn(List.of(new GitHubRepository(99L, "repo", "repo desc", "https://github.com/octo-org/repo", "Java", 42, 7, "main", true, false)))
+                .thenReturn(List.of(
+                        new GitHubRepository(99L, "repo-renamed", "repo desc", "https://github.com/octo-org/repo-renamed", "Java", 50, 7, "main", true, false),
+                        new GitHubRepository(100L, "repo-2", "repo2 desc", "https://github.com/octo-org/repo-2", "Kotlin", 12, 3, "main", false, false)));
+
+        var registration = organizationService.registerOrganization(primaryUser, "octo-org", null, "token");
+        Long organizationId = registration.organization().getId();
+        organizationService.synchronizeOrganization(organizationId, "token");
+        Repository repository = repositoryRepository.findByOrganizationAndDeletedAtIsNull(registration.organization()).getFirst();
+
+        OffsetDateTime now = OffsetDateTime.now();
+        for (int i = 0; i < 3; i++) {
+            repositorySyncStatusService.markFailure(repository, now, "502");
+        }
+
+        var syncResult = organizationService.synchronizeOrganization(organizationId, "token");
+
+        assertThat(syncResult.syncedRepositories()).isEqualTo(2);
+        assertThat(repositoryRepository.findByOrganizationAndDeletedAtIsNull(registration.organization()))
+                .extracting(Repository::getGithubId, Repository::getName, Repository::getFullName)
+                .containsExactlyInAnyOrder(
+                        tuple(99L, "repo-renamed", "octo-org/repo-renamed"),
+                        tuple(100L, "repo-2", "octo-org/repo-2"));
+        assertThat(repositorySyncStatusService.findCircuitOpenRepositoryIds(organizationId, now)).containsExactly(repository.getId());
+        assertThat(repositorySyncStatusRepository.findAll())
+                .hasSize(2)
+                .allSatisfy(status -> assertThat(status.getDeletedAt()).isNull())
+                .filteredOn(status -> !status.getRepository().getId().equals(repository.getId()))
+                .singleElement()
+                .satisfies(status -> assertThat(status.getLastSyncedAt()).isNull());
+    }
+
     @Test
     void listRepositorySyncStatus_returnsActiveStatuses() {
         when(gitHubOrganizationService.getOrganization(eq("token"), eq("octo-org")))
@@ -432,6 +571,46 @@ class OrganizationServiceTest {
                 .contains(secondaryMember.id());
     }
 
+    @Test
+    void synchronizeOrganization_reconcilesMembershipsInBulk() {
+        when(gitHubOrganizationService.getOrganization(eq("token"), eq("octo-org")))
+                .thenReturn(Optional.of(new GitHubOrganization(10L, "octo-org", "Octo Org", "org desc", "https://avatar", "https://github.com/octo-org")));
+        GitHubOrganizationMember primaryMember = toMember(primaryUser);
+        GitHubOrganizationMember leaving = new GitHubOrganizationMember(2_000L, "leaving", "https://avatar2", "https://github.com/leaving", "User", false);
+        GitHubOrganizationMember returning = new GitHubOrganizationMember(3_000L, "returning", "https://avatar3", "https://github.com/returning", "User", false);
+        GitHubOrganizationMember joining = new GitHubOrganizationMember(4_000L, "joining", "https://avatar4", "https://github.com/joining", "User", false);
+        when(gitHubOrganizationService.listMembers(eq("token"), eq("octo-org")))
+                .thenReturn(List.of(primaryMember, leaving, returning))
+                .thenReturn(List.of(primaryMember, returning, joining));
+
+        var registration = organizationService.registerOrganization(primaryUser, "octo-org", null, "token");
+        Long organizationId = registration.organization().getId();
+        Long returningUserId = userRepository.findByGithubId(returning.id()).orElseThrow().getId();
+        userOrganizationRepository.softDeleteByIdIn(userOrganizationRepository.findSnapshotsByOrganizationId(organizationId).stream()
+                .filter(membership -> membership.userId().equals(returningUserId))
+                .map(MembershipSnapshot::id)
+                .toList(), OffsetDateTime.now());
+
+        organizationService.synchronizeOrganization(organizationId, "token");
+
+        var memberships = userOrganizationRepository.findSnapshotsByOrganizationId(organizationId);
+        Long leavingUserId = userRepository.findByGithubId(leaving.id()).orElseThrow().getId();
+        Long joiningUserId = userRepository.findByGithubId(joining.id()).orElseThrow().getId();
+        assertThat(memberships).hasSize(4);
+        assertThat(memberships)
+                .filteredOn(membership -> !membership.deleted())
+                .extracting(MembershipSnapshot::userId)
+                .containsExactlyInAnyOrder(primaryUser.getId(), returningUserId, joiningUserId);
+        assertThat(memberships)
+                .filteredOn(membership -> membership.userId().equals(leavingUserId))
+                .singleElement()
+                .satisfies(membership -> assertThat(membership.deleted()).isTrue());
+        assertThat(memberships)
+                .filteredOn(membership -> membership.userId().equals(primaryUser.getId()))
+                .extracting(MembershipSnapshot::role)
+                .containsExactly("admin");
+    }
+
     @Test
     void deleteOrganization_softDeletesRelatedEntities() {
         when(gitHubOrganizationService.getOrganization(eq("token"), eq("octo-org")))
@@ -447,6 +626,17 @@ class OrganizationServiceTest {
         when(gitHubOrganizationService.listRepositories(eq("token"), eq("octo-org")))
                 .thenReturn(List.of(new GitHubRepository(99L, "repo", "repo desc", "https://github.com/octo-org/repo", "Java", 42, 7, "main", true, false)));
         organizationService.synchronizeOrganization(registration.organization().getId(), "token");
+        Repository repository = repositoryRepository.findByOrganizationAndDeletedAtIsNull(registration.organization()).getFirst();
+        gitCommitRepository.save(GitCommit.builder()
+                .repository(repository)
+                .sha("abc123")
+                .message("feat: add dashboard")
+                .build());
+        pullRequestRepository.save(PullRequest.builder()
+                .number(1)
+                .repository(repository)
+                .title("Add dashboard")
+                .build());
 
         User nonAdmin = userRepository.findByGithubId(secondaryMember.id()).orElseThrow();
         assertThatThrownBy(() -> organizationService.validateDeletePermission(nonAdmin, registration.organization().getId()))
@@ -458,6 +648,9 @@ class OrganizationServiceTest {
         assertThat(deletedOrganization.getDeletedAt()).isNotNull();
         assertThat(userOrganizationRepository.findByOrganizationIdAndDeletedAtIsNull(deletedOrganization.getId())).isEmpty();
         assertThat(repositoryRepository.findByOrganizationAndDeletedAtIsNull(deletedOrganization)).isEmpty();
+        assertThat(repositorySyncStatusRepository.findAll()).allSatisfy(status -> assertThat(status.getDeletedAt()).isNotNull());
+        assertThat(gitCommitRepository.findAll()).allSatisfy(commit -> assertThat(commit.getDeletedAt()).isNotNull());
+        assertThat(pullRequestRepository.findAll()).allSatisfy(pullRequest -> assertThat(pullRequest.getDeletedAt()).isNotNull());
     }
 
     @Test
@@ -509,6 +702,16 @@ class OrganizationServiceTest {
             return Mockito.mock(GitHubOrganizationService.class);
         }
 
+                @Bean
+                OrganizationSyncProperties organizationSyncProperties() {
+                        return new OrganizationSyncProperties();
+                }
+
+                @Bean
+                DatabaseConcurrencyLimiter databaseConcurrencyLimiter() {
+                        return new DatabaseConcurrencyLimiter(4);
+                }
+
                 @Bean
                 RepositoryActivitySyncService repositoryActivitySyncService() {
                         return Mockito.mock(RepositoryActivitySyncService.class);
@@ -0,0 +1,200 @@
+package io.github.aikobn26.teamprogressviz.service.organization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobLane;
+import io.github.aikobn26.teamprogressviz.feature.job.service.JobService;
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.Organization;
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.RepositorySyncStatus;
+import io.github.aikobn26.teamprogressviz.feature.organization.model.RepositorySyncCandidate;
+import io.github.aikobn26.teamprogressviz.feature.organization.properties.SyncSchedulerProperties;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.OrganizationRepository;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.RepositorySyncStatusRepository;
+import io.github.aikobn26.teamprogressviz.feature.organization.service.ScheduledSyncService;
+import io.github.aikobn26.teamprogressviz.feature.repository.entity.GitCommit;
+import io.github.aikobn26.teamprogressviz.feature.repository.entity.Repository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.GitCommitRepository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.RepositoryRepository;
+import io.github.aikobn26.teamprogressviz.feature.repository.service.RepositoryActivitySyncService;
+import io.github.aikobn26.teamprogressviz.shared.concurrency.LeaderLease;
+
+@DataJpaTest(properties = "organization.sync.scheduler.enabled=true")
+@Import({ScheduledSyncService.class, ScheduledSyncServiceTest.MockConfig.class})
+class ScheduledSyncServiceTest {
+
+    @Autowired
+    private ScheduledSyncService scheduledSyncService;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private RepositoryRepository repositoryRepository;
+
+    @Autowired
+    private RepositorySyncStatusRepository repositorySyncStatusRepository;
+
+    @Autowired
+    private GitCommitRepository gitCommitRepository;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LeaderLease leaderLease;
+
+    private Organization organization;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from scheduler_lease");
+        gitCommitRepository.deleteAllInBatch();
+        repositorySyncStatusRepository.deleteAllInBatch();
+        repositoryRepository.deleteAllInBatch();
+        organizationRepository.deleteAllInBatch();
+
+        Mockito.reset(jobService);
+
+        organization = organizationRepository.save(Organization.builder()
+                .githubId(10L)
+                .login("octo-org")
+                .name("Octo Org")
+                .build());
+    }
+
+    @Test
+    void selectCandidates_ordersByWeightedStalenessAndSkipsFreshAndOpenCircuits() {
+        OffsetDateTime now = OffsetDateTime.now();
+        Repository neverSynced = saveRepository(1L, "never-synced", false);
+        Repository active = saveRepository(2L, "active", false);
+        Repository quiet = saveRepository(3L, "quiet", false);
+        Repository fresh = saveRepository(4L, "fresh", false);
+        Repository archived = saveRepository(5L, "archived", true);
+        Repository broken = saveRepository(6L, "broken", false);
+
+        saveStatus(active, now.minusHours(5), null);
+        saveCommit(active, now.minusDays(1));
+        saveStatus(quiet, now.minusHours(8), null);
+        saveStatus(fresh, now.minusMinutes(30), null);
+        saveStatus(archived, now.minusHours(12), null);
+        saveStatus(broken, now.minusDays(2), now.plusHours(1));
+
+        var candidates = scheduledSyncService.selectCandidates(now, 10);
+
+        // never-synced ranks as 24h stale, active as 10h (5h x2), quiet as 8h; archived (3h) is below the threshold.
+        assertThat(candidates)
+                .extracting(RepositorySyncCandidate::repositoryId)
+                .containsExactly(neverSynced.getId(), active.getId(), quiet.getId());
+        assertThat(candidates)
+                .extracting(RepositorySyncCandidate::repositoryId)
+                .doesNotContain(fresh.getId(), archived.getId(), broken.getId());
+    }
+
+    @Test
+    void scheduleStaleRepositories_submitsNoMoreThanTheRequestBudgetAllows() {
+        for (long i = 1; i <= 5; i++) {
+            saveRepository(i, "repo-" + i, false);
+        }
+
+        scheduledSyncService.scheduleStaleRepositories();
+
+        // 3600 requests/hour over a 60s interval buys 60 requests, i.e. three repositories at 20 each.
+        verify(jobService, times(3)).submit(eq("job-scheduled-sync"), eq(JobLane.SYNC), anyString(), any(Runnable.class));
+    }
+
+    @Test
+    void scheduleStaleRepositories_skipsTheTickWhileAnotherReplicaHoldsTheLease() {
+        saveRepository(1L, "repo-1", false);
+        jdbcTemplate.update("insert into scheduler_lease (name, owner_id, expires_at) values (?, ?, ?)",
+                "scheduled-sync", "other-replica", OffsetDateTime.now().plusMinutes(3));
+
+        scheduledSyncService.scheduleStaleRepositories();
+
+        verify(jobService, never()).submit(anyString(), any(JobLane.class), anyString(), any(Runnable.class));
+
+        // Once the lease expires, this replica takes it over on its next tick.
+        jdbcTemplate.update("update scheduler_lease set expires_at = ?", OffsetDateTime.now().minusSeconds(1));
+        scheduledSyncService.scheduleStaleRepositories();
+
+        assertThat(jdbcTemplate.queryForObject("select owner_id from scheduler_lease where name = 'scheduled-sync'",
+                String.class)).isEqualTo(leaderLease.ownerId());
+    }
+
+    private Repository saveRepository(Long githubId, String name, boolean archived) {
+        return repositoryRepository.save(Repository.builder()
+                .githubId(githubId)
+                .organization(organization)
+                .name(name)
+                .archived(archived)
+                .build());
+    }
+
+    private void saveStatus(Repository repository, OffsetDateTime lastSyncedAt, OffsetDateTime circuitOpenUntil) {
+        repositorySyncStatusRepository.save(RepositorySyncStatus.builder()
+                .repository(repository)
+                .lastSyncedAt(lastSyncedAt)
+                .circuitOpenUntil(circuitOpenUntil)
+                .build());
+    }
+
+    private void saveCommit(Repository repository, OffsetDateTime committedAt) {
+        gitCommitRepository.save(GitCommit.builder()
+                .repository(repository)
+                .sha("sha-" + repository.getId())
+                .message("feat: recent work")
+                .committedAt(committedAt)
+                .build());
+    }
+
+    @TestConfiguration
+    static class MockConfig {
+        @Bean
+        SyncSchedulerProperties syncSchedulerProperties() {
+            var properties = new SyncSchedulerProperties();
+            properties.setEnabled(true);
+            properties.setToken("service-token");
+            properties.setInterval(Duration.ofMinutes(1));
+            properties.setStaleAfter(Duration.ofHours(6));
+            properties.setRequestBudgetPerHour(3600);
+            properties.setEstimatedRequestsPerRepository(20);
+            return properties;
+        }
+
+        @Bean
+        LeaderLease leaderLease(JdbcTemplate jdbcTemplate) {
+            return new LeaderLease(jdbcTemplate);
+        }
+
+        @Bean
+        JobService jobService() {
+            return Mockito.mock(JobService.class);
+        }
+
+        @Bean
+        RepositoryActivitySyncService repositoryActivitySyncService() {
+            return Mockito.mock(RepositoryActivitySyncService.class);
+        }
+    }
+}
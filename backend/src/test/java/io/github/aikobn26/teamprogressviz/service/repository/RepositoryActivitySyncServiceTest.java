@@ -0,0 +1,434 @@
+package io.github.aikobn26.teamprogressviz.service.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.aikobn26.teamprogressviz.feature.github.exception.GitHubApiException;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubRepositoryService;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubRepositoryService.GitHubCommit;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubRepositoryService.GitHubCommitDetail;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubRepositoryService.GitHubCommitFile;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubRepositoryService.GitHubPullRequest;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubRepositoryService.GitHubPullRequestSummary;
+import io.github.aikobn26.teamprogressviz.feature.github.service.GitHubRepositoryService.GitHubSimpleUser;
+import io.github.aikobn26.teamprogressviz.feature.job.model.JobProfile;
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.ActivityBucket;
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.Organization;
+import io.github.aikobn26.teamprogressviz.feature.organization.model.ActivityBucketGranularity;
+import io.github.aikobn26.teamprogressviz.feature.organization.properties.OrganizationSyncProperties;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.ActivityBucketRepository;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.OrganizationRepository;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.RepositorySyncStatusRepository;
+import io.github.aikobn26.teamprogressviz.feature.organization.service.ActivityBucketService;
+import io.github.aikobn26.teamprogressviz.feature.organization.service.RepositorySyncStatusService;
+import io.github.aikobn26.teamprogressviz.feature.repository.entity.Repository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.GitCommitRepository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.PullRequestRepository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.RepositoryRepository;
+import io.github.aikobn26.teamprogressviz.feature.repository.service.CommitFileStatsStore;
+import io.github.aikobn26.teamprogressviz.feature.repository.service.RepositoryActivitySyncService;
+import io.github.aikobn26.teamprogressviz.feature.user.repository.UserRepository;
+import io.github.aikobn26.teamprogressviz.feature.user.service.UserService;
+import io.github.aikobn26.teamprogressviz.shared.concurrency.DatabaseConcurrencyLimiter;
+import io.github.aikobn26.teamprogressviz.shared.config.KeyLockConfig;
+import io.github.aikobn26.teamprogressviz.shared.persistence.SoftDeleteCascade;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({RepositoryActivitySyncService.class, RepositorySyncStatusService.class, ActivityBucketService.class, UserService.class,
+        SoftDeleteCascade.class, KeyLockConfig.class, CommitFileStatsStore.class, RepositoryActivitySyncServiceTest.MockConfig.class})
+class RepositoryActivitySyncServiceTest {
+
+    @Autowired
+    private RepositoryActivitySyncService repositoryActivitySyncService;
+
+    @Autowired
+    private GitHubRepositoryService gitHubRepositoryService;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private RepositoryRepository repositoryRepository;
+
+    @Autowired
+    private RepositorySyncStatusRepository repositorySyncStatusRepository;
+
+    @Autowired
+    private PullRequestRepository pullRequestRepository;
+
+    @Autowired
+    private GitCommitRepository gitCommitRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ActivityBucketRepository activityBucketRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private OrganizationSyncProperties organizationSyncProperties;
+
+    private Repository repository;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        Mockito.reset(gitHubRepositoryService);
+
+        Organization organization = organizationRepository.save(Organization.builder()
+                .githubId(10L)
+                .login("octo-org")
+                .build());
+        repository = repositoryRepository.save(Repository.builder()
+                .githubId(99L)
+                .organization(organization)
+                .name("repo")
+                .fullName("octo-org/repo")
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        organizationSyncProperties.setFetchCommitDetails(false);
+        jdbcTemplate.update("delete from commit_file_stats");
+        jdbcTemplate.update("delete from commit_file");
+        activityBucketRepository.deleteAllInBatch();
+        gitCommitRepository.deleteAllInBatch();
+        pullRequestRepository.deleteAllInBatch();
+        repositorySyncStatusRepository.deleteAllInBatch();
+        repositoryRepository.deleteAllInBatch();
+        organizationRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void synchronizeRepository_skipsRowsWhoseSourcePayloadIsUnchanged() {
+        OffsetDateTime createdAt = OffsetDateTime.parse("2025-01-01T00:00:00Z");
+        GitHubPullRequest pullRequest = new GitHubPullRequest(1_000L, 1, "Add dashboard", "body", "open", false,
+                "https://github.com/octo-org/repo/pull/1", null, null, 10, 2, 3, createdAt, createdAt, null, null);
+        GitHubCommit commit = new GitHubCommit("abc123", "feat: add dashboard", "https://github.com/octo-org/repo/commit/abc123",
+                "tester", "tester@example.com", createdAt, "tester", "tester@example.com", createdAt, null);
+        when(gitHubRepositoryService.listPullRequestSummaries(eq("token"), eq("octo-org"), eq("repo"), anyInt()))
+                .thenReturn(List.of(new GitHubPullRequestSummary(1_000L, 1, createdAt)));
+        when(gitHubRepositoryService.getPullRequest(eq("token"), eq("octo-org"), eq("repo"), eq(1)))
+                .thenReturn(Optional.of(pullRequest))
+                .thenReturn(Optional.of(pullRequest))
+                .thenReturn(Optional.of(new GitHubPullRequest(1_000L, 1, "Add dashboard v2", "body", "open", false,
+                        "https://github.com/octo-org/repo/pull/1", null, null, 10, 2, 3, createdAt, createdAt, null, null)));
+        when(gitHubRepositoryService.listCommits(eq("token"), eq("octo-org"), eq("repo"), anyInt(), any()))
+                .thenReturn(List.of(commit));
+        double pullRequestsWritten = rowsWritten("pull_request");
+        double commitsWritten = rowsWritten("git_commit");
+        long successfulSyncs = successfulSyncs();
+
+        repositoryActivitySyncService.synchronizeRepository(repository.getId(), "token");
+        // Marks the stored rows so that any rewrite from the next sync would be visible.
+        jdbcTemplate.update("update pull_request set title = 'untouched'");
+        jdbcTemplate.update("update git_commit set message = 'untouched'");
+
+        repositoryActivitySyncService.synchronizeRepository(repository.getId(), "token");
+
+        assertThat(jdbcTemplate.queryForObject("select title from pull_request", String.class)).isEqualTo("untouched");
+        assertThat(jdbcTemplate.queryForObject("select message from git_commit", String.class)).isEqualTo("untouched");
+
+        repositoryActivitySyncService.synchronizeRepository(repository.getId(), "token");
+
+        assertThat(jdbcTemplate.queryForObject("select title from pull_request", String.class)).isEqualTo("Add dashboard v2");
+        assertThat(jdbcTemplate.queryForObject("select message from git_commit", String.class)).isEqualTo("untouched");
+        assertThat(rowsWritten("pull_request") - pullRequestsWritten).isEqualTo(2);
+        assertThat(rowsWritten("git_commit") - commitsWritten).isEqualTo(1);
+        assertThat(successfulSyncs() - successfulSyncs).isEqualTo(3);
+    }
+
+    @Test
+    void synchronizeRepository_aggregatesActivityIntoHourlyAndDailyBuckets() {
+        GitHubSimpleUser author = new GitHubSimpleUser(500L, "tester", null, null);
+        OffsetDateTime mergedAt = OffsetDateTime.parse("2025-01-02T09:30:00Z");
+        GitHubPullRequest merged = new GitHubPullRequest(1_000L, 1, "Add dashboard", "body", "closed", true,
+                "https://github.com/octo-org/repo/pull/1", author, author, 10, 2, 3,
+                mergedAt.minusDays(1), mergedAt, mergedAt, mergedAt);
+        when(gitHubRepositoryService.listPullRequestSummaries(eq("token"), eq("octo-org"), eq("repo"), anyInt()))
+                .thenReturn(List.of(new GitHubPullRequestSummary(1_000L, 1, mergedAt)));
+        when(gitHubRepositoryService.getPullRequest(eq("token"), eq("octo-org"), eq("repo"), eq(1)))
+                .thenReturn(Optional.of(merged));
+        when(gitHubRepositoryService.listCommits(eq("token"), eq("octo-org"), eq("repo"), anyInt(), any()))
+                .thenReturn(List.of(
+                        commit("aaa111", OffsetDateTime.parse("2025-01-02T09:05:00Z"), author),
+                        commit("bbb222", OffsetDateTime.parse("2025-01-02T09:55:00Z"), author),
+                        commit("ccc333", OffsetDateTime.parse("2025-01-02T15:00:00Z"), null)));
+
+        repositoryActivitySyncService.synchronizeRepository(repository.getId(), "token");
+        // A second pass over the same payload must not double count.
+        repositoryActivitySyncService.synchronizeRepository(repository.getId(), "token");
+
+        Long authorId = userRepository.findByGithubId(500L).orElseThrow().getId();
+        assertThat(activityBucketRepository.findPoints(repository.getOrganization().getId(), ActivityBucketGranularity.HOUR,
+                        OffsetDateTime.parse("2025-01-01T00:00:00Z"), OffsetDateTime.parse("2025-01-03T00:00:00Z")))
+                .extracting("bucketStart.hour", "userId", "commitCount", "mergedPullRequests")
+                .containsExactlyInAnyOrder(tuple(9, authorId, 2, 1), tuple(15, null, 1, 0));
+        assertThat(activityBucketRepository.findAll())
+                .filteredOn(bucket -> bucket.getGranularity() == ActivityBucketGranularity.DAY)
+                .extracting(ActivityBucket::getCommitCount)
+                .containsExactlyInAnyOrder(2, 1);
+    }
+
+    @Test
+    void synchronizeRepository_bucketsRowsLeftBehindByAFailedSync() {
+        GitHubSimpleUser author = new GitHubSimpleUser(500L, "tester", null, null);
+        OffsetDateTime mergedAt = OffsetDateTime.parse("2025-01-02T09:30:00Z");
+        GitHubPullRequest merged = new GitHubPullRequest(1_000L, 1, "Add dashboard", "body", "closed", true,
+                "https://github.com/octo-org/repo/pull/1", author, author, 10, 2, 3,
+                mergedAt.minusDays(1), mergedAt, mergedAt, mergedAt);
+        when(gitHubRepositoryService.listPullRequestSummaries(eq("token"), eq("octo-org"), eq("repo"), anyInt()))
+                .thenReturn(List.of(new GitHubPullRequestSummary(1_000L, 1, mergedAt)));
+        when(gitHubRepositoryService.getPullRequest(eq("token"), eq("octo-org"), eq("repo"), eq(1)))
+                .thenReturn(Optional.of(merged));
+        when(gitHubRepositoryService.listCommits(eq("token"), eq("octo-org"), eq("repo"), anyInt(), any()))
+                .thenThrow(new GitHubApiException("rate limited"))
+                .thenReturn(List.of());
+
+        repositoryActivitySyncService.synchronizeRepository(repository.getId(), "token");
+        assertThat(activityBucketRepository.count()).isZero();
+
+        // The pull request is unchanged now and skipped, but the durable mark still gets it bucketed.
+        repositoryActivitySyncService.synchronizeRepository(repository.getId(), "token");
+
+        assertThat(activityBucketRepository.findAll())
+                .extracting(ActivityBucket::getGranularity, ActivityBucket::getMergedPullRequests)
+                .containsExactlyInAnyOrder(
+                        tuple(ActivityBucketGranularity.HOUR, 1),
+                        tuple(ActivityBucketGranularity.DAY, 1));
+        assertThat(jdbcTemplate.queryForObject("select count(*) from repository_sync_status where bucket_dirty_since is not null",
+                Integer.class)).isZero();
+    }
+
+    @Test
+    void synchronizeActivities_resumeProcessesPullRequestsUpdatedSinceTheCheckpoint() {
+        OffsetDateTime firstUpdatedAt = OffsetDateTime.parse("2025-01-01T00:00:00Z");
+        OffsetDateTime secondUpdatedAt = OffsetDateTime.parse("2025-01-02T00:00:00Z");
+        OffsetDateTime updatedAfterFailure = OffsetDateTime.now().plusMinutes(5);
+        when(gitHubRepositoryService.listPullRequestSummaries(eq("token"), eq("octo-org"), eq("repo"), anyInt()))
+                .thenReturn(List.of(
+                        new GitHubPullRequestSummary(2_000L, 2, secondUpdatedAt),
+                        new GitHubPullRequestSummary(1_000L, 1, firstUpdatedAt)))
+                .thenReturn(List.of(
+                        new GitHubPullRequestSummary(3_000L, 3, updatedAfterFailure),
+                        new GitHubPullRequestSummary(2_000L, 2, secondUpdatedAt),
+                        new GitHubPullRequestSummary(1_000L, 1, firstUpdatedAt)));
+        when(gitHubRepositoryService.getPullRequest(eq("token"), eq("octo-org"), eq("repo"), eq(2)))
+                .thenReturn(Optional.of(pullRequest(2, secondUpdatedAt)));
+        when(gitHubRepositoryService.getPullRequest(eq("token"), eq("octo-org"), eq("repo"), eq(1)))
+                .thenThrow(new GitHubApiException("rate limited"))
+                .thenReturn(Optional.of(pullRequest(1, firstUpdatedAt)));
+        when(gitHubRepositoryService.getPullRequest(eq("token"), eq("octo-org"), eq("repo"), eq(3)))
+                .thenReturn(Optional.of(pullRequest(3, updatedAfterFailure)));
+        when(gitHubRepositoryService.listCommits(eq("token"), eq("octo-org"), eq("repo"), anyInt(), any()))
+                .thenReturn(List.of());
+
+        repositoryActivitySyncService.synchronizeActivities(repository.getOrganization(), "token", "run-1", null);
+        repositoryActivitySyncService.synchronizeActivities(repository.getOrganization(), "token", "run-1", null);
+
+        // The checkpointed pull request is not fetched again, but the one updated after the failure is.
+        verify(gitHubRepositoryService, times(1)).getPullRequest(eq("token"), eq("octo-org"), eq("repo"), eq(2));
+        assertThat(jdbcTemplate.queryForList("select number from pull_request", Integer.class))
+                .containsExactlyInAnyOrder(1, 2, 3);
+    }
+
+    @Test
+    void synchronizeActivities_recordsAProfileItemPerRepository() {
+        OffsetDateTime updatedAt = OffsetDateTime.parse("2025-01-01T00:00:00Z");
+        when(gitHubRepositoryService.listPullRequestSummaries(eq("token"), eq("octo-org"), eq("repo"), anyInt()))
+                .thenReturn(List.of(new GitHubPullRequestSummary(1_000L, 1, updatedAt)));
+        when(gitHubRepositoryService.getPullRequest(eq("token"), eq("octo-org"), eq("repo"), eq(1)))
+                .thenReturn(Optional.of(pullRequest(1, updatedAt)));
+        when(gitHubRepositoryService.listCommits(eq("token"), eq("octo-org"), eq("repo"), anyInt(), any()))
+                .thenReturn(List.of(commit("abc123", updatedAt, null)));
+        JobProfile profile = new JobProfile();
+
+        repositoryActivitySyncService.synchronizeActivities(repository.getOrganization(), "token", null, null, profile);
+
+        assertThat(profile.snapshot().items())
+                .singleElement()
+                .satisfies(item -> {
+                    assertThat(item.key()).isEqualTo("octo-org/repo");
+                    assertThat(item.apiCalls())
+                            .isEqualTo(Mockito.mockingDetails(gitHubRepositoryService).getInvocations().size());
+                    assertThat(item.rowsWritten()).isEqualTo(2);
+                });
+    }
+
+    @Test
+    void synchronizeRepository_reusesStoredCommitFilesForForksAndAfterFilesWereCleared() {
+        organizationSyncProperties.setFetchCommitDetails(true);
+        Repository fork = repositoryRepository.save(Repository.builder()
+                .githubId(100L)
+                .organization(repository.getOrganization())
+                .name("repo")
+                .fullName("octo-fork/repo")
+                .build());
+        GitHubCommit commit = commit("abc123", OffsetDateTime.parse("2025-01-02T09:05:00Z"), null);
+        when(gitHubRepositoryService.listCommits(eq("token"), any(), eq("repo"), anyInt(), any()))
+                .thenReturn(List.of(commit));
+        when(gitHubRepositoryService.getCommit("token", "octo-org", "repo", "abc123"))
+                .thenReturn(Optional.of(new GitHubCommitDetail(commit, List.of(
+                        new GitHubCommitFile("src/App.java", "modified", 3, 1, 4, null),
+                        new GitHubCommitFile("README.md", "added", 10, 0, 10, null)))));
+
+        repositoryActivitySyncService.synchronizeRepository(repository.getId(), "token");
+        repositoryActivitySyncService.synchronizeRepository(fork.getId(), "token");
+
+        assertThat(liveFiles(repository)).isEqualTo(2);
+        assertThat(liveFiles(fork)).isEqualTo(2);
+
+        organizationSyncProperties.setFetchCommitDetails(false);
+        repositoryActivitySyncService.synchronizeRepository(repository.getId(), "token");
+        assertThat(liveFiles(repository)).isZero();
+
+        organizationSyncProperties.setFetchCommitDetails(true);
+        repositoryActivitySyncService.synchronizeRepository(repository.getId(), "token");
+
+        assertThat(jdbcTemplate.queryForList(
+                "select f.additions from commit_file f join git_commit c on c.id = f.commit_id"
+                        + " where c.repository_id = ? and f.deleted_at is null order by f.path",
+                Integer.class, repository.getId()))
+                .containsExactly(10, 3);
+        verify(gitHubRepositoryService, times(1)).getCommit(any(), any(), any(), any());
+        assertThat(meterRegistry.get("sync.commit.details").tag("source", "store").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void synchronizeRepository_skipsUnchangedCommitsWithoutFiles() {
+        organizationSyncProperties.setFetchCommitDetails(true);
+        GitHubCommit merge = commit("merge1", OffsetDateTime.parse("2025-01-02T09:05:00Z"), null);
+        when(gitHubRepositoryService.listCommits(eq("token"), eq("octo-org"), eq("repo"), anyInt(), any()))
+                .thenReturn(List.of(merge));
+        when(gitHubRepositoryService.getCommit("token", "octo-org", "repo", "merge1"))
+                .thenReturn(Optional.of(new GitHubCommitDetail(merge, List.of())));
+
+        repositoryActivitySyncService.synchronizeRepository(repository.getId(), "token");
+        Long bucketId = jdbcTemplate.queryForObject("select max(id) from activity_bucket", Long.class);
+        double commitsWritten = rowsWritten("git_commit");
+        double filesWritten = rowsWritten("commit_file");
+        double storeLookups = storedCommitDetails();
+
+        repositoryActivitySyncService.synchronizeRepository(repository.getId(), "token");
+
+        assertThat(bucketId).isNotNull();
+        // Buckets are deleted and re-inserted on a rebuild, which would change the ids.
+        assertThat(jdbcTemplate.queryForObject("select max(id) from activity_bucket", Long.class)).isEqualTo(bucketId);
+        assertThat(rowsWritten("git_commit")).isEqualTo(commitsWritten);
+        assertThat(rowsWritten("commit_file")).isEqualTo(filesWritten);
+        verify(gitHubRepositoryService, times(1)).getCommit(any(), any(), any(), any());
+        assertThat(storedCommitDetails()).isEqualTo(storeLookups);
+    }
+
+    @Test
+    void synchronizeRepository_onlyMarksCommitsWhoseLookedUpFilesAreEmpty() {
+        GitHubCommit merge = commit("merge1", OffsetDateTime.parse("2025-01-02T09:05:00Z"), null);
+        when(gitHubRepositoryService.listCommits(eq("token"), eq("octo-org"), eq("repo"), anyInt(), any()))
+                .thenReturn(List.of(merge));
+        when(gitHubRepositoryService.getCommit("token", "octo-org", "repo", "merge1"))
+                .thenReturn(Optional.of(new GitHubCommitDetail(merge, List.of())));
+        repositoryActivitySyncService.synchronizeRepository(repository.getId(), "token");
+        Long bucketId = jdbcTemplate.queryForObject("select max(id) from activity_bucket", Long.class);
+
+        organizationSyncProperties.setFetchCommitDetails(true);
+        repositoryActivitySyncService.synchronizeRepository(repository.getId(), "token");
+
+        assertThat(bucketId).isNotNull();
+        assertThat(jdbcTemplate.queryForObject("select max(id) from activity_bucket", Long.class)).isEqualTo(bucketId);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from git_commit where files_synced_at is not null",
+                Integer.class)).isEqualTo(1);
+        assertThat(liveFiles(repository)).isZero();
+    }
+
+    private Integer liveFiles(Repository target) {
+        return jdbcTemplate.queryForObject("select count(*) from commit_file f join git_commit c on c.id = f.commit_id"
+                + " where c.repository_id = ? and f.deleted_at is null", Integer.class, target.getId());
+    }
+
+    private GitHubPullRequest pullRequest(int number, OffsetDateTime updatedAt) {
+        return new GitHubPullRequest(number * 1_000L, number, "PR " + number, "body", "open", false,
+                "https://github.com/octo-org/repo/pull/" + number, null, null, 1, 1, 1, updatedAt, updatedAt, null, null);
+    }
+
+    private GitHubCommit commit(String sha, OffsetDateTime committedAt, GitHubSimpleUser author) {
+        return new GitHubCommit(sha, "message " + sha, "https://github.com/octo-org/repo/commit/" + sha,
+                "tester", "tester@example.com", committedAt, "tester", "tester@example.com", committedAt, author);
+    }
+
+    private double rowsWritten(String table) {
+        Counter counter = meterRegistry.find("sync.rows.written").tag("table", table).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private double storedCommitDetails() {
+        Counter counter = meterRegistry.find("sync.commit.details").tag("source", "store").counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private long successfulSyncs() {
+        Timer timer = meterRegistry.find("sync.repository.duration").tag("outcome", "success").timer();
+        return timer != null ? timer.count() : 0;
+    }
+
+    @TestConfiguration
+    static class MockConfig {
+        @Bean
+        GitHubRepositoryService gitHubRepositoryService() {
+            return Mockito.mock(GitHubRepositoryService.class);
+        }
+
+        @Bean
+        OrganizationSyncProperties organizationSyncProperties() {
+            var properties = new OrganizationSyncProperties();
+            properties.setFetchCommitDetails(false);
+            properties.setFetchPullRequestDetails(false);
+            return properties;
+        }
+
+        @Bean
+        DatabaseConcurrencyLimiter databaseConcurrencyLimiter() {
+            return new DatabaseConcurrencyLimiter(4);
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -2,23 +2,33 @@ package io.github.aikobn26.teamprogressviz.service.user;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import io.github.aikobn26.teamprogressviz.feature.auth.model.AuthenticatedUser;
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.Organization;
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.UserOrganization;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.OrganizationRepository;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.UserOrganizationRepository;
 import io.github.aikobn26.teamprogressviz.feature.user.entity.User;
+import io.github.aikobn26.teamprogressviz.feature.user.model.GitHubUserProfile;
 import io.github.aikobn26.teamprogressviz.feature.user.repository.UserRepository;
+import io.github.aikobn26.teamprogressviz.feature.user.service.GitHubUserCache;
 import io.github.aikobn26.teamprogressviz.feature.user.service.UserService;
-import io.github.aikobn26.teamprogressviz.shared.concurrency.KeyLockManager;
+import io.github.aikobn26.teamprogressviz.shared.config.KeyLockConfig;
+import io.github.aikobn26.teamprogressviz.shared.persistence.SoftDeleteCascade;
 
 
 
 @DataJpaTest
-@Import({UserService.class, KeyLockManager.class})
+@Import({UserService.class, SoftDeleteCascade.class, KeyLockConfig.class})
 class UserServiceTest {
 
     @Autowired
@@ -27,6 +37,12 @@ class UserServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private UserOrganizationRepository userOrganizationRepository;
+
     @Test
     void ensureUserExists_createsNewUserWhenMissing() {
         var authUser = new AuthenticatedUser(100L, "octocat", "Octo Cat", "https://avatar");
@@ -87,4 +103,70 @@ class UserServiceTest {
         assertThat(captured.get()).isNotNull();
         assertThat(captured.get()).isEqualTo(user);
     }
+
+    @Test
+    void upsertGitHubUsers_insertsNewUsersAndUpdatesChangedOnesKeepingName() {
+        userRepository.save(User.builder()
+                .githubId(500L)
+                .login("old-login")
+                .name("Known Name")
+                .avatarUrl("https://old")
+                .build());
+
+        var users = userService.upsertGitHubUsers(List.of(
+                new GitHubUserProfile(500L, "new-login", "https://new"),
+                new GitHubUserProfile(501L, "fresh", "https://fresh"),
+                new GitHubUserProfile(502L, "another", null)));
+
+        assertThat(users).containsOnlyKeys(500L, 501L, 502L);
+        assertThat(users.get(500L).getLogin()).isEqualTo("new-login");
+        assertThat(users.get(500L).getName()).isEqualTo("Known Name");
+        assertThat(users.get(501L).getId()).isNotNull();
+        assertThat(userRepository.findByGithubId(502L)).get().extracting(User::getLogin).isEqualTo("another");
+    }
+
+    @Test
+    void deleteUser_softDeletesUserAndMemberships() {
+        User user = userRepository.save(User.builder()
+                .githubId(700L)
+                .login("leaving")
+                .build());
+        Organization organization = organizationRepository.save(Organization.builder()
+                .githubId(70L)
+                .login("octo-org")
+                .build());
+        userOrganizationRepository.save(UserOrganization.builder()
+                .user(user)
+                .organization(organization)
+                .role("member")
+                .build());
+
+        userService.deleteUser(user);
+
+        assertThat(userRepository.findById(user.getId())).get().extracting(User::getDeletedAt).isNotNull();
+        assertThat(userOrganizationRepository.findByUserIdAndDeletedAtIsNull(user.getId())).isEmpty();
+        assertThat(organizationRepository.findById(organization.getId())).get()
+                .extracting(Organization::getDeletedAt).isNull();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void resolveGitHubUsers_reusesCachedUsersUntilProfileChanges() {
+        var cache = new GitHubUserCache();
+        var profile = new GitHubUserProfile(600L, "cached", "https://avatar");
+
+        Long firstId = userService.resolveGitHubUsers(cache, List.of(profile)).get(600L).getId();
+        assertThat(cache.size()).isEqualTo(1);
+
+        userRepository.deleteAllInBatch();
+        // A cache hit resolves to the remembered id without looking the user up again.
+        assertThat(userService.resolveGitHubUsers(cache, List.of(profile)).get(600L).getId()).isEqualTo(firstId);
+
+        var renamed = new GitHubUserProfile(600L, "renamed", "https://avatar");
+        User recreated = userService.resolveGitHubUsers(cache, List.of(renamed)).get(600L);
+        assertThat(recreated.getLogin()).isEqualTo("renamed");
+        assertThat(recreated.getId()).isNotEqualTo(firstId);
+
+        userRepository.deleteAllInBatch();
+    }
 }
@@ -0,0 +1,116 @@
+package io.github.aikobn26.teamprogressviz.shared.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class AdvisoryKeyLockManagerTest {
+
+    private EmbeddedDatabase dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    void callWithLock_fallsBackToLocalLocksOnH2() {
+        var local = new StripedKeyLockManager(8, Duration.ofMillis(50), Duration.ofSeconds(1));
+        var manager = new AdvisoryKeyLockManager(dataSource, local, Duration.ofMillis(50), Duration.ofMillis(5));
+
+        String result = manager.callWithLock("organization:octo-org", () -> "done");
+
+        assertThat(manager.isAdvisorySupported()).isFalse();
+        assertThat(result).isEqualTo("done");
+        assertThat(local.snapshot().get(local.stripeIndex("organization:octo-org")).acquisitions()).isEqualTo(1);
+        // The periodic report reads the stripes behind the advisory locks.
+        assertThat(new KeyLockStatsReporter(manager).collect().acquisitions()).isEqualTo(1);
+    }
+
+    @Test
+    void callWithLock_takesTheAdvisoryLockOnTheTransactionConnectionOnPostgres() throws Exception {
+        DataSource postgres = mock(DataSource.class);
+        Connection connection = postgresConnection(postgres);
+        var manager = new AdvisoryKeyLockManager(postgres,
+                new StripedKeyLockManager(8, Duration.ofMillis(50), Duration.ofSeconds(1)), Duration.ofMillis(50), Duration.ofMillis(5));
+        var transactions = new TransactionTemplate(new DataSourceTransactionManager(postgres));
+
+        String result = transactions.execute(status -> manager.callWithLock("organization:octo-org", () -> "done"));
+
+        assertThat(manager.isAdvisorySupported()).isTrue();
+        assertThat(result).isEqualTo("done");
+        verify(connection).prepareStatement("select pg_try_advisory_xact_lock(?)");
+        // One connection for the product check and one for the transaction; the lock borrows none of its own.
+        verify(postgres, times(2)).getConnection();
+    }
+
+    @Test
+    void callWithLock_rejectsCallsOutsideATransactionOnPostgres() throws Exception {
+        DataSource postgres = mock(DataSource.class);
+        postgresConnection(postgres);
+        var manager = new AdvisoryKeyLockManager(postgres,
+                new StripedKeyLockManager(8, Duration.ofMillis(50), Duration.ofSeconds(1)), Duration.ofMillis(50), Duration.ofMillis(5));
+
+        assertThatThrownBy(() -> manager.callWithLock("organization:octo-org", () -> "done"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("requires an active transaction");
+        verify(postgres, times(1)).getConnection();
+    }
+
+    @Test
+    void lockId_isStableAndSeparatesKeys() {
+        assertThat(AdvisoryKeyLockManager.lockId("github-user:42")).isEqualTo(AdvisoryKeyLockManager.lockId("github-user:42"));
+        assertThat(AdvisoryKeyLockManager.lockId("github-user:42")).isNotEqualTo(AdvisoryKeyLockManager.lockId("github-user:43"));
+        assertThat(AdvisoryKeyLockManager.lockId("")).isEqualTo(0xcbf29ce484222325L);
+    }
+
+    private static Connection postgresConnection(DataSource dataSource) throws Exception {
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSet.getBoolean(1)).thenReturn(true);
+        return connection;
+    }
+}
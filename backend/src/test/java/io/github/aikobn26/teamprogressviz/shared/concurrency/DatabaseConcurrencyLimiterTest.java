@@ -0,0 +1,53 @@
+package io.github.aikobn26.teamprogressviz.shared.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class DatabaseConcurrencyLimiterTest {
+
+    @Test
+    void call_reusesPermitForNestedCallsOnSameThread() {
+        var limiter = new DatabaseConcurrencyLimiter(1);
+
+        String result = limiter.call(() -> limiter.call(() -> "nested"));
+
+        assertThat(result).isEqualTo("nested");
+        assertThat(limiter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void call_capsConcurrentHoldersAcrossVirtualThreads() throws Exception {
+        var limiter = new DatabaseConcurrencyLimiter(2);
+        var active = new AtomicInteger();
+        var maxActive = new AtomicInteger();
+        var done = new CountDownLatch(20);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 20; i++) {
+                executor.submit(() -> {
+                    limiter.run(() -> {
+                        maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                        try {
+                            Thread.sleep(5);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        active.decrementAndGet();
+                    });
+                    done.countDown();
+                });
+            }
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxActive.get()).isLessThanOrEqualTo(2);
+        assertThat(limiter.availablePermits()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.aikobn26.teamprogressviz.shared.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class KeyLockStatsReporterTest {
+
+    @Test
+    void collect_reportsOnlyWhatHappenedSinceThePreviousReport() throws Exception {
+        var manager = new StripedKeyLockManager(4, Duration.ofMillis(20), Duration.ofSeconds(1));
+        var reporter = new KeyLockStatsReporter(manager);
+        manager.runWithLock("repository:1", () -> { });
+        manager.runWithLock("repository:2", () -> { });
+
+        var held = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<?> holder = executor.submit(() -> manager.runWithLock("repository:1", () -> {
+                held.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertThat(held.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThatThrownBy(() -> manager.runWithLock("repository:1", () -> { }))
+                    .isInstanceOf(LockAcquisitionTimeoutException.class);
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+        }
+
+        var first = reporter.collect();
+        assertThat(first.acquisitions()).isEqualTo(4);
+        assertThat(first.contended()).isEqualTo(1);
+        assertThat(first.timeouts()).isEqualTo(1);
+        assertThat(first.hottestStripe()).isEqualTo(manager.stripeIndex("repository:1"));
+
+        manager.runWithLock("repository:3", () -> { });
+        var second = reporter.collect();
+        assertThat(second.acquisitions()).isEqualTo(1);
+        assertThat(second.contended()).isZero();
+        assertThat(second.hottestStripe()).isEqualTo(-1);
+    }
+
+    @Test
+    void bindTo_publishesCumulativeStripeCounters() {
+        var manager = new StripedKeyLockManager(4, Duration.ofMillis(20), Duration.ofSeconds(1));
+        var registry = new SimpleMeterRegistry();
+        new KeyLockStatsReporter(manager).bindTo(registry);
+
+        manager.runWithLock("repository:1", () -> { });
+        manager.runWithLock("repository:2", () -> { });
+
+        assertThat(registry.get("key_lock.acquisitions").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("key_lock.contended").functionCounter().count()).isZero();
+        assertThat(registry.get("key_lock.timeouts").functionCounter().count()).isZero();
+        assertThat(registry.get("key_lock.max_wait").gauge().value()).isGreaterThanOrEqualTo(0);
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.aikobn26.teamprogressviz.shared.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class StripedKeyLockManagerTest {
+
+    @Test
+    void constructor_roundsStripeCountUpToPowerOfTwo() {
+        assertThat(new StripedKeyLockManager(100, Duration.ofSeconds(1), Duration.ofSeconds(1)).stripeCount()).isEqualTo(128);
+        assertThat(new StripedKeyLockManager(1, Duration.ofSeconds(1), Duration.ofSeconds(1)).stripeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void callWithLock_isReentrantForKeysSharingAStripe() {
+        var manager = new StripedKeyLockManager(1, Duration.ofMillis(50), Duration.ofSeconds(1));
+
+        String result = manager.callWithLock("github-user:1", () -> manager.callWithLock("github-user:2", () -> "nested"));
+
+        assertThat(result).isEqualTo("nested");
+        assertThat(manager.snapshot().getFirst().locked()).isFalse();
+    }
+
+    @Test
+    void callWithLocks_acquiresStripesInAscendingOrder() {
+        var manager = new StripedKeyLockManager(16, Duration.ofMillis(50), Duration.ofSeconds(1));
+        List<String> keys = List.of("github-user:9", "github-user:1", "github-user:5", "github-user:1");
+
+        List<String> order = manager.lockOrder(keys);
+        String result = manager.callWithLocks(keys, () -> "locked");
+
+        assertThat(order).hasSize(3);
+        assertThat(order).extracting(manager::stripeIndex).isSorted();
+        assertThat(result).isEqualTo("locked");
+        assertThat(manager.snapshot()).noneMatch(StripedKeyLockManager.StripeStats::locked);
+    }
+
+    @Test
+    void callWithLock_timesOutAndRecordsContention() throws Exception {
+        var manager = new StripedKeyLockManager(4, Duration.ofMillis(50), Duration.ofSeconds(1));
+        var held = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<?> holder = executor.submit(() -> manager.runWithLock("organization:octo-org", () -> {
+                held.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertThat(held.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> manager.runWithLock("organization:octo-org", () -> { }))
+                    .isInstanceOf(LockAcquisitionTimeoutException.class)
+                    .hasMessageContaining("organization:octo-org")
+                    .hasMessageContaining("held by");
+
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+        }
+
+        var stats = manager.snapshot().get(manager.stripeIndex("organization:octo-org"));
+        assertThat(stats.acquisitions()).isEqualTo(2);
+        assertThat(stats.contended()).isEqualTo(1);
+        assertThat(stats.timeouts()).isEqualTo(1);
+        assertThat(stats.maxWait()).isGreaterThanOrEqualTo(Duration.ofMillis(40));
+        assertThat(stats.locked()).isFalse();
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.aikobn26.teamprogressviz.shared.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import io.github.aikobn26.teamprogressviz.feature.github.properties.GitHubHttpClientProperties;
+import io.github.aikobn26.teamprogressviz.github.simulator.GitHubApiSimulator;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.timeout.ReadTimeoutException;
+import reactor.netty.resources.ConnectionProvider;
+
+class WebClientConfigTest {
+
+    private final WebClientConfig config = new WebClientConfig();
+    private final GitHubHttpClientProperties properties = new GitHubHttpClientProperties();
+    private GitHubApiSimulator simulator;
+    private ConnectionProvider connectionProvider;
+
+    @AfterEach
+    void tearDown() {
+        if (connectionProvider != null) {
+            connectionProvider.dispose();
+        }
+        if (simulator != null) {
+            simulator.close();
+        }
+    }
+
+    @Test
+    void webClient_asksForGzipAndDecodesIt() {
+        simulator = GitHubApiSimulator.start(new GitHubApiSimulator.Settings());
+
+        String body = get(client(), "/orgs/octo-org");
+
+        assertThat(body).contains("\"login\":\"octo-org\"");
+        assertThat(simulator.stats().compressed()).isEqualTo(1);
+    }
+
+    @Test
+    void webClient_leavesCompressionOffWhenDisabled() {
+        properties.setCompress(false);
+        simulator = GitHubApiSimulator.start(new GitHubApiSimulator.Settings());
+
+        assertThat(get(client(), "/orgs/octo-org")).contains("\"login\":\"octo-org\"");
+        assertThat(simulator.stats().compressed()).isZero();
+    }
+
+    @Test
+    void webClient_givesUpOnResponsesSlowerThanTheResponseTimeout() {
+        properties.setResponseTimeout(Duration.ofMillis(200));
+        simulator = GitHubApiSimulator.start(new GitHubApiSimulator.Settings()
+                .latency(Duration.ofSeconds(3), Duration.ZERO));
+        WebClient client = client();
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> get(client, "/orgs/octo-org"))
+                .isInstanceOf(WebClientRequestException.class)
+                .hasCauseInstanceOf(ReadTimeoutException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void connectionProvider_publishesPoolMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        try {
+            simulator = GitHubApiSimulator.start(new GitHubApiSimulator.Settings());
+            get(client(), "/orgs/octo-org");
+
+            assertThat(registry.find("reactor.netty.connection.provider.total.connections")
+                    .tag("name", "github")
+                    .gauge())
+                    .isNotNull();
+            assertThat(registry.find("reactor.netty.connection.provider.max.connections")
+                    .tag("name", "github")
+                    .gauge().value())
+                    .isEqualTo(properties.getMaxConnections());
+        } finally {
+            Metrics.removeRegistry(registry);
+        }
+    }
+
+    private WebClient client() {
+        connectionProvider = config.gitHubConnectionProvider(properties);
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(WebClientConfig.httpClient(connectionProvider, properties)))
+                .build();
+    }
+
+    private String get(WebClient client, String path) {
+        return client.get()
+                .uri(simulator.baseUrl() + path)
+                .header("Authorization", "Bearer token")
+                .retrieve()
+                .bodyToMono(String.class)
+                .block();
+    }
+}
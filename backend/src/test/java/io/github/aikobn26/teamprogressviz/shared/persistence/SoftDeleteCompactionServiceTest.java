@@ -0,0 +1,129 @@
+package io.github.aikobn26.teamprogressviz.shared.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import io.github.aikobn26.teamprogressviz.feature.organization.entity.Organization;
+import io.github.aikobn26.teamprogressviz.feature.organization.repository.OrganizationRepository;
+import io.github.aikobn26.teamprogressviz.feature.repository.entity.CommitFile;
+import io.github.aikobn26.teamprogressviz.feature.repository.entity.GitCommit;
+import io.github.aikobn26.teamprogressviz.feature.repository.entity.Repository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.CommitFileRepository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.GitCommitRepository;
+import io.github.aikobn26.teamprogressviz.feature.repository.repository.RepositoryRepository;
+import io.github.aikobn26.teamprogressviz.shared.properties.CompactionProperties;
+
+@DataJpaTest(properties = "persistence.compaction.enabled=true")
+@Import({SoftDeleteCompactionService.class, SoftDeleteCompactionServiceTest.MockConfig.class})
+class SoftDeleteCompactionServiceTest {
+
+    @Autowired
+    private SoftDeleteCompactionService compactionService;
+
+    @Autowired
+    private CompactionProperties properties;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private RepositoryRepository repositoryRepository;
+
+    @Autowired
+    private GitCommitRepository gitCommitRepository;
+
+    @Autowired
+    private CommitFileRepository commitFileRepository;
+
+    private Repository repository;
+
+    @BeforeEach
+    void setUp() {
+        properties.setBatchSize(1);
+        properties.setMaxBatchesPerRun(100);
+
+        Organization organization = organizationRepository.save(Organization.builder()
+                .githubId(10L)
+                .login("octo-org")
+                .build());
+        repository = repositoryRepository.save(Repository.builder()
+                .githubId(99L)
+                .organization(organization)
+                .name("repo")
+                .build());
+    }
+
+    @Test
+    void compact_removesExpiredRowsOnceNothingReferencesThem() {
+        OffsetDateTime now = OffsetDateTime.now();
+        GitCommit expired = saveCommit("expired", now.minusDays(40));
+        saveFile(expired, now.minusDays(40));
+        saveFile(expired, now.minusDays(40));
+        GitCommit referenced = saveCommit("referenced", now.minusDays(40));
+        CommitFile live = saveFile(referenced, null);
+        GitCommit recent = saveCommit("recent", now.minusDays(1));
+
+        var removed = compactionService.compact(now.minusDays(30));
+
+        assertThat(removed).containsOnlyKeys("commit_file", "git_commit");
+        assertThat(removed.get("commit_file")).isEqualTo(2);
+        assertThat(gitCommitRepository.findAll())
+                .extracting(GitCommit::getId)
+                .containsExactlyInAnyOrder(referenced.getId(), recent.getId());
+        assertThat(commitFileRepository.findAll()).extracting(CommitFile::getId).containsExactly(live.getId());
+        assertThat(repositoryRepository.findById(repository.getId())).isPresent();
+    }
+
+    @Test
+    void compact_stopsAfterTheBatchBudgetIsSpent() {
+        OffsetDateTime now = OffsetDateTime.now();
+        GitCommit commit = saveCommit("busy", null);
+        for (int i = 0; i < 3; i++) {
+            saveFile(commit, now.minusDays(40));
+        }
+        properties.setMaxBatchesPerRun(2);
+
+        var removed = compactionService.compact(now.minusDays(30));
+
+        assertThat(removed).containsExactly(Map.entry("commit_file", 2));
+        assertThat(commitFileRepository.findAll()).hasSize(1);
+    }
+
+    private GitCommit saveCommit(String sha, OffsetDateTime deletedAt) {
+        return gitCommitRepository.save(GitCommit.builder()
+                .repository(repository)
+                .sha(sha)
+                .deletedAt(deletedAt)
+                .build());
+    }
+
+    private CommitFile saveFile(GitCommit commit, OffsetDateTime deletedAt) {
+        return commitFileRepository.save(CommitFile.builder()
+                .commit(commit)
+                .path("src/Main.java")
+                .deletedAt(deletedAt)
+                .build());
+    }
+
+    @TestConfiguration
+    static class MockConfig {
+        @Bean
+        CompactionProperties compactionProperties() {
+            var properties = new CompactionProperties();
+            properties.setEnabled(true);
+            properties.setPauseBetweenBatches(Duration.ZERO);
+            return properties;
+        }
+    }
+}
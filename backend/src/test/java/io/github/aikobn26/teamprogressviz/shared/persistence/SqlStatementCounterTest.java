@@ -0,0 +1,91 @@
+package io.github.aikobn26.teamprogressviz.shared.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+class SqlStatementCounterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        DataSource dataSource = ProxyDataSourceBuilder
+                .create(new DriverManagerDataSource("jdbc:h2:mem:sql-statements;DB_CLOSE_DELAY=-1"))
+                .listener(new SqlStatementListener(beanFactory.getBeanProvider(MeterRegistry.class)))
+                .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists item (id int)");
+        jdbcTemplate.execute("delete from item");
+    }
+
+    @Test
+    void count_includesOnlyStatementsInsideTheScope() {
+        jdbcTemplate.queryForObject("select count(*) from item", Long.class);
+
+        long statements = SqlStatementCounter.count(() -> {
+            jdbcTemplate.update("insert into item (id) values (1)");
+            jdbcTemplate.queryForObject("select count(*) from item", Long.class);
+        });
+
+        assertThat(statements).isEqualTo(2);
+        assertThat(SqlStatementCounter.current()).isNull();
+        assertThat(meterRegistry.get("db.statements").tag("type", "select").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("db.statements").tag("type", "insert").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void nestedScopes_countTowardsEveryEnclosingScope() {
+        try (SqlStatementCounter.Scope outer = SqlStatementCounter.open()) {
+            jdbcTemplate.queryForObject("select count(*) from item", Long.class);
+            try (SqlStatementCounter.Scope inner = SqlStatementCounter.open()) {
+                jdbcTemplate.queryForObject("select count(*) from item", Long.class);
+                assertThat(inner.count()).isEqualTo(1);
+            }
+            assertThat(SqlStatementCounter.current()).isSameAs(outer);
+            assertThat(outer.count()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void scopesOpenedOnAnotherThread_countTowardsTheirParent() {
+        try (SqlStatementCounter.Scope phase = SqlStatementCounter.open()) {
+            long onWorker = CompletableFuture.supplyAsync(() -> {
+                try (SqlStatementCounter.Scope item = SqlStatementCounter.open(phase)) {
+                    jdbcTemplate.queryForObject("select count(*) from item", Long.class);
+                    jdbcTemplate.queryForObject("select count(*) from item", Long.class);
+                    return item.count();
+                }
+            }).join();
+
+            assertThat(onWorker).isEqualTo(2);
+            assertThat(phase.count()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void batch_countsAsOneStatement() {
+        long statements = SqlStatementCounter.count(() ->
+                jdbcTemplate.batchUpdate("insert into item (id) values (?)",
+                        List.of(new Object[] {1}, new Object[] {2}, new Object[] {3})));
+
+        assertThat(statements).isEqualTo(1);
+    }
+}
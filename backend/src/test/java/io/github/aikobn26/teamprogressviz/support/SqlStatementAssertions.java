@@ -0,0 +1,22 @@
+package io.github.aikobn26.teamprogressviz.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core.api.AbstractLongAssert;
+
+import io.github.aikobn26.teamprogressviz.shared.persistence.SqlStatementCounter;
+
+/**
+ * Statement-count assertions for tests that import {@code SqlStatementConfig}, e.g.
+ * {@code assertStatements(() -> dashboardService.fetchDashboard(id, user)).isLessThanOrEqualTo(4)}. Flush and clear
+ * the persistence context first, or lazy associations loaded while seeding hide the queries production would run.
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    public static AbstractLongAssert<?> assertStatements(Runnable action) {
+        return assertThat(SqlStatementCounter.count(action)).as("SQL statements");
+    }
+}